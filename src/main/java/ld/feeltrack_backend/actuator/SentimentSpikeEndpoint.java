@@ -0,0 +1,28 @@
+package ld.feeltrack_backend.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import ld.feeltrack_backend.stats.NegativeSpikeDetector;
+import ld.feeltrack_backend.stats.NegativeSpikeDetector.SpikeState;
+
+/**
+ * Actuator endpoint {@code /actuator/sentiment}: alert state and z-score of the negative
+ * reviews spike detector.
+ */
+@Component
+@Endpoint(id = "sentiment")
+public class SentimentSpikeEndpoint {
+
+    private final NegativeSpikeDetector detector;
+
+    public SentimentSpikeEndpoint(NegativeSpikeDetector detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public SpikeState spikes() {
+        return detector.state();
+    }
+}
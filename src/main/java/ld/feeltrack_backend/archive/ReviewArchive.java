@@ -0,0 +1,76 @@
+package ld.feeltrack_backend.archive;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+
+/**
+ * Horizon of the {@code review_archive} table: the creation instant of its most recent review.
+ *
+ * Reviews are archived oldest first, so every archived review is older than every review
+ * of the {@code review} table. Reads compare their range to the horizon to skip the archive
+ * when it cannot hold a matching review, which is the case of most requests (recent pages).
+ */
+@Component
+public class ReviewArchive {
+
+    private final ReviewArchiveRepository archiveRepository;
+
+    // null : archive vide
+    private volatile LocalDateTime horizon;
+
+    public ReviewArchive(ReviewArchiveRepository archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Reads the horizon again from the archive, after an archival batch or a direct SQL change.
+     */
+    public void refresh() {
+        horizon = PrimaryPin.call(archiveRepository::findNewestCreatedAt).orElse(null);
+    }
+
+    /**
+     * Moves the horizon forward before reviews up to {@code instant} are archived, so that
+     * a concurrent read includes the archive as soon as the first batch commits.
+     * The next {@link #refresh()} brings it back to the newest review actually archived.
+     */
+    public void extendTo(LocalDateTime instant) {
+        LocalDateTime newest = horizon;
+        if (newest == null || newest.isBefore(instant)) {
+            horizon = instant;
+        }
+    }
+
+    public LocalDateTime horizon() {
+        return horizon;
+    }
+
+    /**
+     * @return {@code false} when no archived review can match the filter after the cursor
+     */
+    public boolean mayContain(ReviewFilterDTO filter, ReviewCursor after, Sort.Direction direction) {
+        LocalDateTime newest = horizon;
+        if (newest == null) {
+            return false;
+        }
+        if (filter.from() != null && filter.from().isAfter(newest.toLocalDate())) {
+            return false;
+        }
+        // Parcours chronologique déjà au-delà de l'archive
+        return direction != Sort.Direction.ASC || after == null || !after.createdAt().isAfter(newest);
+    }
+}
@@ -0,0 +1,131 @@
+package ld.feeltrack_backend.archive;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Moves the reviews older than {@code app.archive.review.age-days} days from the {@code review}
+ * table to {@code review_archive}, every night ({@code app.archive.review.cron}).
+ *
+ * Reviews are moved oldest first, {@code app.archive.review.batch-size} at a time: each batch
+ * copies then deletes its rows in one short transaction, and the job pauses
+ * {@code app.archive.review.batch-pause} between two batches so that the review writes and
+ * the replication keep up. The run itself goes to the ingestion executor, off the scheduler thread.
+ *
+ * Archival is not a deletion: no {@link ld.feeltrack_backend.event.ReviewDeletedEvent} is published,
+ * and the rollups, counters and in-memory indexes keep counting archived reviews.
+ */
+@Component
+public class ReviewArchiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewArchiver.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final ReviewArchive reviewArchive;
+    private final BoundedExecutor ingestionExecutor;
+    private final TransactionTemplate transaction;
+    private final int ageDays;
+    private final int batchSize;
+    private final Duration batchPause;
+    // Une seule exécution à la fois, même si une nuit déborde sur la suivante
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReviewArchiver(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                          ReviewArchive reviewArchive,
+                          @Qualifier("ingestionExecutor") BoundedExecutor ingestionExecutor,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.archive.review.age-days:0}") int ageDays,
+                          @Value("${app.archive.review.batch-size:1000}") int batchSize,
+                          @Value("${app.archive.review.batch-pause:PT0.5S}") Duration batchPause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Archive batch size must be at least 1.");
+        }
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.reviewArchive = reviewArchive;
+        this.ingestionExecutor = ingestionExecutor;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.ageDays = ageDays;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+    }
+
+    @Scheduled(cron = "${app.archive.review.cron:0 0 5 * * *}")
+    public void onSchedule() {
+        if (ageDays > 0) {
+            LocalDateTime cutoff = LocalDate.now().minusDays(ageDays).atStartOfDay();
+            ingestionExecutor.execute(() -> archiveCreatedBefore(cutoff));
+        }
+    }
+
+    /**
+     * Moves every review created before {@code cutoff} to the archive, batch after batch.
+     *
+     * @return the number of reviews archived, 0 when another run is in progress
+     */
+    public long archiveCreatedBefore(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.info("Review archival skipped : a run is already in progress");
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        long archived = 0;
+        try {
+            // Horizon avancé avant le premier déplacement : une lecture ne saute jamais un avis déjà archivé
+            reviewArchive.extendTo(cutoff);
+
+            int moved;
+            do {
+                moved = transaction.execute(status -> moveBatch(cutoff));
+                archived += moved;
+            } while (moved == batchSize && pause());
+        } finally {
+            reviewArchive.refresh();
+            running.set(false);
+        }
+
+        LOGGER.info("Review archival before {} : {} reviews in {} ms",
+            cutoff, archived, (System.nanoTime() - start) / 1_000_000);
+        return archived;
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Integer> ids = reviewRepository.findIdsCreatedBefore(cutoff, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.copyFromReviews(ids);
+        reviewRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    // false : interrompu, le reste sera archivé à la prochaine exécution
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package ld.feeltrack_backend.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.event.AggregatesRefreshedEvent;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+
+/**
+ * Local cache of aggregation results, keyed by method and parameters.
+ *
+ * Entries are tagged with a generation, incremented after every committed review write.
+ * An entry of an older generation is stale: it is still returned, while a single
+ * background refresh per key recomputes it on the ingestion executor (stale-while-revalidate),
+ * so a write never makes a reader wait for the database. Once the refresh is stored, an
+ * {@link AggregatesRefreshedEvent} is published so that the data version and the
+ * serialized responses follow.
+ *
+ * Entries older than {@code app.cache.aggregation.ttl} are reloaded by the reader, which
+ * bounds the drift on changes made outside of the application. At most
+ * {@code app.cache.aggregation.max-entries} entries are kept, the oldest loaded being
+ * evicted first. Hits, stale hits, misses and load times are published as
+ * {@code app.cache.aggregation.*} metrics.
+ *
+ * Loads read the primary ({@link PrimaryPin}): a replica lagging behind the last write would
+ * store an old result under the new generation, served as fresh until the next write.
+ */
+@Component
+public class AggregationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AggregationCache.class);
+
+    private final BoundedExecutor refreshExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer loadTimer;
+
+    public AggregationCache(@Qualifier("ingestionExecutor") BoundedExecutor refreshExecutor,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.cache.aggregation.enabled:true}") boolean enabled,
+                            @Value("${app.cache.aggregation.max-entries:1000}") int maxEntries,
+                            @Value("${app.cache.aggregation.ttl:PT10M}") Duration ttl) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Aggregation cache max entries must be at least 1.");
+        }
+        this.refreshExecutor = refreshExecutor;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+
+        FunctionCounter.builder("app.cache.aggregation.requests", hits, LongAdder::sum)
+            .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("app.cache.aggregation.requests", staleHits, LongAdder::sum)
+            .tag("result", "stale").register(meterRegistry);
+        FunctionCounter.builder("app.cache.aggregation.requests", misses, LongAdder::sum)
+            .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("app.cache.aggregation.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("app.cache.aggregation.hit.ratio", this, AggregationCache::getHitRatio).register(meterRegistry);
+        Gauge.builder("app.cache.aggregation.size", entries, Map::size).register(meterRegistry);
+        this.loadTimer = Timer.builder("app.cache.aggregation.load").register(meterRegistry);
+    }
+
+    // Méthode et paramètres de l'agrégation ; les paramètres doivent implémenter equals / hashCode
+    private record Key(String method, List<?> parameters) {
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long generation;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value, long generation, long loadedAt) {
+            this.value = value;
+            this.generation = generation;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Cached result of {@code method} for these parameters, computed by the loader when it is
+     * missing or expired. A stale result is returned as it is and refreshed in the background.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String method, List<?> parameters, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(method, parameters);
+        // Génération lue avant la requête en base : une écriture validée pendant le calcul rend l'entrée obsolète
+        long currentGeneration = generation.get();
+        long now = System.nanoTime();
+
+        Entry cached = entries.get(key);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            if (cached.generation == currentGeneration) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+                refreshInBackground(key, cached, loader);
+            }
+            return (T) cached.value;
+        }
+
+        misses.increment();
+        T value = loadTimer.record(() -> PrimaryPin.call(loader));
+        entries.put(key, new Entry(value, currentGeneration, System.nanoTime()));
+        evictIfFull();
+        return value;
+    }
+
+    // Nouvelle génération une fois les index en mémoire à jour : rien de plus ancien n'y est rangé
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Share of the requests answered without waiting for a load, stale hits included.
+     */
+    public double getHitRatio() {
+        long served = hits.sum() + staleHits.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void refreshInBackground(Key key, Entry stale, Supplier<?> loader) {
+        // Un seul rafraîchissement en cours par entrée
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                long refreshGeneration = generation.get();
+                Object value = loadTimer.record(() -> PrimaryPin.call(loader));
+                if (entries.replace(key, stale, new Entry(value, refreshGeneration, System.nanoTime()))) {
+                    eventPublisher.publishEvent(new AggregatesRefreshedEvent());
+                }
+            }).whenComplete((result, error) -> {
+                // Échec du calcul ou exécuteur saturé : l'entrée obsolète reste servie, un prochain lecteur relance
+                stale.refreshing.set(false);
+                if (error != null) {
+                    LOGGER.warn("Background refresh of {} failed, the stale result is kept", key, error);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+            LOGGER.warn("Background refresh of {} rejected, the stale result is kept", key, e);
+        }
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maxEntries) {
+            Map.Entry<Key, Entry> oldest = null;
+            for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                if (oldest == null || candidate.getValue().loadedAt < oldest.getValue().loadedAt) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest != null && entries.remove(oldest.getKey(), oldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+}
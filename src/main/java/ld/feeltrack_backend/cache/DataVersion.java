@@ -0,0 +1,72 @@
+package ld.feeltrack_backend.cache;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.event.DataChangeEvent;
+
+/**
+ * Global version of the review and customer data, bumped on every write.
+ *
+ * The version is only incremented once the write is committed: a reader that sees
+ * version N is then guaranteed to read data at least as recent as version N, so an
+ * unchanged version can safely be answered with {@code 304 Not Modified}.
+ *
+ * The counter lives in memory and restarts at 0 with the application: the ETag also
+ * contains the start instant of the process so that tags issued before a restart never
+ * match, and the current date, since the timeline window moves every day without any write.
+ */
+@Component
+public class DataVersion {
+
+    private final String bootId;
+    private final AtomicReference<Snapshot> current;
+
+    public DataVersion() {
+        Instant now = Instant.now();
+        this.bootId = Long.toString(now.toEpochMilli(), Character.MAX_RADIX);
+        this.current = new AtomicReference<>(new Snapshot(0, now.truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    /**
+     * Version and modification date of the data, read together.
+     *
+     * {@code lastModified} has the second precision of the HTTP header : the ETag remains
+     * the reference when several writes happen in the same second.
+     */
+    public record Snapshot(long version, Instant lastModified) {
+    }
+
+    // Après les listeners qui tiennent l'état en mémoire : la nouvelle version couvre leurs valeurs
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        bump();
+    }
+
+    public void bump() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        current.updateAndGet(snapshot -> new Snapshot(
+            snapshot.version() + 1,
+            now.isAfter(snapshot.lastModified()) ? now : snapshot.lastModified()
+        ));
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Strong ETag (quoted) for the given snapshot.
+     */
+    public String etag(Snapshot snapshot) {
+        return "\"" + bootId + "-" + snapshot.version() + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+}
@@ -0,0 +1,165 @@
+package ld.feeltrack_backend.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.event.AggregatesRefreshedEvent;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+
+/**
+ * Cache of response bodies for the hot read endpoints, kept already serialized.
+ *
+ * Each entry holds the JSON bytes of the response and their gzip form, computed once:
+ * a hit costs no query, no Jackson serialization and no compression, the bytes are
+ * written as they are.
+ *
+ * Entries are tagged with a generation, incremented after every committed review write or
+ * background refresh of the {@link AggregationCache}, and with the current day (the timeline window moves every day without any write).
+ * An entry computed while a write was committed keeps its old generation and is never served.
+ * The set of keys is fixed by the callers, which bounds the memory used.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, CachedBody> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SerializedResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * JSON body and its gzip form, as written to the response.
+     */
+    public record CachedBody(long generation, long epochDay, byte[] json, byte[] gzip) {
+
+        /**
+         * {@code 200 OK} response with the gzip body when the client accepts it, the plain JSON otherwise.
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            if (acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+            }
+            return response.body(json);
+        }
+    }
+
+    /**
+     * Cached body for the key, or the serialized result of the loader when the entry is missing or outdated.
+     */
+    public CachedBody get(String key, Supplier<?> loader) {
+        // Génération lue avant la requête en base : une écriture validée pendant le calcul rend l'entrée obsolète
+        long currentGeneration = generation.get();
+        long today = LocalDate.now().toEpochDay();
+
+        CachedBody cached = entries.get(key);
+        if (cached != null && cached.generation() == currentGeneration && cached.epochDay() == today) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        CachedBody computed = serialize(loader.get(), currentGeneration, today);
+        entries.put(key, computed);
+        return computed;
+    }
+
+    // Invalidation en dernier, une fois l'état en mémoire à jour (voir ReviewTypeCounters)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        invalidate();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onAggregatesRefreshed(AggregatesRefreshedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private CachedBody serialize(Object body, long generation, long epochDay) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new CachedBody(generation, epochDay, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize cached response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    // "gzip" présent dans Accept-Encoding, sauf s'il est explicitement refusé par "q=0"
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].strip())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
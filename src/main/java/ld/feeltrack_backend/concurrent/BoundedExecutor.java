@@ -0,0 +1,107 @@
+package ld.feeltrack_backend.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executor that caps the number of tasks running at the same time with a {@link Semaphore}.
+ *
+ * With virtual threads, the number of threads is no longer a natural limit: thousands of
+ * requests can block on the NLP API or on the database at once. The permits restore an
+ * explicit bound (for example below the size of the connection pool), while waiting for a
+ * permit stays cheap since a {@link Semaphore} parks the virtual thread without pinning
+ * its carrier.
+ *
+ * Tasks can either run on the calling thread ({@link #call(Supplier)}) or be handed to the
+ * backing executor ({@link #submit(Supplier)}); both share the same permits.
+ */
+public class BoundedExecutor implements AutoCloseable {
+
+    private final String name;
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    public BoundedExecutor(String name, ExecutorService delegate, int maxConcurrency, Duration acquireTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency of executor '" + name + "' must be at least 1.");
+        }
+        this.name = name;
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Runs the task on the current thread once a permit is available.
+     *
+     * @throws RejectedExecutionException if no permit could be obtained before the timeout
+     */
+    public <T> T call(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Runs the task on the backing executor, under the same concurrency limit as {@link #call(Supplier)}.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> call(task), delegate);
+    }
+
+    public CompletableFuture<Void> execute(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(10, TimeUnit.SECONDS)) {
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException(
+                    "Executor '" + name + "' is saturated : no permit available after " + acquireTimeout.toMillis() + " ms."
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a permit on executor '" + name + "'.");
+        }
+    }
+}
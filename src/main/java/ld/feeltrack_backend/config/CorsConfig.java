@@ -2,6 +2,7 @@ package ld.feeltrack_backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,6 +16,9 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 * - Authorised origins are configurable via the property 
 * {@code app.cors.allowed-origins} in application.properties.
 * - Authorised HTTP methods are limited to common REST methods.
+* - Credentials are allowed, so that a dashboard served from another origin sends the
+* read-your-writes cookie ({@code ft-primary-until}) back when its requests use
+* {@code credentials: 'include'}.
 *
 * Usage:
 * - Define the authorised domains in application.properties.
@@ -33,6 +37,10 @@ public class CorsConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOriginPatterns(allowedOrigins)
                 .allowedMethods("*")
-                .allowedHeaders("*");
+                .allowedHeaders("*")
+                // Cookie ft-primary-until renvoyé par le front (lecture de ses propres écritures)
+                .allowCredentials(true)
+                // Lecture des en-têtes de cache conditionnel par le front
+                .exposedHeaders(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package ld.feeltrack_backend.config;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+
+/**
+ * Executors used for blocking work outside of the request handling itself.
+ *
+ * The thread model follows {@code spring.threads.virtual.enabled}, the same switch that
+ * moves Tomcat request handling to virtual threads:
+ * - virtual threads: one virtual thread per task, concurrency bounded by a semaphore ;
+ * - platform threads: a fixed pool sized to the same bound.
+ *
+ * Bounds are configurable in application.properties:
+ * - {@code app.executor.nlp.max-concurrency}: in-flight calls to the NLP API ;
+ * - {@code app.executor.ingestion.max-concurrency}: background jobs reading the database,
+ *   to be kept below the size of the connection pool.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorConfig.class);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean(destroyMethod = "close")
+    public BoundedExecutor nlpExecutor(
+        @Value("${app.executor.nlp.max-concurrency:64}") int maxConcurrency,
+        @Value("${app.executor.nlp.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        return newBoundedExecutor("nlp", maxConcurrency, acquireTimeout);
+    }
+
+    @Bean(destroyMethod = "close")
+    public BoundedExecutor ingestionExecutor(
+        @Value("${app.executor.ingestion.max-concurrency:4}") int maxConcurrency,
+        @Value("${app.executor.ingestion.acquire-timeout:5m}") Duration acquireTimeout
+    ) {
+        return newBoundedExecutor("ingestion", maxConcurrency, acquireTimeout);
+    }
+
+    private BoundedExecutor newBoundedExecutor(String name, int maxConcurrency, Duration acquireTimeout) {
+        ExecutorService delegate = virtualThreadsEnabled
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory())
+            : Executors.newFixedThreadPool(maxConcurrency, Thread.ofPlatform().name(name + "-", 0).daemon(true).factory());
+
+        LOGGER.info("Executor '{}' : {} threads, max concurrency {}",
+            name, virtualThreadsEnabled ? "virtual" : "platform", maxConcurrency);
+
+        return new BoundedExecutor(name, delegate, maxConcurrency, acquireTimeout);
+    }
+}
@@ -0,0 +1,110 @@
+package ld.feeltrack_backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ld.feeltrack_backend.controller.interceptor.ReadYourWritesInterceptor;
+import ld.feeltrack_backend.datasource.ReadWriteRoutingDataSource;
+import ld.feeltrack_backend.datasource.ReplicaLagMonitor;
+
+/**
+ * Read/write splitting, enabled when {@code app.datasource.replica.url} is set.
+ *
+ * The application then uses two connection pools:
+ * - the primary, configured by {@code spring.datasource.*} as without replica ;
+ * - the replica, configured by {@code app.datasource.replica.*}, read-only.
+ *
+ * The {@link DataSource} used by JPA routes each transaction to one of them (see
+ * {@link ReadWriteRoutingDataSource}), and the {@link ReadYourWritesInterceptor} pins the
+ * requests of a client to the primary for a while after its own writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+        DataSourceProperties properties,
+        @Value("${app.datasource.replica.url}") String url,
+        @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${app.datasource.replica.lag-query:SHOW SLAVE STATUS}") String lagQuery,
+        @Value("${app.datasource.replica.max-lag:PT2S}") Duration maxLag,
+        MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor,
+        MeterRegistry meterRegistry
+    ) {
+        LOGGER.info("Read-only transactions routed to the replica");
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry)
+        );
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(
+        @Value("${app.datasource.replica.sticky-after-write:PT5S}") Duration stickiness,
+        @Value("${app.datasource.replica.max-lag:PT2S}") Duration maxLag
+    ) {
+        // Un client doit rester sur le primaire au moins le temps du retard toléré
+        if (stickiness.compareTo(maxLag) < 0) {
+            throw new IllegalArgumentException(
+                "Replica sticky-after-write (" + stickiness + ") cannot be shorter than max-lag (" + maxLag + ")."
+            );
+        }
+        return new ReadYourWritesInterceptor(stickiness);
+    }
+}
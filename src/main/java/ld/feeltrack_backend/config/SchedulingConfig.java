@@ -0,0 +1,13 @@
+package ld.feeltrack_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the periodic background tasks declared with {@code @Scheduled}
+ * (for example the reconciliation of the live review counters).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,37 @@
+package ld.feeltrack_backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import ld.feeltrack_backend.cache.DataVersion;
+import ld.feeltrack_backend.controller.interceptor.ConditionalGetInterceptor;
+import ld.feeltrack_backend.controller.interceptor.ReadYourWritesInterceptor;
+
+/**
+ * Spring MVC interceptors.
+ *
+ * The endpoints polled by the dashboard answer {@code 304 Not Modified} while the data
+ * has not changed (see {@link ConditionalGetInterceptor}). With a replica configured, every
+ * request goes through the {@link ReadYourWritesInterceptor} first.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DataVersion dataVersion;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
+    public WebMvcConfig(DataVersion dataVersion, ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor) {
+        this.dataVersion = dataVersion;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersion))
+                .addPathPatterns("/review", "/review/search", "/review/stats", "/review/stats/range", "/review/stats/reviewers",
+                                 "/review/stats/timeline", "/review/stats/top-terms");
+    }
+}
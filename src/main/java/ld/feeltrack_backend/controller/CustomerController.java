@@ -1,9 +1,9 @@
 package ld.feeltrack_backend.controller;
 
-import java.util.List;
-
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,11 +13,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import ld.feeltrack_backend.controller.fieldset.SparseFieldsets;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.service.CustomerService;
+import ld.feeltrack_backend.service.ReviewService;
 
 
 @RestController
@@ -25,9 +31,11 @@ import ld.feeltrack_backend.service.CustomerService;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final ReviewService reviewService;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, ReviewService reviewService) {
         this.customerService = customerService;
+        this.reviewService = reviewService;
     }
 
     @PostMapping(consumes = APPLICATION_JSON_VALUE)
@@ -43,13 +51,36 @@ public class CustomerController {
     }
 
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    public List<Customer> getAllCustomers() {
-        return this.customerService.getAllCustomers();
+    public MappingJacksonValue findCustomers(
+        @RequestParam(required = false) String email,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + CustomerService.DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        FieldSet customerFields = FieldSet.parse(fields, CustomerDTO.FIELDS);
+        return SparseFieldsets.customers(this.customerService.findCustomers(email, cursor, limit), customerFields);
     }
 
     @GetMapping(path = "{id}", produces = APPLICATION_JSON_VALUE)
-    public Customer getCustomerById(@PathVariable int id) {
-        return this.customerService.getCustomerById(id);
+    public MappingJacksonValue getCustomerById(
+        @PathVariable int id,
+        @RequestParam(required = false) String fields
+    ) {
+        FieldSet customerFields = FieldSet.parse(fields, CustomerDTO.FIELDS);
+        return SparseFieldsets.customers(this.customerService.getCustomerDTOById(id), customerFields);
+    }
+
+    @GetMapping(path = "{id}/reviews", produces = APPLICATION_JSON_VALUE)
+    public MappingJacksonValue findCustomerReviews(
+        @PathVariable int id,
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        FieldSet reviewFields = FieldSet.parse(fields, ReviewDTO.FIELDS);
+        return SparseFieldsets.reviews(
+            this.reviewService.findCustomerReviews(id, reviewFields, direction, cursor, limit), reviewFields);
     }
 
     @PutMapping(path = "{id}", consumes = APPLICATION_JSON_VALUE)
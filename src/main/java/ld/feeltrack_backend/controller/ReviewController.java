@@ -1,25 +1,40 @@
 package ld.feeltrack_backend.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import ld.feeltrack_backend.cache.SerializedResponseCache;
+import ld.feeltrack_backend.controller.fieldset.SparseFieldsets;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
 import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.dto.ReviewTimelineDTO;
+import ld.feeltrack_backend.dto.TermCountDTO;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
-import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.enums.TimelineGranularity;
 import ld.feeltrack_backend.service.ReviewService;
+import ld.feeltrack_backend.stats.ReviewStatsStream;
 
 
 
@@ -27,10 +42,17 @@ import ld.feeltrack_backend.service.ReviewService;
 @RequestMapping( path = "review")
 public class ReviewController {
 
+    public static final int DEFAULT_TIMELINE_DAYS = 30;
+
     private final ReviewService reviewService;
+    private final SerializedResponseCache responseCache;
+    private final ReviewStatsStream reviewStatsStream;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, SerializedResponseCache responseCache,
+                            ReviewStatsStream reviewStatsStream) {
         this.reviewService = reviewService;
+        this.responseCache = responseCache;
+        this.reviewStatsStream = reviewStatsStream;
     }
 
     @PostMapping(consumes = APPLICATION_JSON_VALUE)
@@ -40,29 +62,125 @@ public class ReviewController {
     }
     
     @GetMapping
-    public List<Review> findReviews(@RequestParam(required = false) ReviewType type) {
-        return this.reviewService.findReviews(type);
+    public MappingJacksonValue findReviews(
+        @RequestParam(required = false) ReviewType type,
+        @RequestParam(required = false) Integer customerId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        ReviewFilterDTO filter = new ReviewFilterDTO(type, customerId, from, to);
+        FieldSet reviewFields = FieldSet.parse(fields, ReviewDTO.FIELDS);
+        return SparseFieldsets.reviews(
+            this.reviewService.findReviews(filter, reviewFields, direction, cursor, limit), reviewFields);
     }
 
+    @GetMapping(path = "search")
+    public MappingJacksonValue searchReviews(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "" + ReviewService.DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        FieldSet reviewFields = FieldSet.parse(fields, ReviewDTO.FIELDS);
+        return SparseFieldsets.reviews(this.reviewService.searchReviews(q, limit), reviewFields);
+    }
+
+    @GetMapping(path = "{id}")
+    public MappingJacksonValue getReviewById(
+        @PathVariable int id,
+        @RequestParam(required = false) String fields
+    ) {
+        FieldSet reviewFields = FieldSet.parse(fields, ReviewDTO.FIELDS);
+        return SparseFieldsets.reviews(this.reviewService.getReviewById(id), reviewFields);
+    }
+
+    // Réponses servies depuis le cache d'octets déjà sérialisés (et compressés)
     @GetMapping(path = "stats")
-    public ResponseEntity<ReviewStatsDTO> getReviewStats() {
-        ReviewStatsDTO stats = reviewService.getReviewStats();
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<byte[]> getReviewStats(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return responseCache.get("stats", reviewService::getReviewStats).toResponse(acceptEncoding);
+    }
+
+    // Flux SSE des statistiques : état courant à l'abonnement, puis au plus un événement par intervalle après chaque écriture
+    @GetMapping(path = "stats/stream")
+    public SseEmitter streamStats() {
+        return reviewStatsStream.subscribe();
     }
 
+    // Totaux par type entre deux jours inclus, sans accès à la base une fois l'index en mémoire construit
+    @GetMapping(path = "stats/range")
+    public ReviewStatsDTO countReviewsBetween(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return reviewService.countReviewsBetween(from, to);
+    }
+
+    /**
+     * Dense timeline between {@code from} and {@code to} (included), by default the last
+     * {@code days} days up to today.
+     */
     @GetMapping(path = "stats/timeline")
-    public ResponseEntity<List<ReviewTimelineProjection>> getTimeLine(
-        @RequestParam(defaultValue = "30") int days
+    public ResponseEntity<?> getTimeLine(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "" + DEFAULT_TIMELINE_DAYS) int days,
+        @RequestParam(defaultValue = "DAY") TimelineGranularity granularity,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        List<ReviewTimelineProjection> timeline = reviewService.getTimeline(days);
-        return ResponseEntity.ok(timeline);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = windowStart(from, end, days);
+
+        // Seule la fenêtre par défaut, demandée par le tableau de bord, est mise en cache (une entrée par granularité)
+        if (from == null && to == null && days == DEFAULT_TIMELINE_DAYS) {
+            return responseCache.get("stats/timeline/" + granularity, () -> reviewService.getTimeline(start, end, granularity))
+                .toResponse(acceptEncoding);
+        }
+        return ResponseEntity.ok(reviewService.getTimeline(start, end, granularity));
     }
-    
+
+    // Nombre estimé de clients distincts ayant déposé un avis, par type et par période (mêmes paramètres que la timeline)
+    @GetMapping(path = "stats/reviewers")
+    public ReviewTimelineDTO getUniqueReviewers(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "" + DEFAULT_TIMELINE_DAYS) int days,
+        @RequestParam(defaultValue = "DAY") TimelineGranularity granularity
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return reviewService.getUniqueReviewers(windowStart(from, end, days), end, granularity);
+    }
+
+    // Termes les plus fréquents des avis récents d'un type (par défaut les avis négatifs des 7 derniers jours)
+    @GetMapping(path = "stats/top-terms")
+    public List<TermCountDTO> getTopTerms(
+        @RequestParam(defaultValue = "NEGATIVE") ReviewType type,
+        @RequestParam(defaultValue = "7") int days,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return reviewService.getTopTerms(type, days, limit);
+    }
+
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping(path = "{id}")
     public void deleteReview(@PathVariable int id) {
         this.reviewService.deleteReview(id);
     }
+
+    // Début de la fenêtre : from si présent, sinon les `days` derniers jours jusqu'à end
+    private static LocalDate windowStart(LocalDate from, LocalDate end, int days) {
+        if (from != null) {
+            return from;
+        }
+        if (days < 1) {
+            throw new IllegalArgumentException("Days must be at least 1.");
+        }
+        return end.minusDays(days - 1L);
+    }
     
 
 }
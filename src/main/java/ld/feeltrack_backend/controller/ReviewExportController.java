@@ -0,0 +1,101 @@
+package ld.feeltrack_backend.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.service.ReviewExportService;
+
+
+@RestController
+@RequestMapping(path = "review/export")
+public class ReviewExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_GZIP = new MediaType("application", "gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ReviewExportService reviewExportService;
+
+    public ReviewExportController(ReviewExportService reviewExportService) {
+        this.reviewExportService = reviewExportService;
+    }
+
+    // Le corps est écrit au fil de la lecture en base, sur un thread asynchrone
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportReviews() {
+        StreamingResponseBody body = reviewExportService::exportReviewsAsNdjson;
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.ndjson\"")
+            .body(body);
+    }
+
+    // Avis filtrés par jour de création et type, en CSV, éventuellement compressé en gzip
+    @GetMapping(path = "reviews.csv")
+    public ResponseEntity<StreamingResponseBody> exportReviewsAsCsv(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) ReviewType type,
+        @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        requireOrderedRange(from, to);
+        ReviewFilterDTO filter = new ReviewFilterDTO(type, null, from, to);
+
+        return csv("reviews.csv", gzip, outputStream -> reviewExportService.exportReviewsAsCsv(outputStream, filter));
+    }
+
+    // Nombre d'avis par jour et par type, en CSV ; par défaut du jour du premier avis à aujourd'hui
+    @GetMapping(path = "timeline.csv")
+    public ResponseEntity<StreamingResponseBody> exportTimelineAsCsv(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        requireOrderedRange(from, end);
+
+        return csv("timeline.csv", gzip, outputStream -> reviewExportService.exportTimelineAsCsv(outputStream, from, end));
+    }
+
+    // Vérifié avant le début de l'écriture : une erreur levée pendant le flux ne peut plus changer le statut
+    private static void requireOrderedRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date " + from + " is after end date " + to + ".");
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(String filename, boolean gzip, StreamingResponseBody csv) {
+        if (!gzip) {
+            return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(csv);
+        }
+
+        StreamingResponseBody compressed = outputStream -> {
+            // finish() et non close() : le flux de la réponse est fermé par le conteneur
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+            csv.writeTo(gzipStream);
+            gzipStream.finish();
+        };
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_GZIP)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".gz\"")
+            .body(compressed);
+    }
+}
@@ -10,12 +10,14 @@
 package ld.feeltrack_backend.controller.advice;
 
 import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import static org.springframework.http.HttpStatus.BAD_GATEWAY;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +28,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import jakarta.persistence.EntityNotFoundException;
 import ld.feeltrack_backend.exception.ErrorResponse;
 import ld.feeltrack_backend.exception.ExternalApiException;
+import ld.feeltrack_backend.exception.ServiceNotReadyException;
 
 
 @ControllerAdvice
@@ -91,4 +94,16 @@ public class ApplicationControllerAdvice {
             "Error during external API call : " + exception.getExternalErrorMessage()
         );
     }
+
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler({RejectedExecutionException.class})
+    public @ResponseBody ErrorResponse handleException(RejectedExecutionException exception) {
+        return new ErrorResponse("SERVICE_SATURATED", exception.getMessage());
+    }
+
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler({ServiceNotReadyException.class})
+    public @ResponseBody ErrorResponse handleException(ServiceNotReadyException exception) {
+        return new ErrorResponse("SERVICE_NOT_READY", exception.getMessage());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package ld.feeltrack_backend.controller.fieldset;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+
+/**
+ * Response bodies restricted to the fields requested with the {@code fields} query parameter.
+ *
+ * The JSON filters declared on {@link ReviewDTO} and {@link CustomerDTO} are resolved per
+ * response: only the requested properties of the top-level read model are written, a nested
+ * customer is written whole.
+ */
+public final class SparseFieldsets {
+
+    private SparseFieldsets() {
+    }
+
+    public static MappingJacksonValue reviews(Object body, FieldSet fields) {
+        return withFilters(body, filters(fields, CustomerDTO.ALL_FIELDS));
+    }
+
+    public static MappingJacksonValue customers(Object body, FieldSet fields) {
+        return withFilters(body, filters(ReviewDTO.ALL_FIELDS, fields));
+    }
+
+    private static FilterProvider filters(FieldSet reviewFields, FieldSet customerFields) {
+        return new SimpleFilterProvider()
+            .addFilter(ReviewDTO.JSON_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(reviewFields.names()))
+            .addFilter(CustomerDTO.JSON_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(customerFields.names()));
+    }
+
+    private static MappingJacksonValue withFilters(Object body, FilterProvider filters) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters);
+        return value;
+    }
+}
@@ -0,0 +1,64 @@
+package ld.feeltrack_backend.controller.interceptor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ld.feeltrack_backend.cache.DataVersion;
+import ld.feeltrack_backend.datasource.PrimaryPin;
+
+/**
+ * Conditional GET driven by the global {@link DataVersion}.
+ *
+ * Runs before the controller: when the {@code If-None-Match} (or {@code If-Modified-Since})
+ * header of the client matches the current version, the request ends with
+ * {@code 304 Not Modified} and no query reaches the database. Otherwise the
+ * {@code ETag} and {@code Last-Modified} headers are added and the controller runs normally.
+ *
+ * The version counts the writes committed on the primary: a response tagged with it must hold
+ * all of them, so the reads of the controller are pinned to the primary. Served from a lagging
+ * replica, a stale body would be cached by the client under the new tag and revalidated with
+ * {@code 304} until the next write.
+ */
+public class ConditionalGetInterceptor implements AsyncHandlerInterceptor {
+
+    private final DataVersion dataVersion;
+
+    public ConditionalGetInterceptor(DataVersion dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+
+        // Version lue avant la requête en base : les données renvoyées sont au moins aussi récentes
+        DataVersion.Snapshot snapshot = dataVersion.snapshot();
+
+        // Le navigateur revalide à chaque appel au lieu de réutiliser sa copie sans demander
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(dataVersion.etag(snapshot), snapshot.lastModified().toEpochMilli())) {
+            return false;
+        }
+        PrimaryPin.pin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PrimaryPin.unpin();
+    }
+
+    // Requête asynchrone : le thread du conteneur est libéré sans passer par afterCompletion
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PrimaryPin.unpin();
+    }
+}
@@ -0,0 +1,91 @@
+package ld.feeltrack_backend.controller.interceptor;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ld.feeltrack_backend.datasource.PrimaryPin;
+
+/**
+ * Read-your-writes consistency on top of the replica routing.
+ *
+ * Write requests (any method but GET, HEAD and OPTIONS) run pinned to the primary, and leave the
+ * client a cookie holding the end of the stickiness window ({@code app.datasource.replica.sticky-after-write}).
+ * Until then, the reads of this client are pinned to the primary as well, so that they see its
+ * own writes even if the replica has not applied them yet. Other clients keep reading the replica.
+ *
+ * The cookie is the only state: it works across application instances.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String COOKIE_NAME = "ft-primary-until";
+
+    private final Duration stickiness;
+
+    public ReadYourWritesInterceptor(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+
+        if (isSafe(request.getMethod())) {
+            // Fenêtre bornée : un cookie forgé ne peut pas épingler le client indéfiniment
+            long stickyUntil = stickyUntil(request);
+            if (stickyUntil > now && stickyUntil <= now + stickiness.toMillis()) {
+                PrimaryPin.pin();
+            }
+            return true;
+        }
+
+        PrimaryPin.pin();
+        // Posé avant l'écriture du corps de la réponse : un échec de l'écriture ne fait que prolonger l'épinglage
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + stickiness.toMillis()))
+            .path(request.getContextPath().isEmpty() ? "/" : request.getContextPath())
+            .maxAge(stickiness)
+            .httpOnly(true)
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PrimaryPin.unpin();
+    }
+
+    // Requête asynchrone : le thread du conteneur est libéré sans passer par afterCompletion
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PrimaryPin.unpin();
+    }
+
+    private static boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    // 0 : pas de cookie, ou cookie illisible
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
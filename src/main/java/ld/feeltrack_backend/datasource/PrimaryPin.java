@@ -0,0 +1,55 @@
+package ld.feeltrack_backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the database reads of the current thread to the primary, even inside a read-only transaction.
+ *
+ * Used where a read must see every write already committed, which a lagging replica may not have
+ * applied yet: the requests of a client that just wrote (read-your-writes), and the background
+ * jobs comparing the database with in-memory state updated on commit.
+ *
+ * Only the first connection of a transaction is routed: pinning inside a transaction that already
+ * read from the replica has no effect until the next transaction.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    /**
+     * Runs the task with the reads of the current thread pinned to the primary, then restores the previous state.
+     */
+    public static <T> T call(Supplier<T> task) {
+        if (isPinned()) {
+            return task.get();
+        }
+        pin();
+        try {
+            return task.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package ld.feeltrack_backend.datasource;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends the connections of read-only transactions to the replica, every other connection to the primary.
+ *
+ * A connection goes to the replica only when all of these hold:
+ * - the current transaction is read-only ({@code @Transactional(readOnly = true)}, or a
+ *   Spring Data query method called outside of a transaction) ;
+ * - the reads of the thread are not pinned to the primary ({@link PrimaryPin}) ;
+ * - the last lag measured by the {@link ReplicaLagMonitor} is within the tolerance.
+ *
+ * Must be wrapped in a {@link LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * a connection before the read-only flag of the transaction is published, the proxy only
+ * routes it on the first statement. Connections handed out per route are published as the
+ * {@code app.datasource.connections} metric.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        FunctionCounter.builder("app.datasource.connections", primaryConnections, LongAdder::sum)
+            .tag("route", "primary").register(meterRegistry);
+        FunctionCounter.builder("app.datasource.connections", replicaConnections, LongAdder::sum)
+            .tag("route", "replica").register(meterRegistry);
+    }
+
+    /**
+     * Route of a connection requested now by the current thread.
+     */
+    public Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !PrimaryPin.isPinned()
+            && lagMonitor.isReplicaUsable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = currentRoute();
+        (route == Route.REPLICA ? replicaConnections : primaryConnections).increment();
+        return route;
+    }
+}
@@ -0,0 +1,93 @@
+package ld.feeltrack_backend.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Measures the replication lag of the replica at a fixed interval
+ * ({@code app.datasource.replica.lag-check-interval}).
+ *
+ * The lag is the {@code Seconds_Behind_Master} column of the lag query, {@code SHOW SLAVE STATUS}
+ * by default on MariaDB. The replica is usable while the last measure is at most
+ * {@code app.datasource.replica.max-lag}; an empty result (replication not configured), a
+ * {@code NULL} lag (replication stopped) or a failed query make it unusable until the next
+ * successful measure, and every read goes to the primary meanwhile.
+ *
+ * The lag is published as the {@code app.datasource.replica.lag} metric, in seconds
+ * ({@code NaN} when unknown).
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    // null : retard inconnu, réplica inutilisable
+    private volatile Long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+
+        Gauge.builder("app.datasource.replica.lag", this, monitor -> {
+            Long lag = monitor.lagSeconds;
+            return lag == null ? Double.NaN : lag;
+        }).baseUnit("seconds").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        Long previous = lagSeconds;
+        Long measured;
+        try {
+            measured = replica.query(lagQuery, resultSet -> {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                Object lag = resultSet.getObject(LAG_COLUMN);
+                return lag == null ? null : ((Number) lag).longValue();
+            });
+        } catch (DataAccessException e) {
+            measured = null;
+            if (previous != null) {
+                LOGGER.warn("Replica lag check failed, reads go to the primary", e);
+            }
+        }
+        lagSeconds = measured;
+
+        boolean wasUsable = isUsable(previous);
+        if (wasUsable != isUsable(measured)) {
+            LOGGER.info("Replica {} : lag {} s (max {} s)", wasUsable ? "disabled" : "enabled", measured, maxLagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return isUsable(lagSeconds);
+    }
+
+    /**
+     * @return the last measured lag in seconds, {@code null} when unknown
+     */
+    public Long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private boolean isUsable(Long lag) {
+        return lag != null && lag <= maxLagSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package ld.feeltrack_backend.dto;
+
+import java.util.List;
+
+/**
+ * Page of results for keyset (cursor) pagination.
+ *
+ * {@code nextCursor} must be sent back as the {@code cursor} parameter to get the following
+ * page; it is {@code null} on the last page.
+ */
+public class CursorPageDTO<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
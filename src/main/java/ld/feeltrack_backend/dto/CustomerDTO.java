@@ -0,0 +1,80 @@
+package ld.feeltrack_backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import ld.feeltrack_backend.entity.Customer;
+
+/**
+ * Read model of a customer, detached from the JPA entity.
+ *
+ * Serialized through the {@value #JSON_FILTER} filter, which keeps only the fields of a sparse fieldset.
+ *
+ * The review counts and last review date are only read by the customer endpoints, from the
+ * {@code customer_review_stats} rollup; a customer nested in a review leaves them out.
+ */
+@JsonFilter(CustomerDTO.JSON_FILTER)
+public class CustomerDTO {
+
+    public static final String JSON_FILTER = "customerFields";
+    public static final List<String> FIELDS = List.of("id", "email", "phone", "reviewStats", "lastReviewAt");
+    public static final FieldSet ALL_FIELDS = FieldSet.all(FIELDS);
+
+    private final Integer id;
+    private final String email;
+    private final String phone;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final ReviewStatsDTO reviewStats;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final LocalDateTime lastReviewAt;
+
+    public CustomerDTO(Integer id, String email, String phone) {
+        this.id = id;
+        this.email = email;
+        this.phone = phone;
+        this.reviewStats = null;
+        this.lastReviewAt = null;
+    }
+
+    // Colonnes du rollup lues par jointure externe : nulles pour un client sans avis
+    public CustomerDTO(Integer id, String email, String phone,
+                       Long positiveCount, Long negativeCount, Long neutralCount, LocalDateTime lastReviewAt) {
+        this.id = id;
+        this.email = email;
+        this.phone = phone;
+        this.reviewStats = new ReviewStatsDTO(orZero(positiveCount), orZero(negativeCount), orZero(neutralCount));
+        this.lastReviewAt = lastReviewAt;
+    }
+
+    public static CustomerDTO of(Customer customer) {
+        return new CustomerDTO(customer.getId(), customer.getEmail(), customer.getPhone());
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public ReviewStatsDTO getReviewStats() {
+        return reviewStats;
+    }
+
+    public LocalDateTime getLastReviewAt() {
+        return lastReviewAt;
+    }
+
+    private static long orZero(Long count) {
+        return count == null ? 0 : count;
+    }
+
+}
@@ -0,0 +1,53 @@
+package ld.feeltrack_backend.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields of a read model requested by the client with the {@code fields} query parameter (sparse fieldset).
+ *
+ * The repositories only select the columns of the requested fields, and the JSON output
+ * only contains them (see {@link ld.feeltrack_backend.controller.fieldset.SparseFieldsets}).
+ */
+public record FieldSet(Set<String> names) {
+
+    public FieldSet {
+        names = Set.copyOf(names);
+    }
+
+    public static FieldSet all(List<String> available) {
+        return new FieldSet(Set.copyOf(available));
+    }
+
+    /**
+     * Parses a comma separated list of field names, such as {@code "id,type,createdAt"}.
+     *
+     * @param fields    the requested fields, {@code null} or blank for every available field
+     * @param available the fields of the read model
+     * @throws IllegalArgumentException if a field is not one of the available fields
+     */
+    public static FieldSet parse(String fields, List<String> available) {
+        if (fields == null || fields.isBlank()) {
+            return all(available);
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!available.contains(name)) {
+                throw new IllegalArgumentException(
+                    "Unknown field : " + name + ". Available fields : " + String.join(", ", available) + ".");
+            }
+            names.add(name);
+        }
+        return names.isEmpty() ? all(available) : new FieldSet(names);
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+}
@@ -0,0 +1,76 @@
+package ld.feeltrack_backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Read model of a review, built directly by the repository queries.
+ *
+ * The review and its customer are selected in a single statement (constructor expression
+ * over a join), so reading a page of reviews never loads {@code Customer} entities one by one.
+ * The JSON shape is the same as the {@code Review} entity.
+ *
+ * With a sparse fieldset, the fields that were not requested are left {@code null} and
+ * filtered out of the JSON by the {@value #JSON_FILTER} filter.
+ */
+@JsonFilter(ReviewDTO.JSON_FILTER)
+public class ReviewDTO {
+
+    public static final String JSON_FILTER = "reviewFields";
+    public static final List<String> FIELDS = List.of("id", "text", "type", "createdAt", "createdDate", "customer");
+    public static final FieldSet ALL_FIELDS = FieldSet.all(FIELDS);
+
+    private final Integer id;
+    private final String text;
+    private final ReviewType type;
+    private final LocalDateTime createdAt;
+    private final LocalDate createdDate;
+    private final CustomerDTO customer;
+
+    public ReviewDTO(Integer id, String text, ReviewType type, LocalDateTime createdAt, LocalDate createdDate,
+                     CustomerDTO customer) {
+        this.id = id;
+        this.text = text;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.createdDate = createdDate;
+        this.customer = customer;
+    }
+
+    // Constructor used by the JPQL "SELECT new" expressions : columns of the joined customer, null without customer
+    public ReviewDTO(Integer id, String text, ReviewType type, LocalDateTime createdAt, LocalDate createdDate,
+                     Integer customerId, String customerEmail, String customerPhone) {
+        this(id, text, type, createdAt, createdDate,
+            customerId == null ? null : new CustomerDTO(customerId, customerEmail, customerPhone));
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public ReviewType getType() {
+        return type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+
+}
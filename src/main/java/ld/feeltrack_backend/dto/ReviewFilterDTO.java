@@ -0,0 +1,23 @@
+package ld.feeltrack_backend.dto;
+
+import java.time.LocalDate;
+
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Optional criteria of the review list. A {@code null} criterion is not applied.
+ *
+ * {@code from} and {@code to} are days, both inclusive, compared to the creation date of the review.
+ */
+public record ReviewFilterDTO(ReviewType type, Integer customerId, LocalDate from, LocalDate to) {
+
+    public static final ReviewFilterDTO NONE = new ReviewFilterDTO(null, null, null, null);
+
+    public static ReviewFilterDTO ofType(ReviewType type) {
+        return new ReviewFilterDTO(type, null, null, null);
+    }
+
+    public static ReviewFilterDTO ofCustomer(int customerId) {
+        return new ReviewFilterDTO(null, customerId, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package ld.feeltrack_backend.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Live stats pushed to the dashboards: the number of reviews per type, and the timeline
+ * bucket of the current day.
+ */
+public class ReviewStatsUpdateDTO {
+
+    private final ReviewStatsDTO total;
+    private final LocalDate date;
+    private final ReviewStatsDTO today;
+
+    public ReviewStatsUpdateDTO(ReviewStatsDTO total, LocalDate date, ReviewStatsDTO today) {
+        this.total = total;
+        this.date = date;
+        this.today = today;
+    }
+
+    public ReviewStatsDTO getTotal() {
+        return total;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public ReviewStatsDTO getToday() {
+        return today;
+    }
+
+}
@@ -0,0 +1,64 @@
+package ld.feeltrack_backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import ld.feeltrack_backend.enums.TimelineGranularity;
+
+/**
+ * Dense review timeline in a columnar shape: one entry per bucket in {@code dates}, and at the
+ * same index in each count array the number of reviews of that type (or of distinct reviewers,
+ * for the unique reviewer statistics), 0 for an empty bucket.
+ *
+ * The first and last buckets only count the days between {@code from} and {@code to}.
+ */
+public class ReviewTimelineDTO {
+
+    private final TimelineGranularity granularity;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<LocalDate> dates;
+    private final long[] positive;
+    private final long[] negative;
+    private final long[] neutral;
+
+    public ReviewTimelineDTO(TimelineGranularity granularity, LocalDate from, LocalDate to,
+                             List<LocalDate> dates, long[] positive, long[] negative, long[] neutral) {
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.dates = dates;
+        this.positive = positive;
+        this.negative = negative;
+        this.neutral = neutral;
+    }
+
+    public TimelineGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public long[] getPositive() {
+        return positive;
+    }
+
+    public long[] getNegative() {
+        return negative;
+    }
+
+    public long[] getNeutral() {
+        return neutral;
+    }
+
+}
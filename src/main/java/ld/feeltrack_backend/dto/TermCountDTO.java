@@ -0,0 +1,31 @@
+package ld.feeltrack_backend.dto;
+
+/**
+ * A frequent term and the number of reviews mentioning it. The count is an estimate that
+ * can only be too high, by at most {@code error}: {@code count - error} is a lower bound.
+ */
+public class TermCountDTO {
+
+    private final String term;
+    private final long count;
+    private final long error;
+
+    public TermCountDTO(String term, long count, long error) {
+        this.term = term;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+}
@@ -0,0 +1,77 @@
+package ld.feeltrack_backend.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Review moved out of the {@code review} table once older than the archival age.
+ *
+ * Same columns and id as the original review, so that the read models built from
+ * {@link Review} are built the same way from the archive. Archived reviews are read-only:
+ * they are written once by {@link ld.feeltrack_backend.archive.ReviewArchiver}.
+ */
+@Entity
+@Table (name = "review_archive", indexes = {
+    @Index(name = "idx_review_archive_created_date_type", columnList = "created_date, type"),
+    // Mêmes parcours ordonnés que la table review, pour la liste et la pagination par curseur
+    @Index(name = "idx_review_archive_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_review_archive_customer_created_at_id", columnList = "customer_id, created_at, id")
+})
+public class ArchivedReview {
+
+    @Id
+    private Integer id;
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private ReviewType type;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDate createdDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
+
+    protected ArchivedReview() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public ReviewType getType() {
+        return type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+}
@@ -19,7 +19,8 @@ public class Customer {
 
     @NotBlank
     @Email
-    @Column(nullable = false)
+    // Index unique, utilisé aussi pour la pagination et la recherche par préfixe d'email
+    @Column(nullable = false, unique = true)
     private String email;
     private String phone;
 
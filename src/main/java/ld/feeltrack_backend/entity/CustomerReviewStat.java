@@ -0,0 +1,68 @@
+package ld.feeltrack_backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Number of reviews of one customer per type, and date of their last review.
+ *
+ * Rollup of the review table keyed by customer, written in the same transaction as each
+ * review creation and deletion: the customer list reads it through a join on the primary
+ * key instead of grouping the reviews of every customer of the page.
+ */
+@Entity
+@Table (name = "customer_review_stats")
+public class CustomerReviewStat {
+
+    @Id
+    @Column(name = "customer_id", nullable = false)
+    private Integer customerId;
+
+    @Column(name = "positive_count", nullable = false)
+    private long positiveCount;
+
+    @Column(name = "negative_count", nullable = false)
+    private long negativeCount;
+
+    @Column(name = "neutral_count", nullable = false)
+    private long neutralCount;
+
+    @Column(name = "last_review_at")
+    private LocalDateTime lastReviewAt;
+
+    protected CustomerReviewStat() {
+    }
+
+    public CustomerReviewStat(Integer customerId, long positiveCount, long negativeCount, long neutralCount,
+                              LocalDateTime lastReviewAt) {
+        this.customerId = customerId;
+        this.positiveCount = positiveCount;
+        this.negativeCount = negativeCount;
+        this.neutralCount = neutralCount;
+        this.lastReviewAt = lastReviewAt;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public long getPositiveCount() {
+        return positiveCount;
+    }
+
+    public long getNegativeCount() {
+        return negativeCount;
+    }
+
+    public long getNeutralCount() {
+        return neutralCount;
+    }
+
+    public LocalDateTime getLastReviewAt() {
+        return lastReviewAt;
+    }
+}
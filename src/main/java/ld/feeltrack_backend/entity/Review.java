@@ -10,9 +10,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -20,7 +22,15 @@ import jakarta.persistence.Table;
 import ld.feeltrack_backend.enums.ReviewType;
 
 @Entity
-@Table (name = "review")
+@Table (name = "review", indexes = {
+    @Index(name = "idx_review_created_date_type", columnList = "created_date, type"),
+    // Keyset pagination of the review list, with and without type filter
+    @Index(name = "idx_review_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_review_type_created_at_id", columnList = "type, created_at, id"),
+    // Review list filtered by customer, with or without type
+    @Index(name = "idx_review_customer_created_at_id", columnList = "customer_id, created_at, id"),
+    @Index(name = "idx_review_customer_type_created_at_id", columnList = "customer_id, type, created_at, id")
+})
 public class Review {
 
     @Id
@@ -42,7 +52,8 @@ public class Review {
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDate createdDate;
 
-    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    // Lazy : reads go through ReviewDTO, which takes the customer columns from a join
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "customer_id")
     private Customer customer;
 
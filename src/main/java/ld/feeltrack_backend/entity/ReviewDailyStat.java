@@ -0,0 +1,87 @@
+package ld.feeltrack_backend.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Number of reviews of one type created on one day.
+ *
+ * Rollup of the review table, written in the same transaction as each review creation
+ * and deletion: the timeline reads at most one row per day and type, whatever the
+ * number of reviews.
+ */
+@Entity
+@IdClass(ReviewDailyStat.Key.class)
+@Table (name = "review_daily_stats")
+public class ReviewDailyStat {
+
+    @Id
+    @Column(name = "created_date", nullable = false)
+    private LocalDate createdDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReviewType type;
+
+    @Column(name = "review_count", nullable = false)
+    private long count;
+
+    protected ReviewDailyStat() {
+    }
+
+    public ReviewDailyStat(LocalDate createdDate, ReviewType type, long count) {
+        this.createdDate = createdDate;
+        this.type = type;
+        this.count = count;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public ReviewType getType() {
+        return type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Primary key : (created_date, type).
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate createdDate;
+        private ReviewType type;
+
+        protected Key() {
+        }
+
+        public Key(LocalDate createdDate, ReviewType type) {
+            this.createdDate = createdDate;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && Objects.equals(createdDate, key.createdDate) && type == key.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(createdDate, type);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ld.feeltrack_backend.event;
+
+/**
+ * Cached aggregation results, served stale after a write, have been recomputed in the
+ * background: the data returned by the stats endpoints changed, without any new write.
+ */
+public record AggregatesRefreshedEvent() implements DataChangeEvent {
+}
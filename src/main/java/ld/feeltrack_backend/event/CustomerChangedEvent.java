@@ -0,0 +1,7 @@
+package ld.feeltrack_backend.event;
+
+/**
+ * A customer has been created, updated or deleted.
+ */
+public record CustomerChangedEvent(Integer customerId) implements DataChangeEvent {
+}
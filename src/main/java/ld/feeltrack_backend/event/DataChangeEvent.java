@@ -0,0 +1,10 @@
+package ld.feeltrack_backend.event;
+
+/**
+ * Event published by the services after a write on reviews or customers.
+ *
+ * Listeners that maintain derived data (data version, caches, counters...) subscribe to
+ * this type or to one of its implementations.
+ */
+public interface DataChangeEvent {
+}
@@ -0,0 +1,18 @@
+package ld.feeltrack_backend.event;
+
+import java.time.Instant;
+
+/**
+ * The negative spike detector entered ({@code alerting}) or left the alert state.
+ *
+ * Published once per transition, this is the hook for notifications (mail, chat, pager...):
+ * any {@code @EventListener} on this type is called, on the thread that recorded the review
+ * or advanced the clock.
+ *
+ * @param minute   start of the minute whose count triggered the transition
+ * @param count    number of negative reviews in that minute
+ * @param baseline smoothed number of negative reviews per minute
+ * @param zScore   deviation of {@code count} from the baseline, in standard deviations
+ */
+public record NegativeSpikeEvent(Instant minute, long count, double baseline, double zScore, boolean alerting) {
+}
@@ -0,0 +1,9 @@
+package ld.feeltrack_backend.event;
+
+import ld.feeltrack_backend.entity.Review;
+
+/**
+ * A review has been saved, with its type and creation dates set.
+ */
+public record ReviewCreatedEvent(Review review) implements DataChangeEvent {
+}
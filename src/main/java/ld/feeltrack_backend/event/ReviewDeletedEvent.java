@@ -0,0 +1,9 @@
+package ld.feeltrack_backend.event;
+
+import ld.feeltrack_backend.entity.Review;
+
+/**
+ * A review has been deleted. Carries the state of the review before deletion.
+ */
+public record ReviewDeletedEvent(Review review) implements DataChangeEvent {
+}
@@ -0,0 +1,11 @@
+package ld.feeltrack_backend.exception;
+
+/**
+ * Thrown when a request relies on an in-memory structure that is still being built.
+ */
+public class ServiceNotReadyException extends RuntimeException {
+
+    public ServiceNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -8,6 +8,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -38,6 +39,14 @@ public class FeelingAnalyser {
 
     private static final String MODEL_URL = "https://router.huggingface.co/hf-inference/models/nlptown/bert-base-multilingual-uncased-sentiment";
 
+    // Client partagé : un HttpClient par appel recrée à chaque fois son pool de connexions et son thread de sélection.
+    // send() bloquant ne bloque que le thread appelant, ce qui reste peu coûteux sur un thread virtuel.
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
 
     /**
      * Analyse le sentiment d'un texte et renvoie le {@link ReviewType} correspondant.
@@ -53,33 +62,31 @@ public class FeelingAnalyser {
             return analyseTextFeelingTypeBasicly(textToAnalyse);
         }
 
-        HttpClient client = HttpClient.newHttpClient();
         String jsonBody = "{\"inputs\": \"" + textToAnalyse.replace("\"", "\\\"") + "\"}";
 
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(MODEL_URL))
                 .header("Authorization", "Bearer " + token)
                 .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
                 .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
                 .build();
 
         try {
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() != 200) {
                 System.err.println("Erreur HTTP : " + response.statusCode());
                 throw new ExternalApiException(response.statusCode(), response.body());
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-
             // Le modèle renvoie un tableau de tableaux, on doit donc d'abord parser le tableau extérieur
-            JsonNode rootNode = mapper.readTree(response.body());
+            JsonNode rootNode = MAPPER.readTree(response.body());
             if (!rootNode.isArray() || rootNode.size() == 0) {
                 throw new ExternalApiException(502, "Empty or malformed response of NLP model API");
             }
             JsonNode innerArray = rootNode.get(0); // tableau intérieur
 
-            List<Rating> ratingList = Arrays.asList(mapper.treeToValue(innerArray, Rating[].class));
+            List<Rating> ratingList = Arrays.asList(MAPPER.treeToValue(innerArray, Rating[].class));
             // Convertir la liste de ratings en ReviewType
             return convertRatingListToReviewType(ratingList);
 
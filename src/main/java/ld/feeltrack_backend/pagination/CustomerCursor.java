@@ -0,0 +1,37 @@
+package ld.feeltrack_backend.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import ld.feeltrack_backend.dto.CustomerDTO;
+
+/**
+ * Position of the last customer of a page, used for keyset pagination on the unique {@code email} index.
+ *
+ * Exposed to clients as an opaque URL-safe token, like {@link ReviewCursor}.
+ */
+public record CustomerCursor(String email) {
+
+    public static CustomerCursor of(CustomerDTO customer) {
+        return new CustomerCursor(customer.getEmail());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(email.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static CustomerCursor decode(String token) {
+        try {
+            String email = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (email.isEmpty()) {
+                throw new IllegalArgumentException("Empty cursor");
+            }
+            return new CustomerCursor(email);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor : " + token);
+        }
+    }
+}
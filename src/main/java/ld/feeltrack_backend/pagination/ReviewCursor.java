@@ -0,0 +1,44 @@
+package ld.feeltrack_backend.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import ld.feeltrack_backend.dto.ReviewDTO;
+
+/**
+ * Position of the last review of a page, used for keyset pagination on {@code (created_at, id)}.
+ *
+ * The cursor is exposed to clients as an opaque URL-safe token: they only send back the
+ * {@code nextCursor} value of the previous page and never build it themselves.
+ */
+public record ReviewCursor(LocalDateTime createdAt, int id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ReviewCursor of(ReviewDTO review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new ReviewCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                Integer.parseInt(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor : " + token);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package ld.feeltrack_backend.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the monthly RANGE partitions of the {@code review} table (see {@code sa.sql}) ahead of time.
+ *
+ * The table is split into one partition per month of {@code created_at}, named {@code pYYYYMM},
+ * followed by a catch-all {@code pmax} partition. At startup and every night:
+ * - the partitions of the next {@code app.partitioning.review.months-ahead} months are carved
+ *   out of {@code pmax} ({@code REORGANIZE PARTITION}), a metadata change while it is empty ;
+ * - when {@code app.partitioning.review.retention-months} is set, the partitions older than the
+ *   retention are detached in O(1): exchanged with an empty table {@code review_archive_pYYYYMM}
+ *   kept as an archive ({@code archive-expired=true}), or dropped.
+ *
+ * Each DDL statement commits on its own: a run interrupted between two of them is resumed by the
+ * next one from the state of the archive table ({@link ArchiveTable}), created if missing, exchanged
+ * unless it already holds the rows of the partition, so that retention never stops on a leftover.
+ *
+ * Retention purges whole months outside of the application: the rollups, counters and in-memory
+ * indexes still count them until their next rebuild, and the exchanged tables are not read by the
+ * API. It is meant for deployments that do not archive reviews; with {@code app.archive.review.age-days}
+ * set, {@link ld.feeltrack_backend.archive.ReviewArchiver} owns old reviews and a retention is refused
+ * at startup, so that no month leaves the table behind the archive's back.
+ *
+ * Partitioning is a MariaDB feature: the task is disabled with {@code app.partitioning.review.enabled}
+ * (H2 tests), and does nothing on a table created without partitions.
+ */
+@Component
+public class ReviewPartitionMaintenance {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewPartitionMaintenance.class);
+
+    private static final String CATCH_ALL_PARTITION = "pmax";
+    private static final String ARCHIVE_PREFIX = "review_archive_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archiveExpired;
+
+    public ReviewPartitionMaintenance(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.partitioning.review.enabled:false}") boolean enabled,
+        @Value("${app.partitioning.review.months-ahead:3}") int monthsAhead,
+        @Value("${app.partitioning.review.retention-months:0}") int retentionMonths,
+        @Value("${app.partitioning.review.archive-expired:true}") boolean archiveExpired,
+        @Value("${app.archive.review.age-days:0}") int archiveAgeDays
+    ) {
+        if (enabled && retentionMonths > 0 && archiveAgeDays > 0) {
+            throw new IllegalArgumentException("Partition retention (app.partitioning.review.retention-months) "
+                + "cannot be used while reviews are archived (app.archive.review.age-days) : disable one of them.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveExpired = archiveExpired;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitioning.review.maintenance-cron:0 0 4 * * *}")
+    public void onSchedule() {
+        maintain();
+    }
+
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        List<ReviewPartition> partitions = readPartitions();
+        if (partitions.isEmpty()) {
+            LOGGER.warn("Table review is not partitioned : partition maintenance skipped (see sa.sql)");
+            return;
+        }
+        for (String statement : plan(partitions, readArchiveTables(), LocalDate.now())) {
+            LOGGER.info("Review partition maintenance : {}", statement);
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    /**
+     * Statements bringing the partitions in line with the configuration on {@code today}:
+     * creation of the missing months first, then removal of the expired ones.
+     *
+     * @param partitions current partitions, in ascending order of their upper bound
+     * @param archiveTables existing {@code review_archive_pYYYYMM} tables, left by previous runs
+     */
+    public List<String> plan(List<ReviewPartition> partitions, List<ArchiveTable> archiveTables, LocalDate today) {
+        Map<String, ArchiveTable> archives = new HashMap<>();
+        for (ArchiveTable table : archiveTables) {
+            archives.put(table.name(), table);
+        }
+        List<String> statements = new ArrayList<>();
+        YearMonth current = YearMonth.from(today);
+
+        if (partitions.stream().anyMatch(partition -> CATCH_ALL_PARTITION.equals(partition.name()))) {
+            LocalDate highestBound = partitions.stream()
+                .map(ReviewPartition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(current.atDay(1));
+
+            List<String> created = new ArrayList<>();
+            for (YearMonth month = YearMonth.from(highestBound); !month.isAfter(current.plusMonths(monthsAhead));
+                 month = month.plusMonths(1)) {
+                created.add("PARTITION " + partitionName(month)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+            if (!created.isEmpty()) {
+                created.add("PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+                statements.add("ALTER TABLE review REORGANIZE PARTITION " + CATCH_ALL_PARTITION
+                    + " INTO (" + String.join(", ", created) + ")");
+            }
+        }
+
+        if (retentionMonths > 0) {
+            // Partition expirée : toutes ses lignes sont antérieures au premier jour conservé
+            LocalDate firstRetainedDay = current.minusMonths(retentionMonths - 1L).atDay(1);
+            for (ReviewPartition partition : partitions) {
+                if (partition.upperBound() == null || partition.upperBound().isAfter(firstRetainedDay)) {
+                    continue;
+                }
+                if (archiveExpired) {
+                    String archive = ARCHIVE_PREFIX + partition.name();
+                    ArchiveTable existing = archives.get(archive);
+                    // Table déjà remplie par l'échange d'un passage interrompu : il ne reste que la suppression
+                    if (existing == null || existing.empty()) {
+                        if (existing == null) {
+                            statements.add("CREATE TABLE IF NOT EXISTS " + archive + " LIKE review");
+                        }
+                        if (existing == null || existing.partitioned()) {
+                            statements.add("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+                        }
+                        statements.add("ALTER TABLE review EXCHANGE PARTITION " + partition.name() + " WITH TABLE " + archive);
+                    }
+                }
+                statements.add("ALTER TABLE review DROP PARTITION " + partition.name());
+            }
+        }
+        return statements;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private List<ArchiveTable> readArchiveTables() {
+        return jdbcTemplate.query("""
+            SELECT TABLE_NAME, CREATE_OPTIONS
+            FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 'review!_archive!_p%' ESCAPE '!'
+            """, (row, index) -> {
+                String name = row.getString("TABLE_NAME");
+                String options = row.getString("CREATE_OPTIONS");
+                boolean partitioned = options != null && options.toLowerCase().contains("partitioned");
+                boolean empty = jdbcTemplate.queryForList("SELECT 1 FROM " + name + " LIMIT 1").isEmpty();
+                return new ArchiveTable(name, partitioned, empty);
+            });
+    }
+
+    private List<ReviewPartition> readPartitions() {
+        return jdbcTemplate.query("""
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'review' AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """, (row, index) -> new ReviewPartition(
+                row.getString("PARTITION_NAME"), parseUpperBound(row.getString("PARTITION_DESCRIPTION"))));
+    }
+
+    // Description MariaDB d'une partition RANGE COLUMNS : 'AAAA-MM-JJ' (ou 'AAAA-MM-JJ 00:00:00'), ou MAXVALUE
+    private static LocalDate parseUpperBound(String description) {
+        String value = description.replace("'", "").strip();
+        return "MAXVALUE".equalsIgnoreCase(value) ? null : LocalDate.parse(value.substring(0, 10));
+    }
+
+    /**
+     * A partition of the review table.
+     *
+     * @param upperBound first day excluded from the partition, {@code null} for the catch-all partition
+     */
+    public record ReviewPartition(String name, LocalDate upperBound) {
+    }
+
+    /**
+     * A {@code review_archive_pYYYYMM} table.
+     *
+     * @param partitioned still partitioned like {@code review}: created, not yet prepared for the exchange
+     * @param empty holds no row: the partition has not been exchanged with it yet
+     */
+    public record ArchiveTable(String name, boolean partitioned, boolean empty) {
+    }
+}
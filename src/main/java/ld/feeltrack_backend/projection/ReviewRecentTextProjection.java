@@ -0,0 +1,20 @@
+package ld.feeltrack_backend.projection;
+
+import java.time.LocalDate;
+
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Projection of the day, type and text of a review, used to warm up the top terms
+ * without loading the Review entities.
+ */
+
+public interface ReviewRecentTextProjection {
+
+    LocalDate getCreatedDate();
+
+    ReviewType getType();
+
+    String getText();
+
+}
@@ -0,0 +1,20 @@
+package ld.feeltrack_backend.projection;
+
+import java.time.LocalDate;
+
+import ld.feeltrack_backend.enums.ReviewType;
+
+/**
+ * Projection of the day, type and customer of a review, used to build the unique
+ * reviewer sketches without loading the Review entities.
+ */
+
+public interface ReviewReviewerProjection {
+
+    LocalDate getCreatedDate();
+
+    ReviewType getType();
+
+    Integer getCustomerId();
+
+}
@@ -0,0 +1,14 @@
+package ld.feeltrack_backend.projection;
+
+/**
+ * Projection of the id and text of a review, used to build the search index
+ * without loading the Review entities.
+ */
+
+public interface ReviewTextProjection {
+
+    Integer getId();
+
+    String getText();
+
+}
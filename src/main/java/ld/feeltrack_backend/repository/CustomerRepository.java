@@ -1,7 +1,13 @@
 package ld.feeltrack_backend.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import ld.feeltrack_backend.dto.CustomerDTO;
 import ld.feeltrack_backend.entity.Customer;
 
 
@@ -9,4 +15,42 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer> {
     
     Customer findByEmail(String email);
 
+    // Keyset pagination on the unique email index, in email order.
+    // The first page starts after the empty string, lower than any email.
+    // The review counts come from the per-customer rollup, joined on its primary key.
+    @Query("""
+    SELECT new ld.feeltrack_backend.dto.CustomerDTO(c.id, c.email, c.phone,
+        s.positiveCount, s.negativeCount, s.neutralCount, s.lastReviewAt)
+    FROM Customer c
+    LEFT JOIN CustomerReviewStat s ON s.customerId = c.id
+    WHERE c.email > :after
+    ORDER BY c.email
+    """)
+    List<CustomerDTO> findPageAfter(String after, Limit limit);
+
+    // Email prefix search : "email >= :prefix" starts the seek on the unique index, and a LIKE with a
+    // constant prefix (no leading wildcard, unlike LOWER() or '%x%') stays sargable too. Both compare
+    // with the collation of the column, case-insensitive on MariaDB ; an upper bound computed in Java
+    // by code point would not. The pattern is the prefix with '!', '%' and '_' escaped by '!'.
+    @Query("""
+    SELECT new ld.feeltrack_backend.dto.CustomerDTO(c.id, c.email, c.phone,
+        s.positiveCount, s.negativeCount, s.neutralCount, s.lastReviewAt)
+    FROM Customer c
+    LEFT JOIN CustomerReviewStat s ON s.customerId = c.id
+    WHERE c.email >= :prefix
+        AND c.email LIKE :pattern ESCAPE '!'
+        AND c.email > :after
+    ORDER BY c.email
+    """)
+    List<CustomerDTO> findPageByEmailPrefix(String prefix, String pattern, String after, Limit limit);
+
+    @Query("""
+    SELECT new ld.feeltrack_backend.dto.CustomerDTO(c.id, c.email, c.phone,
+        s.positiveCount, s.negativeCount, s.neutralCount, s.lastReviewAt)
+    FROM Customer c
+    LEFT JOIN CustomerReviewStat s ON s.customerId = c.id
+    WHERE c.id = :id
+    """)
+    Optional<CustomerDTO> findDTOById(int id);
+
 }
@@ -0,0 +1,76 @@
+package ld.feeltrack_backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import ld.feeltrack_backend.entity.CustomerReviewStat;
+
+public interface CustomerReviewStatsRepository extends JpaRepository<CustomerReviewStat, Integer> {
+
+    /**
+     * Removes a review from the counts of a customer, in place. The last review date is read
+     * again from the remaining reviews, an index seek on (customer_id, created_at), in the
+     * archive when the customer has no review left in the review table.
+     */
+    @Modifying
+    @Query("""
+    UPDATE CustomerReviewStat s
+    SET s.positiveCount = s.positiveCount - :positive,
+        s.negativeCount = s.negativeCount - :negative,
+        s.neutralCount = s.neutralCount - :neutral,
+        s.lastReviewAt = COALESCE(
+            (SELECT MAX(r.createdAt) FROM Review r WHERE r.customer.id = :customerId),
+            (SELECT MAX(a.createdAt) FROM ArchivedReview a WHERE a.customer.id = :customerId))
+    WHERE s.customerId = :customerId
+    """)
+    int removeReview(Integer customerId, long positive, long negative, long neutral);
+
+    /**
+     * Adds a review to the counts of a customer, in place, and moves its last review date forward.
+     * The first review of the customer creates the row: a single upsert run in the caller's
+     * transaction, no separate transaction nor second connection.
+     */
+    @Modifying
+    @Query("""
+    INSERT INTO CustomerReviewStat (customerId, positiveCount, negativeCount, neutralCount, lastReviewAt)
+    VALUES (:customerId, :positive, :negative, :neutral, :reviewedAt)
+    ON CONFLICT (customerId) DO UPDATE
+    SET positiveCount = positiveCount + excluded.positiveCount,
+        negativeCount = negativeCount + excluded.negativeCount,
+        neutralCount = neutralCount + excluded.neutralCount,
+        lastReviewAt = CASE WHEN lastReviewAt IS NULL OR lastReviewAt < excluded.lastReviewAt
+            THEN excluded.lastReviewAt ELSE lastReviewAt END
+    """)
+    int upsertReview(Integer customerId, long positive, long negative, long neutral, LocalDateTime reviewedAt);
+
+    // Recomputes every row from the review table and its archive, in a single INSERT ... SELECT
+    @Modifying
+    @Query("""
+    INSERT INTO CustomerReviewStat (customerId, positiveCount, negativeCount, neutralCount, lastReviewAt)
+    SELECT t.customerId, SUM(t.positiveCount), SUM(t.negativeCount), SUM(t.neutralCount), MAX(t.lastReviewAt)
+    FROM (
+        SELECT r.customer.id AS customerId,
+            SUM(CASE WHEN r.type = ld.feeltrack_backend.enums.ReviewType.POSITIVE THEN 1 ELSE 0 END) AS positiveCount,
+            SUM(CASE WHEN r.type = ld.feeltrack_backend.enums.ReviewType.NEGATIVE THEN 1 ELSE 0 END) AS negativeCount,
+            SUM(CASE WHEN r.type = ld.feeltrack_backend.enums.ReviewType.NEUTRAL THEN 1 ELSE 0 END) AS neutralCount,
+            MAX(r.createdAt) AS lastReviewAt
+        FROM Review r
+        WHERE r.customer IS NOT NULL
+        GROUP BY r.customer.id
+        UNION ALL
+        SELECT a.customer.id AS customerId,
+            SUM(CASE WHEN a.type = ld.feeltrack_backend.enums.ReviewType.POSITIVE THEN 1 ELSE 0 END) AS positiveCount,
+            SUM(CASE WHEN a.type = ld.feeltrack_backend.enums.ReviewType.NEGATIVE THEN 1 ELSE 0 END) AS negativeCount,
+            SUM(CASE WHEN a.type = ld.feeltrack_backend.enums.ReviewType.NEUTRAL THEN 1 ELSE 0 END) AS neutralCount,
+            MAX(a.createdAt) AS lastReviewAt
+        FROM ArchivedReview a
+        WHERE a.customer IS NOT NULL
+        GROUP BY a.customer.id
+    ) t
+    GROUP BY t.customerId
+    """)
+    int insertAllFromReviews();
+}
@@ -0,0 +1,25 @@
+package ld.feeltrack_backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+
+/**
+ * Archived reviews filtered like the review list (see {@link ReviewFilterRepository}), exposed
+ * through {@link ReviewArchiveRepository}.
+ */
+public interface ReviewArchiveFilterRepository {
+
+    List<ReviewDTO> findFiltered(ReviewFilterDTO filter, FieldSet fields, ReviewCursor after, Sort.Direction direction,
+                                 Limit limit);
+
+    Stream<ReviewDTO> streamFiltered(ReviewFilterDTO filter);
+
+}
@@ -0,0 +1,39 @@
+package ld.feeltrack_backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.entity.ArchivedReview;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+
+/**
+ * Builds the review list query of {@link ReviewFilterRepositoryImpl} on the archive table.
+ */
+class ReviewArchiveFilterRepositoryImpl implements ReviewArchiveFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReviewDTO> findFiltered(ReviewFilterDTO filter, FieldSet fields, ReviewCursor after,
+                                        Sort.Direction direction, Limit limit) {
+
+        return entityManager.createQuery(ReviewFilterRepositoryImpl.filteredQuery(
+                entityManager, ArchivedReview.class, filter, fields, after, direction))
+            .setMaxResults(limit.max())
+            .getResultList();
+    }
+
+    @Override
+    public Stream<ReviewDTO> streamFiltered(ReviewFilterDTO filter) {
+        return ReviewFilterRepositoryImpl.streamFiltered(entityManager, ArchivedReview.class, filter);
+    }
+}
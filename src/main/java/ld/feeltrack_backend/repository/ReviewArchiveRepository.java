@@ -0,0 +1,119 @@
+package ld.feeltrack_backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.entity.ArchivedReview;
+import ld.feeltrack_backend.projection.ReviewCountProjection;
+import ld.feeltrack_backend.projection.ReviewRecentTextProjection;
+import ld.feeltrack_backend.projection.ReviewReviewerProjection;
+import ld.feeltrack_backend.projection.ReviewTextProjection;
+
+/**
+ * Reviews of the {@code review_archive} table: the same reads as {@link ReviewRepository},
+ * on the reviews older than the archival age.
+ */
+public interface ReviewArchiveRepository extends JpaRepository<ArchivedReview, Integer>, ReviewArchiveFilterRepository {
+
+    String ARCHIVED_REVIEW_DTO_SELECT = """
+    SELECT new ld.feeltrack_backend.dto.ReviewDTO(
+        a.id, a.text, a.type, a.createdAt, a.createdDate, c.id, c.email, c.phone)
+    FROM ArchivedReview a
+    LEFT JOIN a.customer c
+    """;
+
+    // Copies reviews to the archive with their id, in a single INSERT ... SELECT
+    @Modifying
+    @Query("""
+    INSERT INTO ArchivedReview (id, text, type, createdAt, createdDate, customer)
+    SELECT r.id, r.text, r.type, r.createdAt, r.createdDate, r.customer
+    FROM Review r
+    WHERE r.id IN :ids
+    """)
+    int copyFromReviews(Collection<Integer> ids);
+
+    // Most recent archived review : every review of the review table is more recent
+    @Query("SELECT MAX(a.createdAt) FROM ArchivedReview a")
+    Optional<LocalDateTime> findNewestCreatedAt();
+
+    @Query("SELECT MAX(a.id) FROM ArchivedReview a")
+    Optional<Integer> findMaxId();
+
+    @Query("SELECT MIN(a.createdDate) FROM ArchivedReview a")
+    Optional<LocalDate> findFirstCreatedDate();
+
+    @Query(ARCHIVED_REVIEW_DTO_SELECT + "WHERE a.id = :id")
+    Optional<ReviewDTO> findDtoById(int id);
+
+    @Query(ARCHIVED_REVIEW_DTO_SELECT + """
+    WHERE a.id IN :ids
+    ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<ReviewDTO> findDtosByIdIn(Collection<Integer> ids);
+
+    boolean existsByCustomerId(int customerId);
+
+    @Query("""
+    SELECT a.type AS type, COUNT(a) AS count
+    FROM ArchivedReview a
+    GROUP BY a.type
+    """)
+    List<ReviewCountProjection> countReviewsByType();
+
+    @Query("""
+    SELECT a
+    FROM ArchivedReview a
+    LEFT JOIN FETCH a.customer
+    ORDER BY a.id
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ReviewRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ArchivedReview> streamAllWithCustomer();
+
+    @Query("""
+    SELECT a.id AS id, a.text AS text
+    FROM ArchivedReview a
+    ORDER BY a.id
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ReviewRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewTextProjection> streamAllTexts();
+
+    @Query("""
+    SELECT a.createdDate AS createdDate, a.type AS type, a.customer.id AS customerId
+    FROM ArchivedReview a
+    WHERE a.type IS NOT NULL AND a.customer IS NOT NULL
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ReviewRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewReviewerProjection> streamAllReviewers();
+
+    @Query("""
+    SELECT a.createdDate AS createdDate, a.type AS type, a.text AS text
+    FROM ArchivedReview a
+    WHERE a.createdDate >= :from AND a.type IS NOT NULL AND a.id <= :lastId
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ReviewRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewRecentTextProjection> streamTextsSince(LocalDate from, int lastId);
+}
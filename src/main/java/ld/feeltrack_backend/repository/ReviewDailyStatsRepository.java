@@ -0,0 +1,115 @@
+package ld.feeltrack_backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+import ld.feeltrack_backend.entity.ReviewDailyStat;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.projection.ReviewCountProjection;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+
+public interface ReviewDailyStatsRepository extends JpaRepository<ReviewDailyStat, ReviewDailyStat.Key> {
+
+    /**
+     * Adds {@code delta} to the count of a day and type, in place.
+     *
+     * @return the number of rows updated, 0 when the day has no row yet for this type
+     */
+    @Modifying
+    @Query("""
+    UPDATE ReviewDailyStat s
+    SET s.count = s.count + :delta
+    WHERE s.createdDate = :createdDate AND s.type = :type
+    """)
+    int addToCount(LocalDate createdDate, ReviewType type, long delta);
+
+    /**
+     * Adds {@code delta} to the count of a day and type, creating the row on the first review
+     * of the day: a single upsert ({@code ON DUPLICATE KEY UPDATE} on MariaDB, {@code MERGE} on H2),
+     * run in the caller's transaction. Concurrent writers creating the same row wait for its lock.
+     */
+    @Modifying
+    @Query("""
+    INSERT INTO ReviewDailyStat (createdDate, type, count) VALUES (:createdDate, :type, :delta)
+    ON CONFLICT (createdDate, type) DO UPDATE SET count = count + excluded.count
+    """)
+    int upsertCount(LocalDate createdDate, ReviewType type, long delta);
+
+    // Daily counts by type between two days (included) : one row per day and type, whatever the number of reviews
+    @Query("""
+    SELECT s.createdDate AS createdDate,
+        s.type AS type,
+        s.count AS count
+    FROM ReviewDailyStat s
+    WHERE s.createdDate BETWEEN :from AND :to AND s.count > 0
+    ORDER BY s.createdDate, s.type
+    """)
+    List<ReviewTimelineProjection> getTimeline(LocalDate from, LocalDate to);
+
+    // Same rows, read through a cursor for the CSV export of the timeline
+    @Query("""
+    SELECT s.createdDate AS createdDate,
+        s.type AS type,
+        s.count AS count
+    FROM ReviewDailyStat s
+    WHERE s.createdDate BETWEEN :from AND :to AND s.count > 0
+    ORDER BY s.createdDate, s.type
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ReviewRepository.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewTimelineProjection> streamTimeline(LocalDate from, LocalDate to);
+
+    // Every non-empty day, to build the in-memory date range index
+    @Query("""
+    SELECT s.createdDate AS createdDate,
+        s.type AS type,
+        s.count AS count
+    FROM ReviewDailyStat s
+    WHERE s.count > 0
+    """)
+    List<ReviewTimelineProjection> findAllCounts();
+
+    // Totals by type between two days (included), when the in-memory index is not built yet
+    @Query("""
+    SELECT s.type AS type, SUM(s.count) AS count
+    FROM ReviewDailyStat s
+    WHERE s.createdDate BETWEEN :from AND :to
+    GROUP BY s.type
+    """)
+    List<ReviewCountProjection> countByTypeBetween(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM ReviewDailyStat s WHERE s.createdDate BETWEEN :from AND :to")
+    int deleteBetween(LocalDate from, LocalDate to);
+
+    // Recomputes the rows of a range of days from the review table and its archive, in a single INSERT ... SELECT
+    // (a day being archived has reviews in both tables)
+    @Modifying
+    @Query("""
+    INSERT INTO ReviewDailyStat (createdDate, type, count)
+    SELECT t.createdDate, t.type, SUM(t.count)
+    FROM (
+        SELECT r.createdDate AS createdDate, r.type AS type, COUNT(r) AS count
+        FROM Review r
+        WHERE r.createdDate BETWEEN :from AND :to AND r.type IS NOT NULL
+        GROUP BY r.createdDate, r.type
+        UNION ALL
+        SELECT a.createdDate AS createdDate, a.type AS type, COUNT(a) AS count
+        FROM ArchivedReview a
+        WHERE a.createdDate BETWEEN :from AND :to AND a.type IS NOT NULL
+        GROUP BY a.createdDate, a.type
+    ) t
+    GROUP BY t.createdDate, t.type
+    """)
+    int insertCountsBetween(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,40 @@
+package ld.feeltrack_backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+
+/**
+ * Review list filtered on any combination of criteria, with keyset pagination.
+ *
+ * Implemented with the Criteria API in {@link ReviewFilterRepositoryImpl} and exposed
+ * through {@link ReviewRepository}.
+ */
+public interface ReviewFilterRepository {
+
+    /**
+     * @param fields    fields of the read model to select ; {@code id} and {@code createdAt} are always read for the cursor
+     * @param after     last row of the previous page, {@code null} for the first page
+     * @param direction order on {@code (created_at, id)}
+     */
+    List<ReviewDTO> findFiltered(ReviewFilterDTO filter, FieldSet fields, ReviewCursor after, Sort.Direction direction,
+                                 Limit limit);
+
+    default List<ReviewDTO> findFiltered(ReviewFilterDTO filter, ReviewCursor after, Sort.Direction direction, Limit limit) {
+        return findFiltered(filter, ReviewDTO.ALL_FIELDS, after, direction, limit);
+    }
+
+    /**
+     * Every review matching the filter with all its fields, in {@code (created_at, id)} order,
+     * read through a cursor: to be consumed inside a transaction, then closed.
+     */
+    Stream<ReviewDTO> streamFiltered(ReviewFilterDTO filter);
+
+}
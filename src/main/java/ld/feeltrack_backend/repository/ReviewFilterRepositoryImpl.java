@@ -0,0 +1,141 @@
+package ld.feeltrack_backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.entity.ArchivedReview;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+
+/**
+ * Builds the review list query from the criteria actually given.
+ *
+ * Every combination ends with {@code ORDER BY created_at, id} after equality conditions
+ * on {@code type} and/or {@code customer_id}, and a range on {@code created_at}: the
+ * shape of the composite indexes declared on {@link Review}, so the rows are read in
+ * index order without sorting:
+ * - no equality criterion: {@code (created_at, id)} ;
+ * - type: {@code (type, created_at, id)} ;
+ * - customer: {@code (customer_id, created_at, id)} ;
+ * - customer and type: {@code (customer_id, type, created_at, id)}.
+ *
+ * Only the columns of the requested fields are selected, the others are replaced by
+ * {@code NULL}; the customer is only joined when the {@code customer} field is requested.
+ *
+ * The same query is built on {@link ArchivedReview}, whose table has the same columns and
+ * indexes, for {@link ReviewArchiveRepository}.
+ */
+class ReviewFilterRepositoryImpl implements ReviewFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReviewDTO> findFiltered(ReviewFilterDTO filter, FieldSet fields, ReviewCursor after,
+                                        Sort.Direction direction, Limit limit) {
+
+        return entityManager.createQuery(filteredQuery(entityManager, Review.class, filter, fields, after, direction))
+            .setMaxResults(limit.max())
+            .getResultList();
+    }
+
+    @Override
+    public Stream<ReviewDTO> streamFiltered(ReviewFilterDTO filter) {
+
+        return streamFiltered(entityManager, Review.class, filter);
+    }
+
+    static Stream<ReviewDTO> streamFiltered(EntityManager entityManager, Class<?> entityClass, ReviewFilterDTO filter) {
+
+        return entityManager.createQuery(filteredQuery(entityManager, entityClass, filter, ReviewDTO.ALL_FIELDS, null,
+                Sort.Direction.ASC))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.parseInt(ReviewRepository.STREAM_FETCH_SIZE))
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    /**
+     * @param entityClass {@link Review} or {@link ArchivedReview}
+     */
+    static CriteriaQuery<ReviewDTO> filteredQuery(EntityManager entityManager, Class<?> entityClass,
+                                                  ReviewFilterDTO filter, FieldSet fields, ReviewCursor after,
+                                                  Sort.Direction direction) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReviewDTO> query = cb.createQuery(ReviewDTO.class);
+        Root<?> review = query.from(entityClass);
+
+        // id et createdAt sont toujours lus : ils forment le curseur de la page suivante
+        List<Selection<?>> selection = new ArrayList<>(List.of(
+            review.get("id"),
+            fields.includes("text") ? review.get("text") : cb.nullLiteral(String.class),
+            fields.includes("type") ? review.get("type") : cb.nullLiteral(ReviewType.class),
+            review.get("createdAt"),
+            fields.includes("createdDate") ? review.get("createdDate") : cb.nullLiteral(LocalDate.class)
+        ));
+        if (fields.includes("customer")) {
+            Join<?, Customer> customer = review.join("customer", JoinType.LEFT);
+            selection.addAll(List.of(customer.get("id"), customer.get("email"), customer.get("phone")));
+        } else {
+            selection.addAll(List.of(
+                cb.nullLiteral(Integer.class), cb.nullLiteral(String.class), cb.nullLiteral(String.class)));
+        }
+        query.select(cb.construct(ReviewDTO.class, selection.toArray(Selection[]::new)));
+
+        Path<LocalDateTime> createdAt = review.get("createdAt");
+        Path<Integer> id = review.get("id");
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.type() != null) {
+            predicates.add(cb.equal(review.get("type"), filter.type()));
+        }
+        if (filter.customerId() != null) {
+            // Colonne customer_id de l'avis, sans passer par la jointure
+            predicates.add(cb.equal(review.get("customer").get("id"), filter.customerId()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.from().atStartOfDay()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(createdAt, filter.to().plusDays(1).atStartOfDay()));
+        }
+        if (after != null) {
+            predicates.add(direction.isAscending()
+                ? cb.or(
+                    cb.greaterThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.greaterThan(id, after.id())))
+                : cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(direction.isAscending()
+            ? List.of(cb.asc(createdAt), cb.asc(id))
+            : List.of(cb.desc(createdAt), cb.desc(id)));
+
+        return query;
+    }
+}
@@ -1,43 +1,147 @@
 package ld.feeltrack_backend.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+import ld.feeltrack_backend.dto.ReviewDTO;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
 import ld.feeltrack_backend.projection.ReviewCountProjection;
-import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.projection.ReviewRecentTextProjection;
+import ld.feeltrack_backend.projection.ReviewReviewerProjection;
+import ld.feeltrack_backend.projection.ReviewTextProjection;
 
 
-public interface ReviewRepository extends JpaRepository<Review, Integer> {
+public interface ReviewRepository extends JpaRepository<Review, Integer>, ReviewFilterRepository {
+
+    // Number of rows fetched per round trip when streaming : the driver keeps only this many rows in memory
+    String STREAM_FETCH_SIZE = "500";
 
-    List<Review> findAllByOrderByCreatedAtDesc();
     List<Review> findByType(ReviewType type);
-    List<Review> findByTypeOrderByCreatedAtDesc(ReviewType type);
-    
+
+    // Read model of the detail and search endpoints : one statement, customer columns taken from the join
+    // (the list endpoint builds the same projection in ReviewFilterRepositoryImpl)
+    String REVIEW_DTO_SELECT = """
+    SELECT new ld.feeltrack_backend.dto.ReviewDTO(
+        r.id, r.text, r.type, r.createdAt, r.createdDate, c.id, c.email, c.phone)
+    FROM Review r
+    LEFT JOIN r.customer c
+    """;
+
+    @Query(REVIEW_DTO_SELECT + "WHERE r.id = :id")
+    Optional<ReviewDTO> findDtoById(int id);
+
     boolean existsByCustomerId(int customerId);
 
+    /**
+     * Deletes a review by a single statement.
+     *
+     * @return the number of rows deleted, 0 when the review was already gone (deleted concurrently)
+     */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.id = :id")
+    int deleteReviewById(int id);
+
+    // Counts of the review table and of the archive, read by a single statement : a review being archived counts once
     @Query("""
-    SELECT r.type AS type, COUNT(r) AS count
-    FROM Review r
-    GROUP BY r.type
+    SELECT t.type AS type, SUM(t.count) AS count
+    FROM (
+        SELECT r.type AS type, COUNT(r) AS count FROM Review r GROUP BY r.type
+        UNION ALL
+        SELECT a.type AS type, COUNT(a) AS count FROM ArchivedReview a GROUP BY a.type
+    ) t
+    GROUP BY t.type
     """)
     List<ReviewCountProjection> countReviewsByType();
 
-    // Timeline query to get daily counts of reviews by type for the last N days
+    // First day of the review table : the archive, when not empty, holds older days (see ReviewArchiveRepository)
+    @Query("SELECT MIN(r.createdDate) FROM Review r")
+    Optional<LocalDate> findFirstCreatedDate();
+
+    /**
+     * Streams every review with its customer, in id order, through a read-only cursor.
+     *
+     * Must be consumed inside a transaction and closed after use. Rows are fetched
+     * {@value #STREAM_FETCH_SIZE} at a time instead of loading the whole result set.
+     */
     @Query("""
-    SELECT r.createdDate AS createdDate,
-        r.type AS type,
-        COUNT(r) AS count
+    SELECT r
     FROM Review r
-    WHERE r.createdDate >= :from
-    GROUP BY r.createdDate, r.type
-    ORDER BY r.createdDate
+    LEFT JOIN FETCH r.customer
+    ORDER BY r.id
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Review> streamAllWithCustomer();
+
+    // Id and text of every review, streamed the same way, to build the search index
+    @Query("""
+    SELECT r.id AS id, r.text AS text
+    FROM Review r
+    ORDER BY r.id
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewTextProjection> streamAllTexts();
+
+    // Day, type and customer of every review, streamed the same way, to build the unique reviewer sketches
+    @Query("""
+    SELECT r.createdDate AS createdDate, r.type AS type, r.customer.id AS customerId
+    FROM Review r
+    WHERE r.type IS NOT NULL AND r.customer IS NOT NULL
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewReviewerProjection> streamAllReviewers();
+
+    // Last review id committed : the reviews created later reach the in-memory stats through their events
+    @Query("SELECT MAX(r.id) FROM Review r")
+    Optional<Integer> findMaxId();
+
+    // Day, type and text of the reviews created since a day, up to an id, streamed the same way, to warm up the top terms
+    @Query("""
+    SELECT r.createdDate AS createdDate, r.type AS type, r.text AS text
+    FROM Review r
+    WHERE r.createdDate >= :from AND r.type IS NOT NULL AND r.id <= :lastId
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewRecentTextProjection> streamTextsSince(LocalDate from, int lastId);
+
+    // Oldest reviews created before an instant, in (created_at, id) order : the next batch to archive
+    @Query("""
+    SELECT r.id
+    FROM Review r
+    WHERE r.createdAt < :before
+    ORDER BY r.createdAt, r.id
+    """)
+    List<Integer> findIdsCreatedBefore(LocalDateTime before, Limit limit);
+
+    // Reviews found by the search index, most recent first
+    @Query(REVIEW_DTO_SELECT + """
+    WHERE r.id IN :ids
+    ORDER BY r.createdAt DESC, r.id DESC
     """)
-    List<ReviewTimelineProjection> getTimeline(LocalDate from);
-    
+    List<ReviewDTO> findDtosByIdIn(Collection<Integer> ids);
 
 }
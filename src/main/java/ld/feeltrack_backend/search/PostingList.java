@@ -0,0 +1,202 @@
+package ld.feeltrack_backend.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of review ids containing one term, stored as compressed bytes.
+ *
+ * Ids are kept in ascending order and encoded as the gap with the previous id, each gap
+ * written as a variable-length integer (7 bits per byte, high bit set while more bytes
+ * follow). Reviews of a term are usually close in id, so most gaps take one or two bytes
+ * instead of the four bytes of an {@code int}, and no boxed {@code Integer} is allocated.
+ *
+ * Appending an id greater than the last one is O(1). The other changes never touch the
+ * encoded bytes: out-of-order inserts go to a small sorted array of pending ids, deletions
+ * to a sorted array of tombstones, both merged on the fly by {@link #toArray()}. The list
+ * is re-encoded only once they hold more than an eighth of its ids, so a deletion costs a
+ * binary search and a short array copy instead of decoding the whole list.
+ *
+ * Not thread-safe: access is guarded by {@link ReviewSearchIndex}.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+    // En dessous, les ids en attente ne déclenchent jamais de réencodage
+    private static final int MIN_PENDING_BEFORE_COMPACTION = 64;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int encodedSize;
+    private int lastId;
+
+    // Ids insérés hors ordre, triés ; ils peuvent doublonner des ids encodés
+    private int[] inserted = new int[0];
+    private int insertedCount;
+    // Ids supprimés, triés, tous inférieurs ou égaux à lastId
+    private int[] removed = new int[0];
+    private int removedCount;
+
+    void add(int id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Review id must be positive : " + id);
+        }
+        if (id > lastId) {
+            append(id);
+            return;
+        }
+        int tombstone = Arrays.binarySearch(removed, 0, removedCount, id);
+        if (tombstone >= 0) {
+            removed = delete(removed, removedCount--, tombstone);
+        }
+        int position = Arrays.binarySearch(inserted, 0, insertedCount, id);
+        if (position < 0) {
+            inserted = insert(inserted, insertedCount++, -position - 1, id);
+            compactIfNeeded();
+        }
+    }
+
+    void remove(int id) {
+        if (id > lastId) {
+            return;
+        }
+        int position = Arrays.binarySearch(inserted, 0, insertedCount, id);
+        if (position >= 0) {
+            inserted = delete(inserted, insertedCount--, position);
+        }
+        // L'id peut aussi figurer dans la partie encodée : une pierre tombale le masque
+        int tombstone = Arrays.binarySearch(removed, 0, removedCount, id);
+        if (tombstone < 0) {
+            removed = insert(removed, removedCount++, -tombstone - 1, id);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Number of ids, as an upper bound while out-of-order inserts are pending: they may
+     * duplicate encoded ids until the next re-encoding.
+     */
+    int size() {
+        return Math.max(0, encodedSize + insertedCount - removedCount);
+    }
+
+    boolean isEmpty() {
+        return encodedSize == 0 && insertedCount == 0;
+    }
+
+    /**
+     * Decoded ids, in ascending order.
+     */
+    int[] toArray() {
+        int[] ids = new int[encodedSize + insertedCount];
+        int count = 0;
+        int nextInserted = 0;
+        int nextRemoved = 0;
+        int offset = 0;
+        int previous = 0;
+        for (int i = 0; i < encodedSize; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = data[offset++];
+                gap |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            previous += gap;
+
+            while (nextInserted < insertedCount && inserted[nextInserted] < previous) {
+                count = keep(ids, count, inserted[nextInserted++]);
+            }
+            if (nextInserted < insertedCount && inserted[nextInserted] == previous) {
+                nextInserted++;
+            }
+            while (nextRemoved < removedCount && removed[nextRemoved] < previous) {
+                nextRemoved++;
+            }
+            if (nextRemoved < removedCount && removed[nextRemoved] == previous) {
+                continue;
+            }
+            ids[count++] = previous;
+        }
+        while (nextInserted < insertedCount) {
+            count = keep(ids, count, inserted[nextInserted++]);
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Merges the pending changes into the encoded bytes and releases the spare capacity
+     * left by the growth of the buffer.
+     */
+    void trim() {
+        if (insertedCount > 0 || removedCount > 0) {
+            compact();
+        }
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    // Taille encodée en octets (ids en attente compris), pour les statistiques de l'index
+    int encodedBytes() {
+        return length + Integer.BYTES * (inserted.length + removed.length);
+    }
+
+    private void compactIfNeeded() {
+        int pending = insertedCount + removedCount;
+        if (pending > Math.max(MIN_PENDING_BEFORE_COMPACTION, encodedSize / 8)
+            || (removedCount >= encodedSize + insertedCount)) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] ids = toArray();
+        data = new byte[Math.max(INITIAL_CAPACITY, ids.length * 2)];
+        length = 0;
+        encodedSize = 0;
+        lastId = 0;
+        inserted = new int[0];
+        insertedCount = 0;
+        removed = new int[0];
+        removedCount = 0;
+        for (int id : ids) {
+            append(id);
+        }
+    }
+
+    private void append(int id) {
+        int gap = id - lastId;
+        // Un entier de 32 bits tient au plus sur 5 octets
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((gap & ~0x7F) != 0) {
+            data[length++] = (byte) ((gap & 0x7F) | 0x80);
+            gap >>>= 7;
+        }
+        data[length++] = (byte) gap;
+        lastId = id;
+        encodedSize++;
+    }
+
+    private int keep(int[] ids, int count, int id) {
+        if (Arrays.binarySearch(removed, 0, removedCount, id) >= 0) {
+            return count;
+        }
+        ids[count] = id;
+        return count + 1;
+    }
+
+    private static int[] insert(int[] values, int count, int position, int value) {
+        int[] target = count < values.length ? values : Arrays.copyOf(values, Math.max(4, values.length * 2));
+        System.arraycopy(values, position, target, position + 1, count - position);
+        target[position] = value;
+        return target;
+    }
+
+    private static int[] delete(int[] values, int count, int position) {
+        System.arraycopy(values, position + 1, values, position, count - position - 1);
+        return values;
+    }
+}
@@ -0,0 +1,205 @@
+package ld.feeltrack_backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+
+/**
+ * In-memory inverted index over the text of the reviews: term → ids of the reviews containing it.
+ *
+ * The index is filled at startup by {@link ReviewSearchIndexLoader}, then kept up to date
+ * from the review events once the write is committed. Searches never hit the database
+ * for matching: only the ids found here are then loaded. Until a build has completed,
+ * {@link #isBuilt()} is {@code false} and the index must not be used to answer searches.
+ *
+ * A {@link ReentrantReadWriteLock} lets searches run in parallel; it also parks virtual
+ * threads without pinning their carrier, unlike {@code synchronized}.
+ */
+@Component
+public class ReviewSearchIndex {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Suppressions reçues pendant la construction initiale, rejouées à la fin de celle-ci
+    private Set<Integer> removedDuringBuild;
+    private volatile boolean built;
+
+    // Avant l'invalidation des caches et de l'ETag des résultats de recherche
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        add(event.review().getId(), event.review().getText());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        remove(event.review().getId(), event.review().getText());
+    }
+
+    public void add(int reviewId, String text) {
+        Set<String> terms = TextTokenizer.tokenize(text);
+        lock.writeLock().lock();
+        try {
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(reviewId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int reviewId, String text) {
+        Set<String> terms = TextTokenizer.tokenize(text);
+        lock.writeLock().lock();
+        try {
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    list.remove(reviewId);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            if (removedDuringBuild != null) {
+                removedDuringBuild.add(reviewId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the reviews containing every term of the query, highest (most recent) ids first.
+     *
+     * @throws IllegalArgumentException if the query contains no searchable term
+     */
+    public int[] search(String query, int limit) {
+        Set<String> terms = TextTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Search query must contain at least one word of " + TextTokenizer.MIN_TERM_LENGTH + " characters or more."
+            );
+        }
+
+        lock.readLock().lock();
+        int[] matches;
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            // Intersection en partant de la liste la plus courte
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            matches = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && matches.length > 0; i++) {
+                matches = intersect(matches, lists.get(i).toArray());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int count = Math.min(limit, matches.length);
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = matches[matches.length - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Empties the index before a full build; removals received until {@link #endBuild(boolean)}
+     * are replayed at the end, in case the build had already read the deleted review.
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            built = false;
+            postings.clear();
+            removedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends a build; the index answers searches again only if the build read every review.
+     */
+    public void endBuild(boolean completed) {
+        lock.writeLock().lock();
+        try {
+            if (removedDuringBuild != null && !removedDuringBuild.isEmpty()) {
+                for (PostingList list : postings.values()) {
+                    removedDuringBuild.forEach(list::remove);
+                }
+            }
+            removedDuringBuild = null;
+            postings.values().forEach(PostingList::trim);
+            postings.values().removeIf(PostingList::isEmpty);
+            built = completed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long encodedBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(PostingList::encodedBytes).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,92 @@
+package ld.feeltrack_backend.search;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.projection.ReviewTextProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Builds the {@link ReviewSearchIndex} from the review table and its archive.
+ *
+ * Runs once the application is started, before the readiness state switches to
+ * "accepting traffic". Both tables are streamed through read-only cursors in the same
+ * transaction, reading only the id and text columns. The build reads the primary: the
+ * reviews indexed on commit before it started must all be in the result. Searches are
+ * refused until the build has completed.
+ */
+@Component
+public class ReviewSearchIndexLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewSearchIndexLoader.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewSearchIndexLoader(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                                   ReviewSearchIndex reviewSearchIndex,
+                                   PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.reviewSearchIndex = reviewSearchIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * @return the number of reviews indexed
+     */
+    public long rebuild() {
+        long start = System.nanoTime();
+        reviewSearchIndex.beginBuild();
+
+        boolean completed = false;
+        long count;
+        try {
+            count = PrimaryPin.call(() -> readOnlyTransaction.execute(status -> {
+                long read;
+                // Un curseur après l'autre : un seul jeu de résultats en flux par connexion
+                try (Stream<ReviewTextProjection> archived = archiveRepository.streamAllTexts()) {
+                    read = add(archived);
+                }
+                try (Stream<ReviewTextProjection> reviews = reviewRepository.streamAllTexts()) {
+                    read += add(reviews);
+                }
+                return read;
+            }));
+            completed = true;
+        } finally {
+            reviewSearchIndex.endBuild(completed);
+        }
+
+        LOGGER.info("Search index built : {} reviews, {} terms, {} KB of postings in {} ms",
+            count, reviewSearchIndex.termCount(), reviewSearchIndex.encodedBytes() / 1024,
+            (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private long add(Stream<ReviewTextProjection> reviews) {
+        long indexed = 0;
+        for (ReviewTextProjection review : (Iterable<ReviewTextProjection>) reviews::iterator) {
+            reviewSearchIndex.add(review.getId(), review.getText());
+            indexed++;
+        }
+        return indexed;
+    }
+}
@@ -0,0 +1,54 @@
+package ld.feeltrack_backend.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits review texts and search queries into normalized terms.
+ *
+ * Both sides go through the same folding, so "Livraison", "LIVRAISON" and "livraisón"
+ * are the same term:
+ * - Unicode decomposition (NFD) then removal of the combining marks: "é" → "e" ;
+ * - French ligatures expanded: "œ" → "oe", "æ" → "ae" ;
+ * - lower case, independent of the default locale ;
+ * - split on anything that is not a letter or a digit, so elisions ("l'avis") and
+ *   punctuation disappear ; terms shorter than {@value #MIN_TERM_LENGTH} characters are dropped.
+ */
+public final class TextTokenizer {
+
+    public static final int MIN_TERM_LENGTH = 2;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextTokenizer() {
+    }
+
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+            .toLowerCase(Locale.ROOT)
+            .replace("œ", "oe")
+            .replace("æ", "ae")
+            .replace("ß", "ss");
+    }
+
+    /**
+     * Distinct terms of the text, in order of first occurrence.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(fold(text))) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
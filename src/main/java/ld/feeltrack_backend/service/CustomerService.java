@@ -1,26 +1,48 @@
+
 package ld.feeltrack_backend.service;
 
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
 import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.event.CustomerChangedEvent;
+import ld.feeltrack_backend.pagination.CustomerCursor;
 import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
 import ld.feeltrack_backend.repository.ReviewRepository;
 
 @Service
 public class CustomerService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final CustomerRepository customerRepository;
     private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository reviewArchiveRepository;
+    private final CustomerReviewStatsRepository customerReviewStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CustomerService(CustomerRepository customerRepository,
-                           ReviewRepository reviewRepository) {
+                           ReviewRepository reviewRepository,
+                           ReviewArchiveRepository reviewArchiveRepository,
+                           CustomerReviewStatsRepository customerReviewStatsRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.reviewRepository = reviewRepository;
+        this.reviewArchiveRepository = reviewArchiveRepository;
+        this.customerReviewStatsRepository = customerReviewStatsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Customer createCustomer(Customer customer) {
@@ -33,7 +55,9 @@ public class CustomerService {
             );
         }
         // save() renvoie l'entité créée, avec son ID généré
-        return this.customerRepository.save(customer);
+        Customer createdCustomer = this.customerRepository.save(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(createdCustomer.getId()));
+        return createdCustomer;
 
     }
 
@@ -51,11 +75,47 @@ public class CustomerService {
             );
         }
 
+        // Avis archivés en lecture seule : le client est conservé
+        if (reviewArchiveRepository.existsByCustomerId(id)) {
+            throw new DataIntegrityViolationException(
+                "It is not possible to delete the customer with the ID : " + id + " because it has archived reviews."
+            );
+        }
+
+        // Ligne du rollup (comptes à zéro) laissée par la suppression du dernier avis
+        this.customerReviewStatsRepository.deleteById(id);
         this.customerRepository.deleteById(id);
+        eventPublisher.publishEvent(new CustomerChangedEvent(id));
     }
 
-    public List<Customer> getAllCustomers() {
-        return this.customerRepository.findAll();
+    /**
+     * Returns one page of customers in email order, optionally restricted to the emails starting with a prefix.
+     *
+     * @param cursor token returned as {@code nextCursor} by the previous page, {@code null} for the first page
+     * @param limit  maximum number of customers in the page, between 1 and {@value #MAX_PAGE_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CustomerDTO> findCustomers(String emailPrefix, String cursor, int limit) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        String after = cursor == null || cursor.isBlank() ? "" : CustomerCursor.decode(cursor).email();
+
+        // Une ligne de plus que demandé pour savoir s'il existe une page suivante
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<CustomerDTO> customers = emailPrefix == null || emailPrefix.isBlank()
+            ? this.customerRepository.findPageAfter(after, fetchLimit)
+            : this.customerRepository.findPageByEmailPrefix(
+                emailPrefix, emailPrefixPattern(emailPrefix), after, fetchLimit);
+
+        if (customers.size() <= limit) {
+            return new CursorPageDTO<>(customers, null);
+        }
+
+        List<CustomerDTO> page = customers.subList(0, limit);
+        return new CursorPageDTO<>(page, CustomerCursor.of(page.get(limit - 1)).encode());
     }
 
     public Customer getCustomerById(int id) {
@@ -66,11 +126,23 @@ public class CustomerService {
         );
     }
 
+    /**
+     * Returns a customer with its review counts and last review date, in a single query.
+     */
+    @Transactional(readOnly = true)
+    public CustomerDTO getCustomerDTOById(int id) {
+        return this.customerRepository.findDTOById(id).orElseThrow(
+            () -> new EntityNotFoundException("No customer found with the ID : " + id + ".")
+        );
+    }
+
     public Customer findOrCreateCustomer(Customer customer) {
         Customer foundCustomerInDatabase = this.customerRepository.findByEmail(customer.getEmail());
 
         if (foundCustomerInDatabase == null) {
-            return this.customerRepository.save(customer);
+            Customer createdCustomer = this.customerRepository.save(customer);
+            eventPublisher.publishEvent(new CustomerChangedEvent(createdCustomer.getId()));
+            return createdCustomer;
         }
         
         return foundCustomerInDatabase;
@@ -95,8 +167,25 @@ public class CustomerService {
 
         foundCustomerInDatabase.setEmail(updatedCustomer.getEmail());
         foundCustomerInDatabase.setPhone(updatedCustomer.getPhone());
-        return customerRepository.save(foundCustomerInDatabase);
+        Customer savedCustomer = customerRepository.save(foundCustomerInDatabase);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer.getId()));
+        return savedCustomer;
+
+    }
 
+    /**
+     * LIKE pattern matching the emails starting with the prefix ("a_b" → "a!_b%"), its wildcards
+     * and the escape character {@code '!'} taken literally.
+     */
+    static String emailPrefixPattern(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 4);
+        for (char c : prefix.toCharArray()) {
+            if (c == '!' || c == '%' || c == '_') {
+                pattern.append('!');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+package ld.feeltrack_backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import ld.feeltrack_backend.archive.ReviewArchive;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.entity.ArchivedReview;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Bulk export of reviews for BI jobs (NDJSON) and analysts (CSV).
+ *
+ * Rows are read through a database cursor and written one by one to the output, so the
+ * heap usage does not depend on the number of reviews exported. Archived reviews, all older,
+ * are read first from the {@code review_archive} table.
+ */
+@Service
+public class ReviewExportService {
+
+    // Fréquence de vidage du buffer vers le client, en nombre de lignes écrites
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+    private static final String REVIEWS_CSV_HEADER =
+        "id,created_at,created_date,type,customer_id,customer_email,customer_phone,text";
+    private static final String TIMELINE_CSV_HEADER = "date,positive,negative,neutral";
+    // Format fixe : LocalDateTime.toString omet les secondes nulles et varie en nombre de décimales
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository reviewArchiveRepository;
+    private final ReviewArchive reviewArchive;
+    private final ReviewDailyStatsRepository reviewDailyStatsRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
+
+    public ReviewExportService(ReviewRepository reviewRepository, ReviewArchiveRepository reviewArchiveRepository,
+                               ReviewArchive reviewArchive, ReviewDailyStatsRepository reviewDailyStatsRepository,
+                               EntityManager entityManager, ObjectMapper objectMapper) {
+        this.reviewRepository = reviewRepository;
+        this.reviewArchiveRepository = reviewArchiveRepository;
+        this.reviewArchive = reviewArchive;
+        this.reviewDailyStatsRepository = reviewDailyStatsRepository;
+        this.entityManager = entityManager;
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every review as NDJSON (one JSON object per line) to the given stream.
+     *
+     * The output stream is flushed but not closed.
+     *
+     * @return the number of reviews written
+     */
+    @Transactional(readOnly = true)
+    public long exportReviewsAsNdjson(OutputStream outputStream) throws IOException {
+        long count = 0;
+
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(outputStream)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Pas de séparateur entre deux valeurs racines : chaque ligne se termine par un saut de ligne
+            generator.setRootValueSeparator(null);
+
+            try (Stream<ArchivedReview> archived = reviewArchiveRepository.streamAllWithCustomer()) {
+                count = writeNdjson(generator, archived, ArchivedReview::getCustomer, count);
+            }
+            try (Stream<Review> reviews = reviewRepository.streamAllWithCustomer()) {
+                count = writeNdjson(generator, reviews, Review::getCustomer, count);
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    private <T> long writeNdjson(JsonGenerator generator, Stream<T> reviews, Function<T, Customer> customerOf,
+                                 long count) throws IOException {
+        for (T review : (Iterable<T>) reviews::iterator) {
+            ndjsonWriter.writeValue(generator, review);
+            generator.writeRaw('\n');
+
+            // Les entités déjà écrites sont détachées pour que le contexte de persistance ne grossisse pas
+            entityManager.detach(review);
+            Customer customer = customerOf.apply(review);
+            if (customer != null) {
+                entityManager.detach(customer);
+            }
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the reviews matching the filter as CSV (RFC 4180, UTF-8, header line first) to the
+     * given stream, oldest first.
+     *
+     * The output stream is flushed but not closed.
+     *
+     * @return the number of reviews written
+     */
+    @Transactional(readOnly = true)
+    public long exportReviewsAsCsv(OutputStream outputStream, ReviewFilterDTO filter) throws IOException {
+        long count = 0;
+        Writer writer = csvWriter(outputStream);
+        writer.write(REVIEWS_CSV_HEADER);
+        writer.write("\r\n");
+
+        // Objets de lecture construits par la requête : aucune entité dans le contexte de persistance
+        if (reviewArchive.mayContain(filter, null, Sort.Direction.ASC)) {
+            try (Stream<ReviewDTO> archived = reviewArchiveRepository.streamFiltered(filter)) {
+                count = writeReviewsCsv(writer, archived, count);
+            }
+        }
+        try (Stream<ReviewDTO> reviews = reviewRepository.streamFiltered(filter)) {
+            count = writeReviewsCsv(writer, reviews, count);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static long writeReviewsCsv(Writer writer, Stream<ReviewDTO> reviews, long count) throws IOException {
+        for (ReviewDTO review : (Iterable<ReviewDTO>) reviews::iterator) {
+            CustomerDTO customer = review.getCustomer();
+            writer.write(Integer.toString(review.getId()));
+            writer.write(',');
+            writer.write(review.getCreatedAt() == null ? "" : CSV_DATE_TIME.format(review.getCreatedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(review.getCreatedDate()));
+            writer.write(',');
+            writer.write(review.getType() == null ? "" : review.getType().name());
+            writer.write(',');
+            writer.write(customer == null ? "" : Integer.toString(customer.getId()));
+            writer.write(',');
+            writeCsvField(writer, customer == null ? null : customer.getEmail());
+            writer.write(',');
+            writeCsvField(writer, customer == null ? null : customer.getPhone());
+            writer.write(',');
+            writeCsvField(writer, review.getText());
+            writer.write("\r\n");
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the daily review counts by type between two days (included) as CSV to the given
+     * stream: one line per day, days without review included with zero counts.
+     *
+     * The output stream is flushed but not closed.
+     *
+     * @param from first day, the day of the oldest review when {@code null}
+     * @return the number of days written
+     */
+    @Transactional(readOnly = true)
+    public long exportTimelineAsCsv(OutputStream outputStream, LocalDate from, LocalDate to) throws IOException {
+        LocalDate start = from != null ? from : reviewArchiveRepository.findFirstCreatedDate()
+            .or(reviewRepository::findFirstCreatedDate)
+            .orElse(to);
+
+        long count = 0;
+        Writer writer = csvWriter(outputStream);
+        writer.write(TIMELINE_CSV_HEADER);
+        writer.write("\r\n");
+
+        // Lignes triées par jour : un jour est écrit dès que la lecture passe au suivant
+        LocalDate day = start;
+        long[] counts = new long[ReviewType.values().length];
+        try (Stream<ReviewTimelineProjection> rows = reviewDailyStatsRepository.streamTimeline(start, to)) {
+            for (ReviewTimelineProjection row : (Iterable<ReviewTimelineProjection>) rows::iterator) {
+                while (day.isBefore(row.getCreatedDate())) {
+                    writeTimelineRow(writer, day, counts);
+                    Arrays.fill(counts, 0);
+                    day = day.plusDays(1);
+                    if (++count % FLUSH_EVERY_ROWS == 0) {
+                        writer.flush();
+                    }
+                }
+                counts[row.getType().ordinal()] += row.getCount();
+            }
+        }
+        while (!day.isAfter(to)) {
+            writeTimelineRow(writer, day, counts);
+            Arrays.fill(counts, 0);
+            day = day.plusDays(1);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    // Tampon d'écriture unique, vidé explicitement : le flux sous-jacent reste ouvert
+    private static Writer csvWriter(OutputStream outputStream) {
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+    }
+
+    private static void writeTimelineRow(Writer writer, LocalDate day, long[] counts) throws IOException {
+        writer.write(day.toString());
+        for (ReviewType type : List.of(ReviewType.POSITIVE, ReviewType.NEGATIVE, ReviewType.NEUTRAL)) {
+            writer.write(',');
+            writer.write(Long.toString(counts[type.ordinal()]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Writes a free text field: quoted when it contains a separator, a quote or a line break
+     * (quotes doubled), and prefixed with an apostrophe when it starts like a spreadsheet
+     * formula, so that opening the file never evaluates a review text.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
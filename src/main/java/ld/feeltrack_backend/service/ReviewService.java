@@ -1,31 +1,108 @@
 package ld.feeltrack_backend.service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.archive.ReviewArchive;
+import ld.feeltrack_backend.cache.AggregationCache;
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
 import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.dto.ReviewTimelineDTO;
+import ld.feeltrack_backend.dto.TermCountDTO;
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.enums.TimelineGranularity;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.exception.ServiceNotReadyException;
 import ld.feeltrack_backend.external.nlp.FeelingAnalyser;
+import ld.feeltrack_backend.pagination.ReviewCursor;
 import ld.feeltrack_backend.projection.ReviewCountProjection;
 import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
 import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.search.ReviewSearchIndex;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndex;
+import ld.feeltrack_backend.stats.ReviewTopTerms;
+import ld.feeltrack_backend.stats.ReviewTypeCounters;
+import ld.feeltrack_backend.stats.UniqueReviewerSketches;
 
 @Service
 public class ReviewService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    // Environ 10 ans au pas journalier
+    public static final int MAX_TIMELINE_DAYS = 3_660;
+    public static final int MAX_TOP_TERMS = 50;
+
     private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository reviewArchiveRepository;
+    private final ReviewArchive reviewArchive;
     private final CustomerService customerService;
+    private final BoundedExecutor nlpExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ReviewTypeCounters reviewTypeCounters;
+    private final ReviewDailyStatsRepository reviewDailyStatsRepository;
+    private final ReviewDateRangeIndex reviewDateRangeIndex;
+    private final UniqueReviewerSketches uniqueReviewerSketches;
+    private final ReviewTopTerms reviewTopTerms;
+    private final AggregationCache aggregationCache;
+    // Écriture d'un avis et de ses agrégats synchrones (review_daily_stats) dans une même transaction
+    private final TransactionTemplate writeTransaction;
 
-    public ReviewService(CustomerService customerService, ReviewRepository reviewRepository) {
+    public ReviewService(CustomerService customerService, ReviewRepository reviewRepository,
+                         ReviewArchiveRepository reviewArchiveRepository, ReviewArchive reviewArchive,
+                         @Qualifier("nlpExecutor") BoundedExecutor nlpExecutor,
+                         ApplicationEventPublisher eventPublisher,
+                         ReviewSearchIndex reviewSearchIndex,
+                         ReviewTypeCounters reviewTypeCounters,
+                         ReviewDailyStatsRepository reviewDailyStatsRepository,
+                         ReviewDateRangeIndex reviewDateRangeIndex,
+                         UniqueReviewerSketches uniqueReviewerSketches,
+                         ReviewTopTerms reviewTopTerms,
+                         AggregationCache aggregationCache,
+                         PlatformTransactionManager transactionManager) {
         this.customerService = customerService;
         this.reviewRepository = reviewRepository;
+        this.reviewArchiveRepository = reviewArchiveRepository;
+        this.reviewArchive = reviewArchive;
+        this.nlpExecutor = nlpExecutor;
+        this.eventPublisher = eventPublisher;
+        this.reviewSearchIndex = reviewSearchIndex;
+        this.reviewTypeCounters = reviewTypeCounters;
+        this.reviewDailyStatsRepository = reviewDailyStatsRepository;
+        this.reviewDateRangeIndex = reviewDateRangeIndex;
+        this.uniqueReviewerSketches = uniqueReviewerSketches;
+        this.reviewTopTerms = reviewTopTerms;
+        this.aggregationCache = aggregationCache;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
     
     public Review createReview(Review review) {
@@ -52,25 +129,281 @@ public class ReviewService {
 
         review.setCustomer(customer);
 
-        // Analyse du type
-        review.setType(FeelingAnalyser.analyzeFeelingType(review.getText()));
+        // Analyse du type, limitée en nombre d'appels simultanés vers l'API NLP
+        String text = review.getText();
+        review.setType(nlpExecutor.call(() -> FeelingAnalyser.analyzeFeelingType(text)));
 
-        return reviewRepository.save(review);
+        return writeTransaction.execute(status -> {
+            Review savedReview = reviewRepository.save(review);
+            eventPublisher.publishEvent(new ReviewCreatedEvent(savedReview));
+            return savedReview;
+        });
     }
     
-    public List<Review> findReviews(ReviewType reviewType) {
+    /**
+     * Returns one page of reviews matching the filter, ordered on creation date.
+     *
+     * Archived reviews are all older than the reviews of the review table: the archive is only
+     * read when the {@link ReviewArchive} horizon says it may hold reviews of the page, after the
+     * review table for the most recent first, before it for the oldest first.
+     *
+     * @param fields    fields of the reviews to read, the others are left {@code null}
+     * @param direction {@code DESC} for the most recent first, {@code ASC} for the oldest first
+     * @param cursor    token returned as {@code nextCursor} by the previous page, {@code null} for the first page
+     * @param limit     maximum number of reviews in the page, between 1 and {@value #MAX_PAGE_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewDTO> findReviews(ReviewFilterDTO filter, FieldSet fields, Sort.Direction direction,
+                                                String cursor, int limit) {
+
+        checkLimit(limit);
+
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new IllegalArgumentException("Start date " + filter.from() + " is after end date " + filter.to() + ".");
+        }
+
+        ReviewCursor after = cursor == null || cursor.isBlank() ? null : ReviewCursor.decode(cursor);
 
-        if (reviewType == null) {
-            //Tri par date décroissante pour afficher les avis les plus récents en premier
-            return this.reviewRepository.findAllByOrderByCreatedAtDesc();
+        // Une ligne de plus que demandé pour savoir s'il existe une page suivante
+        List<ReviewDTO> reviews;
+        if (!reviewArchive.mayContain(filter, after, direction)) {
+            reviews = this.reviewRepository.findFiltered(filter, fields, after, direction, Limit.of(limit + 1));
+        } else if (direction == Sort.Direction.ASC) {
+            reviews = concat(
+                this.reviewArchiveRepository.findFiltered(filter, fields, after, direction, Limit.of(limit + 1)),
+                remaining -> this.reviewRepository.findFiltered(filter, fields, after, direction, remaining),
+                limit + 1);
+        } else {
+            reviews = concat(
+                this.reviewRepository.findFiltered(filter, fields, after, direction, Limit.of(limit + 1)),
+                remaining -> this.reviewArchiveRepository.findFiltered(filter, fields, after, direction, remaining),
+                limit + 1);
+        }
+
+        if (reviews.size() <= limit) {
+            return new CursorPageDTO<>(reviews, null);
         }
-        
-        return this.reviewRepository.findByTypeOrderByCreatedAtDesc(reviewType);
+
+        List<ReviewDTO> page = reviews.subList(0, limit);
+        return new CursorPageDTO<>(page, ReviewCursor.of(page.get(limit - 1)).encode());
     }
 
+    /**
+     * Returns one page of the reviews of a customer, ordered on creation date.
+     *
+     * The page is a single range scan of the {@code (customer_id, created_at, id)} index; the customer
+     * is only looked up when the first page is empty, to tell an unknown customer from one without reviews.
+     *
+     * @throws EntityNotFoundException if the customer does not exist
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewDTO> findCustomerReviews(int customerId, FieldSet fields, Sort.Direction direction,
+                                                        String cursor, int limit) {
+
+        CursorPageDTO<ReviewDTO> page = findReviews(ReviewFilterDTO.ofCustomer(customerId), fields, direction, cursor, limit);
+
+        if (page.getItems().isEmpty() && (cursor == null || cursor.isBlank())) {
+            customerService.getCustomerById(customerId);
+        }
+        return page;
+    }
+
+    /**
+     * Reviews containing every word of the query (case and accents ignored), most recent first.
+     *
+     * Matching is done by the in-memory {@link ReviewSearchIndex}; only the matching reviews are read from the database,
+     * from the archive for those no longer in the review table.
+     *
+     * @throws ServiceNotReadyException while the index is being built
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewDTO> searchReviews(String query, int limit) {
+
+        checkLimit(limit);
+        if (!reviewSearchIndex.isBuilt()) {
+            throw new ServiceNotReadyException("Search index is being built, retry in a few seconds.");
+        }
+
+        int[] ids = reviewSearchIndex.search(query, limit);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Integer> idList = Arrays.stream(ids).boxed().toList();
+        List<ReviewDTO> reviews = reviewRepository.findDtosByIdIn(idList);
+        if (reviews.size() == idList.size()) {
+            return reviews;
+        }
+
+        // Avis archivés, tous plus anciens : ajoutés à la suite
+        Set<Integer> found = new HashSet<>();
+        reviews.forEach(review -> found.add(review.getId()));
+        List<Integer> archivedIds = idList.stream().filter(id -> !found.contains(id)).toList();
+        return concat(reviews, remaining -> reviewArchiveRepository.findDtosByIdIn(archivedIds), idList.size());
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewDTO getReviewById(int id) {
+        return this.reviewRepository.findDtoById(id)
+            .or(() -> this.reviewArchiveRepository.findDtoById(id))
+            .orElseThrow(() -> notFound(id));
+    }
+
+    @Transactional(readOnly = true)
     public ReviewStatsDTO getReviewStats() {
 
-        List<ReviewCountProjection> results = reviewRepository.countReviewsByType();
+        // Compteurs en mémoire une fois initialisés : pas de COUNT sur toute la table
+        if (reviewTypeCounters.isSeeded()) {
+            return reviewTypeCounters.stats();
+        }
+
+        return aggregationCache.get("getReviewStats", List.of(), () -> toStats(reviewRepository.countReviewsByType()));
+    }
+
+    /**
+     * Number of reviews per type created between two days (included).
+     *
+     * Answered by the in-memory {@link ReviewDateRangeIndex} in O(log days) once it is built,
+     * from the daily rollup before.
+     */
+    @Transactional(readOnly = true)
+    public ReviewStatsDTO countReviewsBetween(LocalDate from, LocalDate to) {
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date " + from + " is after end date " + to + ".");
+        }
+
+        if (reviewDateRangeIndex.isSeeded()) {
+            return reviewDateRangeIndex.stats(from, to);
+        }
+        return aggregationCache.get("countReviewsBetween", List.of(from, to),
+            () -> toStats(reviewDailyStatsRepository.countByTypeBetween(from, to)));
+    }
+
+    /**
+     * Review counts by type between two days (included), bucketed by day, ISO week or month.
+     *
+     * Buckets are summed from the daily rollup (at most 3 rows per day), and every bucket of the
+     * range is present in the result, with zero counts when it has no review. Results are kept
+     * in the {@link AggregationCache} until the next review write.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}, or if the range exceeds
+     *                                  {@value #MAX_TIMELINE_DAYS} days
+     */
+    @Transactional(readOnly = true)
+    public ReviewTimelineDTO getTimeline(LocalDate from, LocalDate to, TimelineGranularity granularity) {
+
+        List<LocalDate> dates = timelineBuckets(from, to, granularity);
+
+        return aggregationCache.get("getTimeline", List.of(from, to, granularity),
+            () -> loadTimeline(from, to, granularity, dates));
+    }
+
+    private ReviewTimelineDTO loadTimeline(LocalDate from, LocalDate to, TimelineGranularity granularity,
+                                           List<LocalDate> dates) {
+
+        // Index de chaque période, dans l'ordre chronologique
+        Map<LocalDate, Integer> bucketIndexes = new HashMap<>();
+        for (int i = 0; i < dates.size(); i++) {
+            bucketIndexes.put(dates.get(i), i);
+        }
+
+        Map<ReviewType, long[]> counts = new EnumMap<>(ReviewType.class);
+        for (ReviewType type : ReviewType.values()) {
+            counts.put(type, new long[dates.size()]);
+        }
+
+        for (ReviewTimelineProjection row : reviewDailyStatsRepository.getTimeline(from, to)) {
+            int index = bucketIndexes.get(granularity.bucketStart(row.getCreatedDate()));
+            counts.get(row.getType())[index] += row.getCount();
+        }
+
+        return new ReviewTimelineDTO(granularity, from, to, dates,
+            counts.get(ReviewType.POSITIVE), counts.get(ReviewType.NEGATIVE), counts.get(ReviewType.NEUTRAL));
+    }
+
+    /**
+     * Estimated number of distinct customers who reviewed, by type, between two days (included),
+     * bucketed like {@link #getTimeline}.
+     *
+     * Each bucket merges the daily {@link UniqueReviewerSketches} it covers (about 1 % error):
+     * a customer reviewing on several days of a bucket counts once.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}, or if the range exceeds
+     *                                  {@value #MAX_TIMELINE_DAYS} days
+     */
+    public ReviewTimelineDTO getUniqueReviewers(LocalDate from, LocalDate to, TimelineGranularity granularity) {
+
+        List<LocalDate> dates = timelineBuckets(from, to, granularity);
+
+        Map<ReviewType, long[]> counts = new EnumMap<>(ReviewType.class);
+        for (ReviewType type : ReviewType.values()) {
+            long[] reviewers = new long[dates.size()];
+            for (int i = 0; i < dates.size(); i++) {
+                // Périodes extrêmes limitées à l'intervalle demandé
+                LocalDate bucketFrom = dates.get(i).isBefore(from) ? from : dates.get(i);
+                LocalDate bucketTo = granularity.nextBucketStart(dates.get(i)).minusDays(1);
+                reviewers[i] = uniqueReviewerSketches.estimate(type, bucketFrom, bucketTo.isAfter(to) ? to : bucketTo);
+            }
+            counts.put(type, reviewers);
+        }
+
+        return new ReviewTimelineDTO(granularity, from, to, dates,
+            counts.get(ReviewType.POSITIVE), counts.get(ReviewType.NEGATIVE), counts.get(ReviewType.NEUTRAL));
+    }
+
+    /**
+     * Terms mentioned by the most reviews of this type over the last {@code days} days
+     * (today included), most frequent first.
+     */
+    public List<TermCountDTO> getTopTerms(ReviewType type, int days, int limit) {
+
+        if (days < 1 || days > reviewTopTerms.getRetentionDays()) {
+            throw new IllegalArgumentException("Days must be between 1 and " + reviewTopTerms.getRetentionDays() + ".");
+        }
+        if (limit < 1 || limit > MAX_TOP_TERMS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_TERMS + ".");
+        }
+
+        LocalDate today = LocalDate.now();
+        return reviewTopTerms.top(type, today.minusDays(days - 1L), today, limit);
+    }
+
+    /**
+     * Deletes a review of the review table.
+     *
+     * The {@link ReviewDeletedEvent} is published only by the transaction whose DELETE removed the row:
+     * when the same review is deleted twice concurrently, the second DELETE waits for the row lock,
+     * removes nothing and answers 404, so the rollups and counters are decremented once.
+     *
+     * @throws EntityNotFoundException if the review does not exist or is archived, archived reviews being read-only
+     */
+    public void deleteReview(int id) {
+        writeTransaction.executeWithoutResult(status -> {
+            Review review = this.reviewRepository.findById(id)
+                .orElseThrow(() -> notFound(id));
+
+            if (this.reviewRepository.deleteReviewById(id) == 0) {
+                throw notFound(id);
+            }
+            eventPublisher.publishEvent(new ReviewDeletedEvent(review));
+        });
+    }
+
+    private static EntityNotFoundException notFound(int id) {
+        return new EntityNotFoundException("No review found with the ID : " + id + ".");
+    }
+
+    // Première liste complétée par la seconde, lue seulement si la première n'atteint pas la limite
+    private static List<ReviewDTO> concat(List<ReviewDTO> first, Function<Limit, List<ReviewDTO>> next, int limit) {
+        if (first.size() >= limit) {
+            return first;
+        }
+        List<ReviewDTO> reviews = new ArrayList<>(first);
+        reviews.addAll(next.apply(Limit.of(limit - first.size())));
+        return reviews;
+    }
+
+    private static ReviewStatsDTO toStats(List<ReviewCountProjection> results) {
 
         Map<ReviewType, Long> reviewsCountByType = new EnumMap<>(ReviewType.class);
 
@@ -85,20 +418,27 @@ public class ReviewService {
         );
     }
 
-    // Get review counts grouped by day and type for the last N days
-    public List<ReviewTimelineProjection> getTimeline(int days) {
+    // Premier jour de chaque période de l'intervalle, dans l'ordre chronologique
+    private static List<LocalDate> timelineBuckets(LocalDate from, LocalDate to, TimelineGranularity granularity) {
 
-        LocalDate from = LocalDate.now().minusDays(days);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date " + from + " is after end date " + to + ".");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TIMELINE_DAYS) {
+            throw new IllegalArgumentException("Timeline range cannot exceed " + MAX_TIMELINE_DAYS + " days.");
+        }
 
-        return reviewRepository.getTimeline(from);
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate bucket = granularity.bucketStart(from); !bucket.isAfter(to); bucket = granularity.nextBucketStart(bucket)) {
+            dates.add(bucket);
+        }
+        return dates;
     }
 
-    public void deleteReview(int id) {
-        // Vérification que l'avis existe avant de tenter de le supprimer
-        if (!this.reviewRepository.existsById(id)) {
-            throw new EntityNotFoundException("No review found with the ID : " + id + ".");
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
         }
-        this.reviewRepository.deleteById(id);
     }
 
 }
\ No newline at end of file
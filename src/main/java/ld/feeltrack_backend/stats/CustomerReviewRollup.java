@@ -0,0 +1,59 @@
+package ld.feeltrack_backend.stats;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+
+/**
+ * Keeps the {@code customer_review_stats} rollup in step with the review table.
+ *
+ * Like {@link ReviewDailyRollup}, the rollup is updated synchronously inside the transaction
+ * that writes the review. A creation is a single upsert on the row of the customer, which also
+ * creates the row on the first review of the customer without a second connection.
+ */
+@Component
+public class CustomerReviewRollup {
+
+    private final CustomerReviewStatsRepository repository;
+
+    public CustomerReviewRollup(CustomerReviewStatsRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        Review review = event.review();
+        if (review.getCustomer() == null) {
+            return;
+        }
+        ReviewType type = review.getType();
+        repository.upsertReview(review.getCustomer().getId(),
+            delta(type, ReviewType.POSITIVE), delta(type, ReviewType.NEGATIVE), delta(type, ReviewType.NEUTRAL),
+            review.getCreatedAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        Review review = event.review();
+        if (review.getCustomer() == null) {
+            return;
+        }
+        ReviewType type = review.getType();
+        // Pas de ligne : client antérieur au rollup, corrigé par la prochaine reconstruction
+        repository.removeReview(review.getCustomer().getId(),
+            delta(type, ReviewType.POSITIVE), delta(type, ReviewType.NEGATIVE), delta(type, ReviewType.NEUTRAL));
+    }
+
+    private static long delta(ReviewType type, ReviewType counted) {
+        return type == counted ? 1 : 0;
+    }
+}
@@ -0,0 +1,74 @@
+package ld.feeltrack_backend.stats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Recomputes the {@code customer_review_stats} rollup from the review table and its archive.
+ *
+ * - at startup, when the rollup is empty while reviews exist (first deployment, restored database) ;
+ * - every night ({@code app.stats.customer-rollup.rebuild-cron}), to fix any drift left by a
+ *   direct SQL change.
+ *
+ * Every customer may receive a review at any time: a review written while the rebuild runs
+ * may be missed until the next run, hence the nightly schedule, outside of business hours.
+ */
+@Component
+public class CustomerReviewRollupRebuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerReviewRollupRebuilder.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final CustomerReviewStatsRepository customerStatsRepository;
+    private final TransactionTemplate transaction;
+
+    public CustomerReviewRollupRebuilder(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                                         CustomerReviewStatsRepository customerStatsRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.customerStatsRepository = customerStatsRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (customerStatsRepository.count() == 0
+            && (reviewRepository.findFirstCreatedDate().isPresent() || archiveRepository.findFirstCreatedDate().isPresent())) {
+            rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.customer-rollup.rebuild-cron:0 15 4 * * *}")
+    public void onSchedule() {
+        rebuildAll();
+    }
+
+    /**
+     * Replaces every row in one transaction.
+     *
+     * @return the number of rows written, one per customer with at least one review
+     */
+    public int rebuildAll() {
+        long start = System.nanoTime();
+
+        int written = transaction.execute(status -> {
+            customerStatsRepository.deleteAllInBatch();
+            return customerStatsRepository.insertAllFromReviews();
+        });
+
+        LOGGER.info("Customer review rollup rebuilt : {} rows in {} ms", written, (System.nanoTime() - start) / 1_000_000);
+        return written;
+    }
+}
@@ -0,0 +1,153 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch: estimates the number of distinct values added, in bounded memory.
+ *
+ * Each value is hashed to 64 bits; the first {@value #PRECISION} bits select one of the
+ * {@code 2^14} registers, which keeps the longest run of leading zeros seen in the remaining
+ * bits. The estimate derives from the harmonic mean of the registers, with a standard error
+ * of {@code 1.04 / sqrt(2^14)}, about 0.8 %. Two sketches merge by taking the maximum of
+ * each register, so the sketches of several days combine into the sketch of the range.
+ *
+ * A sketch starts sparse: only the non-zero registers are stored, as sorted
+ * {@code register << 8 | rank} integers, which is much smaller for the few hundred values
+ * of a typical day. It switches to one byte per register once that becomes more compact.
+ *
+ * Values can only be added, not removed. Not thread-safe: access is guarded by
+ * {@link UniqueReviewerSketches}.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 14;
+    public static final int REGISTERS = 1 << PRECISION;
+
+    // Au-delà, 4 octets par registre non nul dépassent le quart de la forme dense
+    private static final int SPARSE_LIMIT = REGISTERS / 16;
+
+    private int[] sparse = new int[4];
+    private int sparseSize;
+    private byte[] registers;
+
+    public void add(long value) {
+        long hash = mix(value);
+        int register = (int) (hash >>> (Long.SIZE - PRECISION));
+        // Le bit sentinelle borne le rang à 64 - PRECISION + 1
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        if (registers != null) {
+            registers[register] = (byte) Math.max(registers[register], rank);
+            return;
+        }
+
+        int position = findSparse(register);
+        if (position >= 0) {
+            sparse[position] = Math.max(sparse[position], register << 8 | rank);
+            return;
+        }
+        if (sparseSize == SPARSE_LIMIT) {
+            toDense();
+            registers[register] = (byte) Math.max(registers[register], rank);
+            return;
+        }
+        int insertion = -position - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, SPARSE_LIMIT));
+        }
+        System.arraycopy(sparse, insertion, sparse, insertion + 1, sparseSize - insertion);
+        sparse[insertion] = register << 8 | rank;
+        sparseSize++;
+    }
+
+    /**
+     * Merges this sketch into {@code target}, an array of {@value #REGISTERS} registers.
+     */
+    public void mergeInto(byte[] target) {
+        if (registers != null) {
+            for (int i = 0; i < REGISTERS; i++) {
+                target[i] = (byte) Math.max(target[i], registers[i]);
+            }
+            return;
+        }
+        for (int i = 0; i < sparseSize; i++) {
+            int register = sparse[i] >>> 8;
+            target[register] = (byte) Math.max(target[register], sparse[i] & 0xFF);
+        }
+    }
+
+    public long estimate() {
+        if (registers != null) {
+            return estimate(registers);
+        }
+        // Forme creuse : peu de registres occupés, domaine du comptage linéaire
+        return linearCounting(REGISTERS - sparseSize);
+    }
+
+    /**
+     * Estimated number of distinct values of the merged registers.
+     */
+    public static long estimate(byte[] registers) {
+        double sum = 0;
+        int zeros = 0;
+        for (byte rank : registers) {
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / REGISTERS);
+        double raw = alpha * REGISTERS * REGISTERS / sum;
+
+        // Correction des petites cardinalités (pas de correction des grandes avec un hachage sur 64 bits)
+        if (raw <= 2.5 * REGISTERS && zeros > 0) {
+            return linearCounting(zeros);
+        }
+        return Math.round(raw);
+    }
+
+    // Taille occupée par les registres, pour les statistiques
+    public int sizeInBytes() {
+        return registers != null ? registers.length : sparse.length * Integer.BYTES;
+    }
+
+    private static long linearCounting(int zeros) {
+        return Math.round(REGISTERS * Math.log((double) REGISTERS / zeros));
+    }
+
+    private int findSparse(int register) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int current = sparse[middle] >>> 8;
+            if (current < register) {
+                low = middle + 1;
+            } else if (current > register) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void toDense() {
+        byte[] dense = new byte[REGISTERS];
+        mergeInto(dense);
+        registers = dense;
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    // Finaliseur de MurmurHash3 : répartit uniformément des identifiants consécutifs sur 64 bits
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
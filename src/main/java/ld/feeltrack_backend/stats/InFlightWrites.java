@@ -0,0 +1,50 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Review writes between the {@code BEFORE_COMMIT} phase and the end of their transaction.
+ *
+ * A committed write is visible to the database reads of other transactions before the
+ * after-commit listeners apply it in memory. A structure replaced from such a read would then
+ * count the write twice: once in the read, once when its listener runs. Counting the writes
+ * from before their commit until their transaction completes closes that window, which the
+ * write sequences of the structures alone do not see.
+ *
+ * The release runs after the after-commit listeners ordered ahead of it, so a write is never
+ * both released and not yet applied.
+ */
+final class InFlightWrites {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Counts a write of the current transaction, released when the transaction completes,
+     * committed or rolled back. Does nothing outside of a transaction.
+     */
+    void begin() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        count.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                count.decrementAndGet();
+            }
+        });
+    }
+
+    boolean any() {
+        return count.get() > 0;
+    }
+}
@@ -0,0 +1,268 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.NegativeSpikeEvent;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+
+/**
+ * Detects bursts of negative reviews as they are classified, without querying the database.
+ *
+ * Reviews are counted per minute and per {@link ReviewType}. When a minute ends, its counts
+ * are folded into an exponentially weighted mean and variance per type (the baseline), so
+ * that each review costs a constant amount of work whatever the history. The number of
+ * negative reviews of the current minute, and of the last ended one, is compared with the
+ * baseline as a z-score: above {@code app.stats.spikes.z-threshold}, and with at least
+ * {@code app.stats.spikes.min-count} reviews, the detector enters the alert state.
+ *
+ * No alert is raised before {@code app.stats.spikes.warm-up-minutes} minutes of baseline.
+ * Each transition is logged and published as a {@link NegativeSpikeEvent}.
+ */
+@Component
+public class NegativeSpikeDetector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NegativeSpikeDetector.class);
+
+    // Au-delà, les minutes vides supplémentaires ne changent plus sensiblement la référence
+    private static final int MAX_IDLE_MINUTES_FOLDED = 24 * 60;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final double alpha;
+    private final double zThreshold;
+    private final long minCount;
+    private final long warmUpMinutes;
+
+    private final Map<ReviewType, Baseline> baselines = new EnumMap<>(ReviewType.class);
+    private final Map<ReviewType, long[]> currentCounts = new EnumMap<>(ReviewType.class);
+    private final Lock lock = new ReentrantLock();
+
+    private long currentMinute = Long.MIN_VALUE;
+    private long previousNegativeCount;
+    private double previousZScore;
+    private long foldedMinutes;
+    private boolean alerting;
+
+    public NegativeSpikeDetector(
+        ApplicationEventPublisher eventPublisher,
+        @Value("${app.stats.spikes.alpha:0.02}") double alpha,
+        @Value("${app.stats.spikes.z-threshold:3.0}") double zThreshold,
+        @Value("${app.stats.spikes.min-count:5}") long minCount,
+        @Value("${app.stats.spikes.warm-up-minutes:30}") long warmUpMinutes
+    ) {
+        if (alpha <= 0 || alpha >= 1) {
+            throw new IllegalArgumentException("Spike detector smoothing factor must be between 0 and 1 exclusive.");
+        }
+        this.eventPublisher = eventPublisher;
+        this.alpha = alpha;
+        this.zThreshold = zThreshold;
+        this.minCount = minCount;
+        this.warmUpMinutes = warmUpMinutes;
+        for (ReviewType type : ReviewType.values()) {
+            baselines.put(type, new Baseline());
+            currentCounts.put(type, new long[1]);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        if (event.review().getType() != null) {
+            record(event.review().getType(), Instant.now());
+        }
+    }
+
+    /**
+     * Ends the elapsed minutes even when no review arrives, so that an alert is cleared
+     * once the reviews calm down.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.spikes.tick-interval:PT10S}")
+    public void tick() {
+        advanceTo(Instant.now());
+    }
+
+    public void record(ReviewType type, Instant at) {
+        NegativeSpikeEvent transition;
+        lock.lock();
+        try {
+            roll(epochMinute(at));
+            currentCounts.get(type)[0]++;
+            transition = evaluate();
+        } finally {
+            lock.unlock();
+        }
+        publish(transition);
+    }
+
+    public void advanceTo(Instant now) {
+        NegativeSpikeEvent transition;
+        lock.lock();
+        try {
+            roll(epochMinute(now));
+            transition = evaluate();
+        } finally {
+            lock.unlock();
+        }
+        publish(transition);
+    }
+
+    /**
+     * Current state of the detector, after ending the minutes elapsed before {@code now}.
+     */
+    public SpikeState state(Instant now) {
+        advanceTo(now);
+        lock.lock();
+        try {
+            Baseline negative = baselines.get(ReviewType.NEGATIVE);
+            Map<ReviewType, Long> counts = new EnumMap<>(ReviewType.class);
+            Map<ReviewType, Double> means = new EnumMap<>(ReviewType.class);
+            for (ReviewType type : ReviewType.values()) {
+                counts.put(type, currentCounts.get(type)[0]);
+                means.put(type, baselines.get(type).mean);
+            }
+            return new SpikeState(
+                alerting,
+                Math.max(zScore(currentCounts.get(ReviewType.NEGATIVE)[0]), previousZScore),
+                negative.mean,
+                negative.standardDeviation(),
+                counts,
+                means,
+                foldedMinutes >= warmUpMinutes
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SpikeState state() {
+        return state(Instant.now());
+    }
+
+    private void roll(long minute) {
+        if (currentMinute == Long.MIN_VALUE) {
+            currentMinute = minute;
+            return;
+        }
+        if (minute <= currentMinute) {
+            // Horloge revenue en arrière (ou même minute) : comptée dans la minute courante
+            return;
+        }
+        long elapsed = minute - currentMinute;
+        long folded = Math.min(elapsed, MAX_IDLE_MINUTES_FOLDED);
+        for (long i = 0; i < folded; i++) {
+            endMinute();
+        }
+        currentMinute = minute;
+    }
+
+    private void endMinute() {
+        long negativeCount = currentCounts.get(ReviewType.NEGATIVE)[0];
+        // Écart mesuré par rapport à la référence antérieure, avant d'y intégrer la minute
+        previousNegativeCount = negativeCount;
+        previousZScore = zScore(negativeCount);
+        for (ReviewType type : ReviewType.values()) {
+            long[] count = currentCounts.get(type);
+            baselines.get(type).add(count[0], alpha);
+            count[0] = 0;
+        }
+        foldedMinutes++;
+    }
+
+    private NegativeSpikeEvent evaluate() {
+        if (foldedMinutes < warmUpMinutes) {
+            return null;
+        }
+        long currentCount = currentCounts.get(ReviewType.NEGATIVE)[0];
+        double currentZScore = zScore(currentCount);
+        boolean currentSpike = currentCount >= minCount && currentZScore >= zThreshold;
+        boolean previousSpike = previousNegativeCount >= minCount && previousZScore >= zThreshold;
+        boolean spike = currentSpike || previousSpike;
+        if (spike == alerting) {
+            return null;
+        }
+        alerting = spike;
+        long minute = currentSpike ? currentMinute : currentMinute - 1;
+        return new NegativeSpikeEvent(
+            Instant.ofEpochSecond(minute * 60),
+            currentSpike ? currentCount : previousNegativeCount,
+            baselines.get(ReviewType.NEGATIVE).mean,
+            currentSpike ? currentZScore : previousZScore,
+            spike
+        );
+    }
+
+    private double zScore(long count) {
+        Baseline negative = baselines.get(ReviewType.NEGATIVE);
+        // Plancher à 1 avis/minute : évite un score infini sur une référence constante (0 avis la nuit)
+        return (count - negative.mean) / Math.max(negative.standardDeviation(), 1.0);
+    }
+
+    private void publish(NegativeSpikeEvent transition) {
+        if (transition == null) {
+            return;
+        }
+        if (transition.alerting()) {
+            LOGGER.warn("Negative reviews spike : {} in the minute of {}, baseline {} per minute (z-score {})",
+                transition.count(), transition.minute(), String.format("%.2f", transition.baseline()),
+                String.format("%.1f", transition.zScore()));
+        } else {
+            LOGGER.info("Negative reviews back to baseline since {}", transition.minute());
+        }
+        eventPublisher.publishEvent(transition);
+    }
+
+    private static long epochMinute(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.MINUTES).getEpochSecond() / 60;
+    }
+
+    /**
+     * Exponentially weighted mean and variance of a per-minute count.
+     */
+    private static final class Baseline {
+
+        private double mean;
+        private double variance;
+
+        void add(long value, double alpha) {
+            double delta = value - mean;
+            double increment = alpha * delta;
+            mean += increment;
+            variance = (1 - alpha) * (variance + delta * increment);
+        }
+
+        double standardDeviation() {
+            return Math.sqrt(variance);
+        }
+    }
+
+    /**
+     * Snapshot of the detector exposed on the actuator endpoint.
+     *
+     * @param zScore         highest z-score of the current and the last ended minute
+     * @param currentCounts  reviews per type in the current minute
+     * @param baselines      smoothed reviews per minute, per type
+     * @param warmedUp       whether the baseline is long enough for alerts to be raised
+     */
+    public record SpikeState(
+        boolean alerting,
+        double zScore,
+        double negativeBaseline,
+        double negativeStandardDeviation,
+        Map<ReviewType, Long> currentCounts,
+        Map<ReviewType, Double> baselines,
+        boolean warmedUp
+    ) {
+    }
+}
@@ -0,0 +1,55 @@
+package ld.feeltrack_backend.stats;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+
+/**
+ * Keeps the {@code review_daily_stats} rollup in step with the review table.
+ *
+ * Unlike the other consumers of review events, which run after the commit, the rollup is
+ * updated synchronously inside the transaction that writes the review: both are committed
+ * or rolled back together. The listeners therefore require a running transaction.
+ *
+ * The count of a day is updated in place ({@code count = count + delta}), which serializes
+ * concurrent writers on the row lock. A creation is an upsert, so the first review of a day
+ * and type creates the row in the same statement: no nested transaction holding a second
+ * pooled connection while the first one waits, and two writers racing to create the row
+ * simply queue on its lock.
+ */
+@Component
+public class ReviewDailyRollup {
+
+    private final ReviewDailyStatsRepository repository;
+
+    public ReviewDailyRollup(ReviewDailyStatsRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        Review review = event.review();
+        if (review.getType() == null) {
+            return;
+        }
+        repository.upsertCount(review.getCreatedDate(), review.getType(), 1);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        Review review = event.review();
+        if (review.getType() == null) {
+            return;
+        }
+        // Pas de ligne : avis antérieur au rollup, corrigé par la prochaine reconstruction
+        repository.addToCount(review.getCreatedDate(), review.getType(), -1);
+    }
+}
@@ -0,0 +1,103 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Recomputes the {@code review_daily_stats} rollup from the review table and its archive.
+ *
+ * - at startup, when the rollup is empty while reviews exist (first deployment, restored database) ;
+ * - every night ({@code app.stats.daily-rollup.rebuild-cron}), for the last
+ *   {@code app.stats.daily-rollup.rebuild-days} days up to yesterday, to fix any drift
+ *   left by a direct SQL change.
+ *
+ * Reviews are always created on the current day, so past days only change on deletion:
+ * the nightly run does not race with review creations.
+ */
+@Component
+public class ReviewDailyRollupRebuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewDailyRollupRebuilder.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final ReviewDailyStatsRepository dailyStatsRepository;
+    private final TransactionTemplate transaction;
+    private final int rebuildDays;
+
+    public ReviewDailyRollupRebuilder(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                                      ReviewDailyStatsRepository dailyStatsRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.stats.daily-rollup.rebuild-days:7}") int rebuildDays) {
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rebuildDays = rebuildDays;
+    }
+
+    // Avant les structures en mémoire construites depuis le rollup
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (dailyStatsRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.daily-rollup.rebuild-cron:0 30 3 * * *}")
+    public void onSchedule() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuild(yesterday.minusDays(rebuildDays - 1L), yesterday);
+    }
+
+    /**
+     * Rebuilds every day, from the first review (archived or not) to today.
+     *
+     * @return the number of rows written
+     */
+    public int rebuildAll() {
+        LocalDate today = LocalDate.now();
+        LocalDate first = archiveRepository.findFirstCreatedDate()
+            .or(reviewRepository::findFirstCreatedDate)
+            .orElse(today);
+        return replace(dailyStatsRepository::deleteAllInBatch, first, today);
+    }
+
+    /**
+     * Replaces the rows of the days between {@code from} and {@code to} (included) in one transaction.
+     *
+     * @return the number of rows written
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        return replace(() -> dailyStatsRepository.deleteBetween(from, to), from, to);
+    }
+
+    private int replace(Runnable deleteRows, LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+
+        int written = transaction.execute(status -> {
+            deleteRows.run();
+            return dailyStatsRepository.insertCountsBetween(from, to);
+        });
+
+        LOGGER.info("Review daily rollup rebuilt from {} to {} : {} rows in {} ms",
+            from, to, written, (System.nanoTime() - start) / 1_000_000);
+        return written;
+    }
+}
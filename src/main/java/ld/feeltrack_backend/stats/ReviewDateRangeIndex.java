@@ -0,0 +1,234 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+
+/**
+ * Number of reviews per {@link ReviewType} between any two days, answered from memory.
+ *
+ * Each type has a Fenwick tree (binary indexed tree) over the days, stored in a {@code long[]}
+ * where slot {@code i} holds the sum of the {@code i & -i} days ending at day {@code i}. Adding
+ * a review and counting a range both walk O(log days) slots, whatever the length of the range.
+ *
+ * Days are numbered from an origin (the first day of the history); the trees are rebuilt with a
+ * larger capacity when a day falls outside of them. The index is seeded from the daily rollup by
+ * {@link ReviewDateRangeIndexLoader}, then follows the committed creations and deletions. Until
+ * the first seeding, {@link #isSeeded()} is {@code false} and the callers must read the database.
+ *
+ * The index answers {@code /review/stats/range} and the SSE stats payload: like
+ * {@link ReviewTypeCounters}, it applies a write before the caches and the ETag are invalidated.
+ */
+@Component
+public class ReviewDateRangeIndex {
+
+    // Un peu plus de 2 ans au pas journalier, doublé au besoin
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Les champs suivants ne sont lus et écrits que sous le verrou
+    private long originEpochDay;
+    private long[][] trees;
+    private long writeSequence;
+    private final InFlightWrites inFlightWrites = new InFlightWrites();
+    private volatile boolean seeded;
+
+    // Le rollup journalier lu par un rechargement peut déjà contenir une écriture pas encore appliquée ici
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT,
+                                classes = { ReviewCreatedEvent.class, ReviewDeletedEvent.class })
+    public void onReviewCommitting() {
+        inFlightWrites.begin();
+    }
+
+    // Appliqué avant l'invalidation des caches et de l'ETag, qui servent ces comptes
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        add(event.review().getCreatedDate(), event.review().getType(), 1);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        add(event.review().getCreatedDate(), event.review().getType(), -1);
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Number of reviews of the given type created between {@code from} and {@code to} (included).
+     */
+    public long count(ReviewType type, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            if (trees == null) {
+                return 0;
+            }
+            long[] tree = trees[type.ordinal()];
+            int capacity = tree.length - 1;
+            long first = Math.max(0, from.toEpochDay() - originEpochDay);
+            long last = Math.min(capacity - 1L, to.toEpochDay() - originEpochDay);
+            if (first > last) {
+                return 0;
+            }
+            return prefixSum(tree, (int) last + 1) - prefixSum(tree, (int) first);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ReviewStatsDTO stats(LocalDate from, LocalDate to) {
+        return new ReviewStatsDTO(
+            count(ReviewType.POSITIVE, from, to),
+            count(ReviewType.NEGATIVE, from, to),
+            count(ReviewType.NEUTRAL, from, to)
+        );
+    }
+
+    /**
+     * Number of writes applied so far, to be read before reading the daily counts in the database.
+     */
+    public long writeSequence() {
+        lock.readLock().lock();
+        try {
+            return writeSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the trees from daily counts read in the database, unless a write was applied since
+     * {@code expectedWriteSequence} was read, or is committing and not applied yet: the counts may
+     * then already include it, or not, and the replacement is left to a later attempt.
+     *
+     * @return {@code true} if the trees were replaced
+     */
+    public boolean replaceIfNoWriteSince(Collection<? extends ReviewTimelineProjection> dailyCounts,
+                                         long expectedWriteSequence) {
+        long first = LocalDate.now().toEpochDay();
+        long last = first;
+        for (ReviewTimelineProjection row : dailyCounts) {
+            first = Math.min(first, row.getCreatedDate().toEpochDay());
+            last = Math.max(last, row.getCreatedDate().toEpochDay());
+        }
+
+        // Valeurs journalières (indices à partir de 1), converties en arbres en O(n)
+        long[][] newTrees = new long[ReviewType.values().length][capacityFor(last - first + 1) + 1];
+        for (ReviewTimelineProjection row : dailyCounts) {
+            newTrees[row.getType().ordinal()][(int) (row.getCreatedDate().toEpochDay() - first) + 1] += row.getCount();
+        }
+        for (long[] tree : newTrees) {
+            toTree(tree);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (writeSequence != expectedWriteSequence || inFlightWrites.any()) {
+                return false;
+            }
+            originEpochDay = first;
+            trees = newTrees;
+            seeded = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(LocalDate day, ReviewType type, long delta) {
+        if (day == null || type == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            writeSequence++;
+            if (trees == null) {
+                return;
+            }
+            long index = day.toEpochDay() - originEpochDay;
+            if (index < 0 || index >= trees[0].length - 1) {
+                grow(day.toEpochDay());
+                index = day.toEpochDay() - originEpochDay;
+            }
+            long[] tree = trees[type.ordinal()];
+            for (int i = (int) index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Reconstruit les arbres pour couvrir le jour donné (appelé sous le verrou d'écriture)
+    private void grow(long epochDay) {
+        int capacity = trees[0].length - 1;
+        long first = Math.min(originEpochDay, epochDay);
+        long last = Math.max(originEpochDay + capacity - 1, epochDay);
+        int shift = (int) (originEpochDay - first);
+
+        long[][] newTrees = new long[trees.length][capacityFor(last - first + 1) + 1];
+        for (int type = 0; type < trees.length; type++) {
+            long[] values = trees[type].clone();
+            toValues(values);
+            System.arraycopy(values, 1, newTrees[type], 1 + shift, capacity);
+            toTree(newTrees[type]);
+        }
+        originEpochDay = first;
+        trees = newTrees;
+    }
+
+    private static int capacityFor(long days) {
+        if (days > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Date range too wide for the index : " + days + " days.");
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < days) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long prefixSum(long[] tree, int count) {
+        long sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // Valeurs journalières -> arbre de Fenwick, en place
+    private static void toTree(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < values.length) {
+                values[parent] += values[i];
+            }
+        }
+    }
+
+    // Arbre de Fenwick -> valeurs journalières, en place (inverse de toTree)
+    private static void toValues(long[] tree) {
+        for (int i = tree.length - 1; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] -= tree[i];
+            }
+        }
+    }
+}
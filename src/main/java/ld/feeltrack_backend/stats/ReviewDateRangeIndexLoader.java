@@ -0,0 +1,71 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+
+/**
+ * Builds the {@link ReviewDateRangeIndex} from the {@code review_daily_stats} rollup once the
+ * application is started (after the rollup itself), then rebuilds it at a fixed interval
+ * ({@code app.stats.range-index.reload-interval}) to pick up the nightly rollup corrections.
+ *
+ * A load is only applied when no review write was applied to the index while the rollup was
+ * read (on the primary), and none is between its commit and its after-commit listener; otherwise
+ * it is retried a few times, then left to the next interval.
+ */
+@Component
+public class ReviewDateRangeIndexLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewDateRangeIndexLoader.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ReviewDailyStatsRepository dailyStatsRepository;
+    private final ReviewDateRangeIndex index;
+
+    public ReviewDateRangeIndexLoader(ReviewDailyStatsRepository dailyStatsRepository, ReviewDateRangeIndex index) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.index = index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.stats.range-index.reload-interval:PT1H}",
+        fixedDelayString = "${app.stats.range-index.reload-interval:PT1H}"
+    )
+    public void onSchedule() {
+        reload();
+    }
+
+    /**
+     * @return {@code true} if the index now holds the rollup counts
+     */
+    public boolean reload() {
+        long start = System.nanoTime();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            long writeSequence = index.writeSequence();
+            List<ReviewTimelineProjection> dailyCounts = PrimaryPin.call(dailyStatsRepository::findAllCounts);
+
+            if (index.replaceIfNoWriteSince(dailyCounts, writeSequence)) {
+                LOGGER.info("Date range index built : {} daily counts in {} ms",
+                    dailyCounts.size(), (System.nanoTime() - start) / 1_000_000);
+                return true;
+            }
+        }
+        LOGGER.info("Date range index reload postponed : concurrent writes during {} attempts", MAX_ATTEMPTS);
+        return false;
+    }
+}
@@ -0,0 +1,201 @@
+package ld.feeltrack_backend.stats;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.dto.ReviewStatsUpdateDTO;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.service.ReviewService;
+
+/**
+ * Server-Sent Events stream of the live review stats, replacing the polling of
+ * {@code /review/stats} and of the timeline by the dashboards.
+ *
+ * A subscriber receives the current stats on subscription, then a new
+ * {@link ReviewStatsUpdateDTO} whenever reviews were created or deleted. Writes are
+ * coalesced: at most one event per {@code app.stats.stream.interval}, computed and
+ * serialized once for all the subscribers. A write is flagged after {@link ReviewTypeCounters}
+ * and {@link ReviewDateRangeIndex} applied it, so the next event always includes it.
+ *
+ * Each subscriber has a bounded buffer drained by its own virtual thread, so a slow client
+ * never delays the others: once its buffer ({@code app.stats.stream.buffer-size} events) is
+ * full, the subscriber is disconnected and its browser reconnects later on a fresh snapshot.
+ * A comment is sent every {@code app.stats.stream.heartbeat-interval} to keep idle
+ * connections open through proxies and to detect the closed ones.
+ */
+@Component
+public class ReviewStatsStream {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewStatsStream.class);
+
+    private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadFactory senderFactory = Thread.ofVirtual().name("stats-stream-", 0).factory();
+    // Écritures validées depuis le dernier événement diffusé
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final AtomicLong eventId = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ReviewStatsStream(ReviewService reviewService, ObjectMapper objectMapper,
+                             @Value("${app.stats.stream.buffer-size:16}") int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Stats stream buffer size must be at least 1.");
+        }
+        this.reviewService = reviewService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+    }
+
+    // Signalé après les compteurs et l'index des plages : un événement diffusé dans l'intervalle
+    // porterait les statistiques d'avant l'écriture et effacerait l'indicateur
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        changed.set(true);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        changed.set(true);
+    }
+
+    /**
+     * Registers a new subscriber, which first receives the current stats.
+     */
+    public SseEmitter subscribe() {
+        // Délai d'expiration par défaut des réponses asynchrones (spring.mvc.async.request-timeout)
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber, false));
+        emitter.onTimeout(() -> unsubscribe(subscriber, false));
+        emitter.onError(error -> unsubscribe(subscriber, false));
+
+        subscriber.buffer.offer(statsEvent());
+        subscribers.add(subscriber);
+        subscriber.sender = senderFactory.newThread(subscriber::drain);
+        subscriber.sender.start();
+        return emitter;
+    }
+
+    /**
+     * Sends the current stats to every subscriber if reviews were written since the last event.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.stream.interval:PT1S}")
+    public void publishChanges() {
+        if (!changed.getAndSet(false) || subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(statsEvent());
+    }
+
+    @Scheduled(fixedRateString = "${app.stats.stream.heartbeat-interval:PT30S}")
+    public void sendHeartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Number of subscribers disconnected so far because they did not keep up.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void broadcast(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(event)) {
+                dropped.incrementAndGet();
+                LOGGER.debug("Stats stream subscriber dropped : {} events pending", bufferSize);
+                unsubscribe(subscriber, true);
+            }
+        }
+    }
+
+    // Événement calculé et sérialisé une seule fois, partagé par tous les abonnés
+    private Set<DataWithMediaType> statsEvent() {
+        LocalDate today = LocalDate.now();
+        ReviewStatsUpdateDTO update = new ReviewStatsUpdateDTO(
+            reviewService.getReviewStats(), today, reviewService.countReviewsBetween(today, today)
+        );
+        try {
+            return SseEmitter.event()
+                .id(Long.toString(eventId.incrementAndGet()))
+                .name("stats")
+                .data(objectMapper.writeValueAsString(update), MediaType.APPLICATION_JSON)
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the review stats", e);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber, boolean complete) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        if (subscriber.sender != null) {
+            subscriber.sender.interrupt();
+        }
+        if (complete) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    emitter.send(buffer.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // Client déconnecté ou réponse déjà terminée
+                unsubscribe(this, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.dto.TermCountDTO;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.search.TextTokenizer;
+
+/**
+ * Most frequent terms of the recent reviews, per day and {@link ReviewType}, as
+ * {@link SpaceSaving} summaries kept in memory.
+ *
+ * Each review counts once for every distinct term of its text, stop words excluded. The
+ * top terms of a window are obtained by summing the daily summaries of its days, so the
+ * memory stays bounded by {@code retention-days × types × capacity} counters whatever the
+ * traffic, and days older than the retention are dropped.
+ *
+ * The summaries are warmed up at startup from the recent reviews by
+ * {@link ReviewTopTermsLoader}, then follow the committed creations. Deleted reviews keep
+ * counting until their day leaves the retention.
+ *
+ * Space-Saving counts are not idempotent: a review created during the warm-up must reach the
+ * new summaries once, either from the warm-up query or from its creation event. The warm-up
+ * reads the reviews up to the last id committed when it started, and only the creations
+ * received during the warm-up with a greater id are replayed into the new summaries.
+ */
+@Component
+public class ReviewTopTerms {
+
+    // Mots vides du français (forme repliée par TextTokenizer), sans intérêt dans un classement
+    private static final Set<String> STOP_WORDS = Set.of(
+        "au", "aux", "avec", "ce", "ces", "cet", "cette", "ca", "dans", "de", "des", "du", "elle", "en", "et",
+        "est", "etait", "ete", "etre", "eu", "il", "ils", "je", "la", "le", "les", "leur", "lui", "ma", "mais",
+        "me", "mes", "moi", "mon", "ne", "ni", "nos", "notre", "nous", "on", "ou", "par", "pas", "plus", "pour",
+        "qu", "que", "qui", "sa", "sans", "se", "ses", "si", "son", "sont", "sur", "ta", "te", "tes", "toi",
+        "ton", "tres", "tu", "un", "une", "vos", "votre", "vous", "ai", "as", "avait", "avez", "avons", "ont",
+        "suis", "etes", "sommes", "fait", "tout", "tous", "toute", "toutes", "y"
+    );
+
+    private static final Comparator<Map.Entry<String, long[]>> MOST_FREQUENT_FIRST =
+        Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed()
+            .thenComparing(Map.Entry::getKey);
+
+    private final int capacity;
+    private final int retentionDays;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<LocalDate, SpaceSaving[]> summaries = new TreeMap<>();
+    // Résumés en cours de préchauffage, et créations reçues pendant celui-ci, rejouées à la fin
+    private NavigableMap<LocalDate, SpaceSaving[]> building;
+    private List<Creation> createdDuringBuild;
+
+    public ReviewTopTerms(@Value("${app.stats.top-terms.capacity:500}") int capacity,
+                          @Value("${app.stats.top-terms.retention-days:30}") int retentionDays) {
+        if (capacity < 1 || retentionDays < 1) {
+            throw new IllegalArgumentException("Top terms capacity and retention must be at least 1.");
+        }
+        this.capacity = capacity;
+        this.retentionDays = retentionDays;
+    }
+
+    // Avant l'invalidation des caches (voir ReviewTypeCounters)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        Review review = event.review();
+        if (review.getType() != null) {
+            add(review.getId(), review.getCreatedDate(), review.getType(), review.getText());
+        }
+    }
+
+    public void add(int reviewId, LocalDate day, ReviewType type, String text) {
+        List<String> terms = terms(text);
+        lock.writeLock().lock();
+        try {
+            addTo(summaries, day, type, terms);
+            if (building != null) {
+                createdDuringBuild.add(new Creation(reviewId, day, type, terms));
+            }
+            evictExpiredDays(summaries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} terms mentioned by the most reviews of this type between
+     * {@code from} and {@code to} (included), most frequent first.
+     */
+    public List<TermCountDTO> top(ReviewType type, LocalDate from, LocalDate to, int limit) {
+        Map<String, long[]> merged = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (SpaceSaving[] day : summaries.subMap(from, true, to, true).values()) {
+                if (day[type.ordinal()] != null) {
+                    day[type.ordinal()].mergeInto(merged);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TermCountDTO> top = new ArrayList<>(Math.min(limit, merged.size()));
+        merged.entrySet().stream()
+            .sorted(MOST_FREQUENT_FIRST)
+            .limit(limit)
+            .forEach(entry -> top.add(new TermCountDTO(entry.getKey(), entry.getValue()[0], entry.getValue()[1])));
+        return top;
+    }
+
+    /**
+     * Starts a warm-up: the recent reviews of the database are then added with
+     * {@link #addToBuild}, while the current summaries keep answering and following the
+     * creations. The creations are also kept aside for {@link #endBuild(boolean, int)}.
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            building = new TreeMap<>();
+            createdDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addToBuild(LocalDate day, ReviewType type, String text) {
+        List<String> terms = terms(text);
+        lock.writeLock().lock();
+        try {
+            addTo(building, day, type, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the current summaries with the warmed up ones, or drops them if the warm-up failed.
+     *
+     * @param lastReadId last review id read by the warm-up: the creations received meanwhile
+     *                   with a greater id are added to the new summaries, the others were already read
+     */
+    public void endBuild(boolean completed, int lastReadId) {
+        lock.writeLock().lock();
+        try {
+            if (completed) {
+                for (Creation creation : createdDuringBuild) {
+                    if (creation.reviewId() > lastReadId) {
+                        addTo(building, creation.day(), creation.type(), creation.terms());
+                    }
+                }
+                summaries = building;
+                evictExpiredDays(summaries);
+            }
+            building = null;
+            createdDuringBuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * First day kept in the summaries.
+     */
+    public LocalDate oldestRetainedDay() {
+        return LocalDate.now().minusDays(retentionDays - 1L);
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public int dayCount() {
+        lock.readLock().lock();
+        try {
+            return summaries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : TextTokenizer.tokenize(text)) {
+            if (!STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private void addTo(NavigableMap<LocalDate, SpaceSaving[]> target, LocalDate day, ReviewType type, List<String> terms) {
+        if (day.isBefore(oldestRetainedDay()) || terms.isEmpty()) {
+            return;
+        }
+        SpaceSaving[] daySummaries = target.computeIfAbsent(day, key -> new SpaceSaving[ReviewType.values().length]);
+        if (daySummaries[type.ordinal()] == null) {
+            daySummaries[type.ordinal()] = new SpaceSaving(capacity);
+        }
+        for (String term : terms) {
+            daySummaries[type.ordinal()].offer(term);
+        }
+    }
+
+    private void evictExpiredDays(NavigableMap<LocalDate, SpaceSaving[]> target) {
+        target.headMap(oldestRetainedDay(), false).clear();
+    }
+
+    private record Creation(int reviewId, LocalDate day, ReviewType type, List<String> terms) {
+    }
+}
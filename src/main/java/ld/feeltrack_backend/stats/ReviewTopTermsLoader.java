@@ -0,0 +1,97 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.projection.ReviewRecentTextProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Warms up the {@link ReviewTopTerms} once the application is started, from the reviews
+ * created during the retention window ({@code app.stats.top-terms.retention-days}).
+ *
+ * Only these days are streamed through read-only cursors, from the review table and from the
+ * archive when the archival age is shorter than the window, reading the day, type and text columns.
+ * The cursors stop at the last id committed when the warm-up starts: the reviews created
+ * afterwards are replayed from their events by {@link ReviewTopTerms#endBuild(boolean, int)}.
+ */
+@Component
+public class ReviewTopTermsLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewTopTermsLoader.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final ReviewTopTerms topTerms;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewTopTermsLoader(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                                ReviewTopTerms topTerms,
+                                PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.topTerms = topTerms;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * @return the number of reviews read
+     */
+    public long rebuild() {
+        long start = System.nanoTime();
+        LocalDate from = topTerms.oldestRetainedDay();
+        topTerms.beginBuild();
+
+        boolean completed = false;
+        AtomicInteger lastId = new AtomicInteger();
+        long count;
+        try {
+            count = PrimaryPin.call(() -> readOnlyTransaction.execute(status -> {
+                // Lu après beginBuild : toute création plus récente est reçue par ReviewTopTerms pendant le préchauffage
+                lastId.set(Math.max(
+                    reviewRepository.findMaxId().orElse(0), archiveRepository.findMaxId().orElse(0)));
+                long read;
+                try (Stream<ReviewRecentTextProjection> archived = archiveRepository.streamTextsSince(from, lastId.get())) {
+                    read = addToBuild(archived);
+                }
+                try (Stream<ReviewRecentTextProjection> reviews = reviewRepository.streamTextsSince(from, lastId.get())) {
+                    read += addToBuild(reviews);
+                }
+                return read;
+            }));
+            completed = true;
+        } finally {
+            topTerms.endBuild(completed, lastId.get());
+        }
+
+        LOGGER.info("Top terms warmed up : {} reviews since {}, {} days in {} ms",
+            count, from, topTerms.dayCount(), (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private long addToBuild(Stream<ReviewRecentTextProjection> reviews) {
+        long read = 0;
+        for (ReviewRecentTextProjection review : (Iterable<ReviewRecentTextProjection>) reviews::iterator) {
+            topTerms.addToBuild(review.getCreatedDate(), review.getType(), review.getText());
+            read++;
+        }
+        return read;
+    }
+}
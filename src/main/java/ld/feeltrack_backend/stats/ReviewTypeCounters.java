@@ -0,0 +1,137 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+
+/**
+ * Live number of reviews per {@link ReviewType}, kept in memory.
+ *
+ * Each counter is a {@link LongAdder}: concurrent writers update separate cells instead
+ * of contending on a single value, and reading the stats costs a sum over a few cells,
+ * whatever the size of the review table.
+ *
+ * The counters are seeded from the database, then follow the committed creations and
+ * deletions. {@link ReviewTypeCountersReconciler} periodically replaces them with the
+ * database counts to fix any drift (a write lost on a crash, a direct SQL change...).
+ * Until the first seeding, {@link #isSeeded()} is {@code false} and the callers must
+ * read the database.
+ *
+ * The counters feed {@code /review/stats}, whose body is cached and tagged with the data
+ * version: their after-commit listeners run first ({@link Ordered#HIGHEST_PRECEDENCE}), ahead of
+ * the listeners invalidating the caches and the ETag at {@link Ordered#LOWEST_PRECEDENCE}.
+ * Otherwise a request in between would cache the counts before the write under the new version.
+ */
+@Component
+public class ReviewTypeCounters {
+
+    private final Map<ReviewType, LongAdder> counts = new EnumMap<>(ReviewType.class);
+    // Nombre d'écritures appliquées, pour détecter une écriture concurrente à une réconciliation
+    private final AtomicLong writeSequence = new AtomicLong();
+    // Lecture : application d'une écriture ; écriture : remplacement de toutes les valeurs
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InFlightWrites inFlightWrites = new InFlightWrites();
+    private volatile boolean seeded;
+
+    public ReviewTypeCounters() {
+        for (ReviewType type : ReviewType.values()) {
+            counts.put(type, new LongAdder());
+        }
+    }
+
+    // Écriture validée mais pas encore appliquée : une réconciliation la compterait deux fois
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT,
+                                classes = { ReviewCreatedEvent.class, ReviewDeletedEvent.class })
+    public void onReviewCommitting() {
+        inFlightWrites.begin();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        apply(event.review().getType(), 1);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        apply(event.review().getType(), -1);
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long count(ReviewType type) {
+        return counts.get(type).sum();
+    }
+
+    public ReviewStatsDTO stats() {
+        return new ReviewStatsDTO(
+            count(ReviewType.POSITIVE),
+            count(ReviewType.NEGATIVE),
+            count(ReviewType.NEUTRAL)
+        );
+    }
+
+    /**
+     * Number of writes applied so far, to be read before counting the reviews in the database.
+     */
+    public long writeSequence() {
+        return writeSequence.get();
+    }
+
+    /**
+     * Replaces every counter with the counts read from the database, unless a write was
+     * applied since {@code expectedWriteSequence} was read, or is committing and not applied
+     * yet: the database counts may then already include it, or not, and the replacement is
+     * left to a later attempt.
+     *
+     * @param databaseCounts counts per type, a missing type counting 0
+     * @return {@code true} if the counters were replaced
+     */
+    public boolean replaceIfNoWriteSince(Map<ReviewType, Long> databaseCounts, long expectedWriteSequence) {
+        lock.writeLock().lock();
+        try {
+            if (writeSequence.get() != expectedWriteSequence || inFlightWrites.any()) {
+                return false;
+            }
+            for (ReviewType type : ReviewType.values()) {
+                LongAdder counter = counts.get(type);
+                counter.reset();
+                counter.add(databaseCounts.getOrDefault(type, 0L));
+            }
+            seeded = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ReviewType type, int delta) {
+        if (type == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            counts.get(type).add(delta);
+            writeSequence.incrementAndGet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.projection.ReviewCountProjection;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Seeds the {@link ReviewTypeCounters} once the application is started, then realigns
+ * them on the database at a fixed interval ({@code app.stats.counters.reconcile-interval}).
+ *
+ * A reconciliation is only applied when no review write was applied in memory while the
+ * database was counting, and none is between its commit and its after-commit listener (see
+ * {@link InFlightWrites}); otherwise it is retried a few times, then left to the next interval.
+ * Counts are read on the primary, which holds every write already counted in memory.
+ */
+@Component
+public class ReviewTypeCountersReconciler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewTypeCountersReconciler.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewTypeCounters counters;
+
+    public ReviewTypeCountersReconciler(ReviewRepository reviewRepository, ReviewTypeCounters counters) {
+        this.reviewRepository = reviewRepository;
+        this.counters = counters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.stats.counters.reconcile-interval:PT10M}",
+        fixedDelayString = "${app.stats.counters.reconcile-interval:PT10M}"
+    )
+    public void onSchedule() {
+        reconcile();
+    }
+
+    /**
+     * @return {@code true} if the counters now hold the database counts
+     */
+    public boolean reconcile() {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            boolean wasSeeded = counters.isSeeded();
+            Map<ReviewType, Long> before = currentCounts();
+            long writeSequence = counters.writeSequence();
+
+            Map<ReviewType, Long> databaseCounts = new EnumMap<>(ReviewType.class);
+            for (ReviewCountProjection row : PrimaryPin.call(reviewRepository::countReviewsByType)) {
+                databaseCounts.put(row.getType(), row.getCount());
+            }
+
+            if (counters.replaceIfNoWriteSince(databaseCounts, writeSequence)) {
+                if (wasSeeded && !before.equals(normalized(databaseCounts))) {
+                    LOGGER.warn("Review counters drifted from the database : {} in memory, {} in database",
+                        before, databaseCounts);
+                }
+                return true;
+            }
+        }
+        LOGGER.info("Review counters reconciliation postponed : concurrent writes during {} attempts", MAX_ATTEMPTS);
+        return false;
+    }
+
+    private Map<ReviewType, Long> currentCounts() {
+        Map<ReviewType, Long> current = new EnumMap<>(ReviewType.class);
+        for (ReviewType type : ReviewType.values()) {
+            current.put(type, counters.count(type));
+        }
+        return current;
+    }
+
+    private static Map<ReviewType, Long> normalized(Map<ReviewType, Long> counts) {
+        Map<ReviewType, Long> normalized = new EnumMap<>(ReviewType.class);
+        for (ReviewType type : ReviewType.values()) {
+            normalized.put(type, counts.getOrDefault(type, 0L));
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,99 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving summary of the most frequent terms of a stream, in at most {@code capacity}
+ * counters (Metwally, Agrawal, El Abbadi, 2005).
+ *
+ * A term already monitored has its counter incremented. Once every counter is taken, a new
+ * term replaces the least frequent one and inherits its count plus one: the count of a term
+ * can only be overestimated, by at most its {@code error}, and any term occurring more than
+ * {@code total / capacity} times is guaranteed to be monitored.
+ *
+ * Not thread-safe: callers guard it with their own lock.
+ */
+public final class SpaceSaving {
+
+    // Ordre du moins fréquent au plus fréquent, le terme départageant les égalités
+    private static final Comparator<Counter> BY_COUNT =
+        Comparator.comparingLong((Counter counter) -> counter.count).thenComparing(counter -> counter.term);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Space-Saving capacity must be at least 1.");
+        }
+        this.capacity = capacity;
+    }
+
+    public void offer(String term) {
+        Counter counter = counters.get(term);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count++;
+            byCount.add(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(term, 1, 0);
+        } else {
+            // Le compteur le moins fréquent est réattribué au nouveau terme
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.term);
+            counter = new Counter(term, evicted.count + 1, evicted.count);
+        }
+        counters.put(term, counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * Adds the counters of this summary to {@code target}, as {term → [count, error]}.
+     */
+    public void mergeInto(Map<String, long[]> target) {
+        for (Counter counter : counters.values()) {
+            long[] merged = target.computeIfAbsent(counter.term, term -> new long[2]);
+            merged[0] += counter.count;
+            merged[1] += counter.error;
+        }
+    }
+
+    /**
+     * The {@code limit} most frequent terms, most frequent first, as {term → [count, error]}.
+     */
+    public List<Map.Entry<String, long[]>> top(int limit) {
+        List<Map.Entry<String, long[]>> top = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Counter counter : byCount.descendingSet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(Map.entry(counter.term, new long[] {counter.count, counter.error}));
+        }
+        return top;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private static final class Counter {
+
+        private final String term;
+        private long count;
+        private final long error;
+
+        private Counter(String term, long count, long error) {
+            this.term = term;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
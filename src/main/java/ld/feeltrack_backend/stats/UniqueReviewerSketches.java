@@ -0,0 +1,157 @@
+package ld.feeltrack_backend.stats;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+
+/**
+ * Number of distinct customers who reviewed, per day and {@link ReviewType}, as
+ * {@link HyperLogLog} sketches kept in memory.
+ *
+ * The sketch of a range is the merge of its daily sketches: the unique reviewers of any
+ * week, month or custom range are estimated from at most one sketch per day, without a
+ * {@code COUNT(DISTINCT customer_id)} over the review table.
+ *
+ * The sketches are built at startup by {@link UniqueReviewerSketchesLoader}, then follow the
+ * committed creations. A sketch cannot forget a customer: deleted reviews keep counting
+ * until the next nightly rebuild.
+ */
+@Component
+public class UniqueReviewerSketches {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<LocalDate, HyperLogLog[]> sketches = new TreeMap<>();
+    // Esquisses en cours de reconstruction : reçoivent aussi les créations, ajouts idempotents
+    private NavigableMap<LocalDate, HyperLogLog[]> building;
+
+    // Avant l'invalidation des caches (voir ReviewTypeCounters)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        Review review = event.review();
+        if (review.getType() == null || review.getCustomer() == null || review.getCustomer().getId() == null) {
+            return;
+        }
+        add(review.getCreatedDate(), review.getType(), review.getCustomer().getId());
+    }
+
+    public void add(LocalDate day, ReviewType type, int customerId) {
+        lock.writeLock().lock();
+        try {
+            addTo(sketches, day, type, customerId);
+            if (building != null) {
+                addTo(building, day, type, customerId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Estimated number of distinct customers who wrote a review of this type between
+     * {@code from} and {@code to} (included).
+     */
+    public long estimate(ReviewType type, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            Collection<HyperLogLog[]> days = sketches.subMap(from, true, to, true).values();
+            if (days.isEmpty()) {
+                return 0;
+            }
+            if (days.size() == 1) {
+                HyperLogLog sketch = days.iterator().next()[type.ordinal()];
+                return sketch == null ? 0 : sketch.estimate();
+            }
+            byte[] merged = new byte[HyperLogLog.REGISTERS];
+            for (HyperLogLog[] day : days) {
+                if (day[type.ordinal()] != null) {
+                    day[type.ordinal()].mergeInto(merged);
+                }
+            }
+            return HyperLogLog.estimate(merged);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a full rebuild: the reviewers of the database are then added with
+     * {@link #addToBuild}, while the current sketches keep answering and the creations
+     * keep being added to both.
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            building = new TreeMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addToBuild(LocalDate day, ReviewType type, int customerId) {
+        lock.writeLock().lock();
+        try {
+            addTo(building, day, type, customerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the current sketches with the rebuilt ones, or drops them if the build failed.
+     */
+    public void endBuild(boolean completed) {
+        lock.writeLock().lock();
+        try {
+            if (completed) {
+                sketches = building;
+            }
+            building = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int dayCount() {
+        lock.readLock().lock();
+        try {
+            return sketches.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long size = 0;
+            for (HyperLogLog[] day : sketches.values()) {
+                for (HyperLogLog sketch : day) {
+                    size += sketch == null ? 0 : sketch.sizeInBytes();
+                }
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addTo(NavigableMap<LocalDate, HyperLogLog[]> target, LocalDate day, ReviewType type, int customerId) {
+        HyperLogLog[] daySketches = target.computeIfAbsent(day, key -> new HyperLogLog[ReviewType.values().length]);
+        if (daySketches[type.ordinal()] == null) {
+            daySketches[type.ordinal()] = new HyperLogLog();
+        }
+        daySketches[type.ordinal()].add(customerId);
+    }
+}
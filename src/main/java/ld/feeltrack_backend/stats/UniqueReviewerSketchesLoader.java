@@ -0,0 +1,95 @@
+package ld.feeltrack_backend.stats;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.projection.ReviewReviewerProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Builds the {@link UniqueReviewerSketches} from the review table and its archive once the application is
+ * started, then rebuilds them every night ({@code app.stats.unique-reviewers.rebuild-cron})
+ * to forget the customers of deleted reviews.
+ *
+ * Both tables are streamed through read-only cursors in the same transaction, reading only
+ * the day, type and customer columns.
+ */
+@Component
+public class UniqueReviewerSketchesLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UniqueReviewerSketchesLoader.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewArchiveRepository archiveRepository;
+    private final UniqueReviewerSketches sketches;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UniqueReviewerSketchesLoader(ReviewRepository reviewRepository, ReviewArchiveRepository archiveRepository,
+                                        UniqueReviewerSketches sketches,
+                                        PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.archiveRepository = archiveRepository;
+        this.sketches = sketches;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.stats.unique-reviewers.rebuild-cron:0 45 3 * * *}")
+    public void onSchedule() {
+        rebuild();
+    }
+
+    /**
+     * @return the number of reviews read
+     */
+    public long rebuild() {
+        long start = System.nanoTime();
+        sketches.beginBuild();
+
+        boolean completed = false;
+        long count;
+        try {
+            count = PrimaryPin.call(() -> readOnlyTransaction.execute(status -> {
+                long read;
+                try (Stream<ReviewReviewerProjection> archived = archiveRepository.streamAllReviewers()) {
+                    read = addToBuild(archived);
+                }
+                try (Stream<ReviewReviewerProjection> reviews = reviewRepository.streamAllReviewers()) {
+                    read += addToBuild(reviews);
+                }
+                return read;
+            }));
+            completed = true;
+        } finally {
+            sketches.endBuild(completed);
+        }
+
+        LOGGER.info("Unique reviewer sketches built : {} reviews, {} days, {} KB in {} ms",
+            count, sketches.dayCount(), sketches.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private long addToBuild(Stream<ReviewReviewerProjection> reviews) {
+        long read = 0;
+        for (ReviewReviewerProjection review : (Iterable<ReviewReviewerProjection>) reviews::iterator) {
+            sketches.addToBuild(review.getCreatedDate(), review.getType(), review.getCustomerId());
+            read++;
+        }
+        return read;
+    }
+}
@@ -13,17 +13,105 @@ CREATE TABLE customer (
 );
 
 # Create a review table to contain the review (text, type) of the user (customer_id)
+#
+# The table is partitioned by month of creation (RANGE COLUMNS on created_at, from which
+# created_date is derived): the list queries and their composite indexes all bound created_at,
+# so the optimizer only opens the partitions of the requested dates, each with smaller indexes.
+# ReviewPartitionMaintenance carves the next months out of pmax ahead of time, and detaches
+# the expired months in O(1) when a retention is configured.
+#
+# MariaDB constraints on partitioned tables:
+# - every unique key, including the primary key, must contain the partitioning column ;
+# - foreign keys are not supported : the link to customer is checked by the application
+#   (a customer with reviews cannot be deleted).
 
 CREATE TABLE review (
-    id INTEGER PRIMARY KEY NOT NULL AUTO_INCREMENT,
+    id INTEGER NOT NULL AUTO_INCREMENT,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     created_date DATE NOT NULL,
     text VARCHAR(1000),
     type VARCHAR(10),
     customer_id INTEGER,
-    CONSTRAINT fk_review_customer FOREIGN KEY (customer_id) REFERENCES customer(id)
+    PRIMARY KEY (id, created_at)
+)
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
 );
 
 CREATE INDEX idx_review_created_date_type
 ON review(created_date, type);
 
+# Indexes for the keyset pagination of the review list (ORDER BY created_at DESC, id DESC),
+# so that each page is a short index range scan whatever its depth
+
+CREATE INDEX idx_review_created_at_id
+ON review(created_at, id);
+
+CREATE INDEX idx_review_type_created_at_id
+ON review(type, created_at, id);
+
+# Indexes for the review list filtered by customer (with or without type), in the same
+# (created_at, id) order: equality columns first, then the range / sort columns
+
+CREATE INDEX idx_review_customer_created_at_id
+ON review(customer_id, created_at, id);
+
+CREATE INDEX idx_review_customer_type_created_at_id
+ON review(customer_id, type, created_at, id);
+
+# Reviews older than app.archive.review.age-days, moved out of the review table by
+# ReviewArchiver in small batches (same id and columns, read-only), so that the review table
+# and its indexes only hold the recent months. Reads include it for the ranges it covers,
+# and the rollups below count both tables.
+
+CREATE TABLE review_archive (
+    id INTEGER PRIMARY KEY NOT NULL,
+    created_at DATETIME NOT NULL,
+    created_date DATE NOT NULL,
+    text VARCHAR(1000),
+    type VARCHAR(10),
+    customer_id INTEGER,
+    CONSTRAINT fk_review_archive_customer FOREIGN KEY (customer_id) REFERENCES customer(id)
+);
+
+CREATE INDEX idx_review_archive_created_date_type
+ON review_archive(created_date, type);
+
+CREATE INDEX idx_review_archive_created_at_id
+ON review_archive(created_at, id);
+
+CREATE INDEX idx_review_archive_customer_created_at_id
+ON review_archive(customer_id, created_at, id);
+
+# Rollup of the review table : number of reviews per day and type, updated in the same
+# transaction as each review insert and delete, read by the timeline (at most days x 3 rows)
+
+CREATE TABLE review_daily_stats (
+    created_date DATE NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    review_count BIGINT NOT NULL,
+    PRIMARY KEY (created_date, type)
+);
+
+# Rollup of the review table per customer : number of reviews per type and date of the last
+# review, updated in the same transaction as each review insert and delete, joined on its
+# primary key by the customer list
+
+CREATE TABLE customer_review_stats (
+    customer_id INTEGER PRIMARY KEY NOT NULL,
+    positive_count BIGINT NOT NULL,
+    negative_count BIGINT NOT NULL,
+    neutral_count BIGINT NOT NULL,
+    last_review_at DATETIME,
+    CONSTRAINT fk_customer_review_stats_customer FOREIGN KEY (customer_id) REFERENCES customer(id) ON DELETE CASCADE
+);
@@ -0,0 +1,87 @@
+/**
+ * Benchmark de débit : threads plateforme vs threads virtuels.
+ *
+ * Simule des appels bloquants à l'API NLP (latence fixe) et compare le nombre
+ * d'appels traités par seconde, à concurrence égale :
+ * - threads plateforme : pool fixe de la taille de la borne ;
+ * - threads virtuels : un thread par tâche, concurrence bornée par le sémaphore de {@link BoundedExecutor}.
+ *
+ * Chaque borne est mesurée avec les deux types de threads : la borne de l'exécuteur NLP
+ * (app.executor.nlp.max-concurrency), celle du pool Tomcat par défaut, puis une borne plus
+ * large. Les résultats sont journalisés sans assertion sur les durées, qui dépendent de la machine.
+ *
+ * Désactivé par défaut, à lancer explicitement :
+ * <pre>
+ * ./mvnw test -Dtest=ExecutorThroughputBenchmarkTest -Dbenchmark=true
+ * </pre>
+ */
+
+package ld.feeltrack_backend.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutorThroughputBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorThroughputBenchmarkTest.class);
+
+    private static final int TASKS = 20_000;
+    private static final Duration SIMULATED_LATENCY = Duration.ofMillis(20);
+    // Borne de l'exécuteur NLP (application.properties), pool Tomcat par défaut, borne large
+    private static final int[] MAX_CONCURRENCIES = { 64, 200, 2_000 };
+
+    @Test
+    void compareThroughput_atSameConcurrency() {
+        // Préchauffage du JIT
+        run("warm-up", Executors.newFixedThreadPool(MAX_CONCURRENCIES[0]), MAX_CONCURRENCIES[0], 2_000);
+
+        for (int maxConcurrency : MAX_CONCURRENCIES) {
+            double platform = run("platform", Executors.newFixedThreadPool(maxConcurrency), maxConcurrency, TASKS);
+            double virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor(), maxConcurrency, TASKS);
+            LOGGER.info("Max concurrency {} : virtual / platform x{}", maxConcurrency, String.format("%.2f", virtual / platform));
+        }
+    }
+
+    private static double run(String label, ExecutorService delegate, int maxConcurrency, int tasks) {
+        LongAdder completed = new LongAdder();
+        try (BoundedExecutor executor = new BoundedExecutor(label, delegate, maxConcurrency, Duration.ofMinutes(1))) {
+            long start = System.nanoTime();
+
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+            for (int i = 0; i < tasks; i++) {
+                futures[i] = executor.execute(() -> {
+                    simulateBlockingCall();
+                    completed.increment();
+                });
+            }
+            CompletableFuture.allOf(futures).join();
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            double throughput = tasks / seconds;
+            LOGGER.info("{} : {} tasks in {} s -> {} tasks/s (max concurrency {})",
+                label, tasks, String.format("%.2f", seconds), String.format("%.0f", throughput), maxConcurrency);
+            assertEquals(tasks, completed.sum());
+            return throughput;
+        }
+    }
+
+    private static void simulateBlockingCall() {
+        try {
+            Thread.sleep(SIMULATED_LATENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * SentimentSpikeEndpointIT - Tests d'intégration de l'endpoint Actuator du détecteur de pics.
+ */
+
+package ld.feeltrack_backend.it.actuator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class SentimentSpikeEndpointIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void sentiment_shouldExposeAlertStateAndBaselines() throws Exception {
+        mockMvc.perform(get("/actuator/sentiment"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.alerting").value(false))
+            .andExpect(jsonPath("$.warmedUp").value(false))
+            .andExpect(jsonPath("$.zScore").isNumber())
+            .andExpect(jsonPath("$.currentCounts.NEGATIVE").isNumber())
+            .andExpect(jsonPath("$.baselines.NEGATIVE").isNumber());
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * ReviewArchiverIT - Tests d'intégration de l'archivage des avis anciens (review_archive).
+ *
+ * Les avis sont créés par le service puis archivés avec une date limite juste postérieure :
+ * les lectures doivent les retrouver dans l'archive, et les agrégats ne pas changer.
+ */
+
+package ld.feeltrack_backend.it.archive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.archive.ReviewArchive;
+import ld.feeltrack_backend.archive.ReviewArchiver;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.search.ReviewSearchIndexLoader;
+import ld.feeltrack_backend.service.CustomerService;
+import ld.feeltrack_backend.service.ReviewService;
+import ld.feeltrack_backend.stats.CustomerReviewRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndexLoader;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewArchiverIT {
+
+    private static final String EMAIL = "archive@test.com";
+
+    @Autowired
+    private ReviewArchiver archiver;
+
+    @Autowired
+    private ReviewArchive reviewArchive;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewArchiveRepository archiveRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerReviewStatsRepository customerStatsRepository;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @Autowired
+    private CustomerReviewRollupRebuilder customerRollupRebuilder;
+
+    @Autowired
+    private ReviewDateRangeIndexLoader dateRangeIndexLoader;
+
+    @Autowired
+    private ReviewSearchIndexLoader searchIndexLoader;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        archiveRepository.deleteAllInBatch();
+        reviewArchive.refresh();
+        reviewRepository.deleteAll();
+        customerStatsRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+        dateRangeIndexLoader.reload();
+        searchIndexLoader.rebuild();
+    }
+
+    @Test
+    void archiveCreatedBefore_shouldMoveOlderReviewsInBatches() throws InterruptedException {
+        List<Review> old = createReviews(5, "Livraison parfaite");
+        LocalDateTime cutoff = pauseThenNow();
+        Review recent = createReview("Livraison parfaite");
+
+        assertEquals(5, archiver.archiveCreatedBefore(cutoff));
+
+        assertEquals(1, reviewRepository.count());
+        assertEquals(5, archiveRepository.count());
+        assertEquals(recent.getId(), reviewRepository.findAll().getFirst().getId());
+        assertEquals(old.getLast().getCreatedAt(), reviewArchive.horizon());
+
+        // Rien de plus à archiver
+        assertEquals(0, archiver.archiveCreatedBefore(cutoff));
+    }
+
+    @Test
+    void findReviews_shouldContinueIntoArchive_inBothDirections() throws InterruptedException {
+        List<Review> old = createReviews(3, "Très bon service");
+        LocalDateTime cutoff = pauseThenNow();
+        List<Review> recent = createReviews(2, "Très bon service");
+        archiver.archiveCreatedBefore(cutoff);
+
+        List<Integer> expected = new ArrayList<>();
+        recent.reversed().forEach(review -> expected.add(review.getId()));
+        old.reversed().forEach(review -> expected.add(review.getId()));
+
+        assertEquals(expected, readAllPages(Sort.Direction.DESC));
+        assertEquals(expected.reversed(), readAllPages(Sort.Direction.ASC));
+    }
+
+    @Test
+    void reads_shouldResolveArchivedReviews() throws InterruptedException {
+        Review archived = createReview("Emballage abîmé, très déçu");
+        LocalDateTime cutoff = pauseThenNow();
+        Review recent = createReview("Emballage soigné");
+        archiver.archiveCreatedBefore(cutoff);
+
+        assertEquals("Emballage abîmé, très déçu", reviewService.getReviewById(archived.getId()).getText());
+        assertEquals(List.of(recent.getId(), archived.getId()),
+            reviewService.searchReviews("emballage", 10).stream().map(ReviewDTO::getId).toList());
+
+        // Avis archivés en lecture seule
+        assertThrows(EntityNotFoundException.class, () -> reviewService.deleteReview(archived.getId()));
+    }
+
+    @Test
+    void aggregates_shouldStillCountArchivedReviews() throws InterruptedException {
+        List<Review> old = createReviews(3, "Très bon service");
+        LocalDateTime cutoff = pauseThenNow();
+        createReview("Très bon service");
+        ReviewStatsDTO before = reviewService.getReviewStats();
+
+        archiver.archiveCreatedBefore(cutoff);
+
+        // Recalculs complets depuis la base : table des avis et archive
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+        dateRangeIndexLoader.reload();
+        customerRollupRebuilder.rebuildAll();
+
+        assertSameCounts(before, reviewService.getReviewStats());
+        assertSameCounts(before, reviewService.countReviewsBetween(LocalDate.now(), LocalDate.now()));
+
+        CustomerDTO customer = customerService.getCustomerDTOById(old.getFirst().getCustomer().getId());
+        assertSameCounts(before, customer.getReviewStats());
+    }
+
+    @Test
+    void deleteCustomer_shouldBeRejected_whenReviewsAreArchived() throws InterruptedException {
+        Review archived = createReview("Très bon service");
+        archiver.archiveCreatedBefore(pauseThenNow());
+
+        int customerId = archived.getCustomer().getId();
+        assertThrows(DataIntegrityViolationException.class, () -> customerService.deleteCustomer(customerId));
+    }
+
+    private static void assertSameCounts(ReviewStatsDTO expected, ReviewStatsDTO actual) {
+        assertEquals(expected.getPositive(), actual.getPositive());
+        assertEquals(expected.getNegative(), actual.getNegative());
+        assertEquals(expected.getNeutral(), actual.getNeutral());
+    }
+
+    private List<Integer> readAllPages(Sort.Direction direction) {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<ReviewDTO> page = reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, direction, cursor, 2);
+            page.getItems().forEach(review -> ids.add(review.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Review> createReviews(int count, String text) {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reviews.add(createReview(text));
+        }
+        return reviews;
+    }
+
+    private Review createReview(String text) {
+        return new TransactionTemplate(transactionManager)
+            .execute(status -> reviewService.createReview(new Review(new Customer(EMAIL, null), text)));
+    }
+
+    // Date limite strictement postérieure aux avis déjà créés et antérieure aux suivants
+    private static LocalDateTime pauseThenNow() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return now;
+    }
+}
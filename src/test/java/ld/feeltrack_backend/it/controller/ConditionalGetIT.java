@@ -0,0 +1,161 @@
+/**
+ * ConditionalGetIT - Tests d'intégration du GET conditionnel (ETag / Last-Modified).
+ *
+ * La version des données n'est incrémentée qu'après validation de la transaction :
+ * les écritures passent donc par l'API, sans @Transactional sur la classe, et la base
+ * est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import ld.feeltrack_backend.cache.SerializedResponseCache;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
+
+/**
+ * Integration tests for {@link ld.feeltrack_backend.controller.interceptor.ConditionalGetInterceptor}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ConditionalGetIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        responseCache.invalidate();
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+    }
+
+    @Test
+    void getReviewStats_shouldReturnNotModifiedWithoutQuery_whenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/review/stats"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/review/stats").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void conditionalGet_shouldReturnFreshData_afterReviewCreateAndDelete() throws Exception {
+        String initialEtag = etagOf("/review/stats/timeline");
+
+        String body = mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"etag@test.com\"}}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        int reviewId = objectMapper.readTree(body).get("id").asInt();
+
+        String afterCreateEtag = mockMvc.perform(get("/review/stats/timeline").header(HttpHeaders.IF_NONE_MATCH, initialEtag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(initialEtag, afterCreateEtag);
+
+        mockMvc.perform(delete("/review/{id}", reviewId))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/review/stats/timeline").header(HttpHeaders.IF_NONE_MATCH, afterCreateEtag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void conditionalGet_shouldReturnFreshData_afterCustomerWrite() throws Exception {
+        String initialEtag = etagOf("/review");
+
+        mockMvc.perform(post("/customer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"new.customer@test.com\"}"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/review").header(HttpHeaders.IF_NONE_MATCH, initialEtag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(initialEtag)));
+    }
+
+    @Test
+    void conditionalGet_shouldNotApplyToWrites() throws Exception {
+        String etag = etagOf("/review/stats");
+
+        mockMvc.perform(post("/customer")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"write@test.com\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * ConditionalGetReplicaIT - Tests d'intégration du GET conditionnel avec un réplica en retard.
+ *
+ * Le réplica est une seconde base H2, recopiée depuis le primaire par replicate() : entre deux
+ * copies, il reste en retard sur les écritures, comme un réplica qui n'a pas encore appliqué
+ * les dernières transactions. Le retard mesuré est nul dès la première copie (inconnu avant,
+ * faute de tables) : le routage continue de l'utiliser malgré les écritures manquantes.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ld.feeltrack_backend.datasource.ReplicaLagMonitor;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+/**
+ * Integration tests for {@link ld.feeltrack_backend.controller.interceptor.ConditionalGetInterceptor}
+ * behind a lagging read replica.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lagprimarydb",
+    "app.datasource.replica.url=" + ConditionalGetReplicaIT.REPLICA_URL,
+    "app.datasource.replica.lag-query=SELECT 0 AS Seconds_Behind_Master FROM INFORMATION_SCHEMA.TABLES "
+        + "WHERE UPPER(TABLE_NAME) = 'REVIEW'"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ConditionalGetReplicaIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:lagreplicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void conditionalGet_shouldNotTagStaleReplicaBody_withVersionOfPrimary() throws Exception {
+        createReview("first@test.com");
+        replicate();
+        assertTrue(lagMonitor.isReplicaUsable());
+        String etag = mockMvc.perform(get("/review"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Écriture d'un autre client, pas encore appliquée par le réplica
+        createReview("second@test.com");
+        assertEquals(1, replicaReviewCount());
+
+        MvcResult fresh = mockMvc.perform(get("/review").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andReturn();
+        String freshEtag = fresh.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, freshEtag);
+
+        // Le corps mis en cache sous la nouvelle version est bien celui du primaire
+        mockMvc.perform(get("/review").header(HttpHeaders.IF_NONE_MATCH, freshEtag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void conditionalGet_shouldServeTimelineOfPrimary_whileReplicaLags() throws Exception {
+        replicate();
+        String etag = mockMvc.perform(get("/review/stats/timeline").param("days", "1"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        createReview("timeline@test.com");
+
+        mockMvc.perform(get("/review/stats/timeline").param("days", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.positive[0]").value(1));
+    }
+
+    private void createReview(String email) throws Exception {
+        mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"" + email + "\"}}"))
+            .andExpect(status().isCreated());
+    }
+
+    // Copie du primaire vers le réplica : état figé jusqu'à la prochaine copie
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = replica();
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+        lagMonitor.check();
+    }
+
+    private long replicaReviewCount() {
+        return replica().queryForObject("SELECT COUNT(*) FROM review", Long.class);
+    }
+
+    private static JdbcTemplate replica() {
+        return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "test", ""));
+    }
+}
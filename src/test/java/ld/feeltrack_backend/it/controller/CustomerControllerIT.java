@@ -9,6 +9,9 @@
 
 package ld.feeltrack_backend.it.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,12 +26,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
 import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
 import ld.feeltrack_backend.testutils.CustomerTestBuilder;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
 
 /**
  * Integration tests for {@link ld.feeltrack_backend.controller.CustomerController}.
@@ -47,10 +55,17 @@ class CustomerControllerIT {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Customer persistedCustomer;
 
     @BeforeEach
     void cleanDatabase() {
+        reviewRepository.deleteAll();
         customerRepository.deleteAll();
 
         // Création d’un customer via le Builder pour respecter le constructeur protégé
@@ -115,6 +130,113 @@ class CustomerControllerIT {
                 .andExpect(jsonPath("$.email").value(persistedCustomer.getEmail()));
     }
 
+    @Test
+    void findCustomers_shouldWalkEveryPageInEmailOrder() throws Exception {
+        customerRepository.saveAll(List.of(
+            CustomerTestBuilder.aCustomer().withEmail("alice@test.com").build(),
+            CustomerTestBuilder.aCustomer().withEmail("bob@test.com").build(),
+            CustomerTestBuilder.aCustomer().withEmail("carol@test.com").build()
+        ));
+
+        String body = mockMvc.perform(get("/customer").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].email").value("alice@test.com"))
+                .andExpect(jsonPath("$.items[1].email").value("bob@test.com"))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/customer").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("carol@test.com"))
+                .andExpect(jsonPath("$.items[1].email").value("integration@test.com"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void findCustomers_shouldReturnOnlyEmailsStartingWithPrefix() throws Exception {
+        customerRepository.saveAll(List.of(
+            CustomerTestBuilder.aCustomer().withEmail("integrator@test.com").build(),
+            CustomerTestBuilder.aCustomer().withEmail("internal@test.com").build()
+        ));
+
+        mockMvc.perform(get("/customer").param("email", "integ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].email").value("integration@test.com"))
+                .andExpect(jsonPath("$.items[1].email").value("integrator@test.com"));
+    }
+
+    @Test
+    void findCustomers_shouldReturnOnlyRequestedFields_whenFieldsIsProvided() throws Exception {
+        mockMvc.perform(get("/customer").param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("integration@test.com"))
+                .andExpect(jsonPath("$.items[0].id").doesNotExist())
+                .andExpect(jsonPath("$.items[0].phone").doesNotExist());
+
+        mockMvc.perform(get("/customer/{id}", persistedCustomer.getId()).param("fields", "id,phone"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phone").value("0600000000"))
+                .andExpect(jsonPath("$.email").doesNotExist());
+    }
+
+    @Test
+    void findCustomers_shouldReturnArgumentsInvalid_whenLimitTooLarge() throws Exception {
+        mockMvc.perform(get("/customer").param("limit", "501"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    //endregion
+
+    //region ------------ FIND CUSTOMER REVIEWS ------------
+
+    @Test
+    void findCustomerReviews_shouldPageOnlyReviewsOfCustomer() throws Exception {
+        customerRepository.save(CustomerTestBuilder.aCustomer().withEmail("other@test.com").build());
+
+        // Avis enregistrés un par un, dans l'ordre chronologique, avec un client géré par la transaction
+        transactionTemplate.executeWithoutResult(status -> {
+            Customer customer = customerRepository.getReferenceById(persistedCustomer.getId());
+            Customer otherCustomer = customerRepository.findByEmail("other@test.com");
+            reviewRepository.save(reviewOf(customer, "Premier"));
+            reviewRepository.save(reviewOf(customer, "Deuxième"));
+            reviewRepository.save(reviewOf(customer, "Troisième"));
+            reviewRepository.save(reviewOf(otherCustomer, "Autre client"));
+        });
+
+        String body = mockMvc.perform(get("/customer/{id}/reviews", persistedCustomer.getId()).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].text").value("Troisième"))
+                .andExpect(jsonPath("$.items[1].text").value("Deuxième"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/customer/{id}/reviews", persistedCustomer.getId())
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].text").value("Premier"))
+                .andExpect(jsonPath("$.items[0].customer.email").value("integration@test.com"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void findCustomerReviews_shouldReturnEmptyPage_whenCustomerHasNoReview() throws Exception {
+        mockMvc.perform(get("/customer/{id}/reviews", persistedCustomer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    void findCustomerReviews_shouldReturnNotFound_whenCustomerDoesNotExist() throws Exception {
+        mockMvc.perform(get("/customer/{id}/reviews", persistedCustomer.getId() + 1))
+                .andExpect(status().isNotFound());
+    }
+
     //endregion
 
     //region ------------ UPDATE CUSTOMER ------------
@@ -162,4 +284,12 @@ class CustomerControllerIT {
     }
 
     //endregion
+
+    private static Review reviewOf(Customer customer, String text) {
+        return ReviewTestBuilder.aReview()
+            .withCustomer(customer)
+            .withText(text)
+            .withType(ReviewType.POSITIVE)
+            .build();
+    }
 }
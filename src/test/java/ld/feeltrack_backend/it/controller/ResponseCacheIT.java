@@ -0,0 +1,145 @@
+/**
+ * ResponseCacheIT - Tests d'intégration du cache des réponses pré-sérialisées.
+ *
+ * Le cache n'est invalidé qu'après validation des écritures sur les avis : comme pour
+ * ConditionalGetIT, les écritures passent par l'API, sans @Transactional sur la classe,
+ * et la base est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import ld.feeltrack_backend.cache.SerializedResponseCache;
+import ld.feeltrack_backend.controller.ReviewController;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
+
+/**
+ * Integration tests for {@link SerializedResponseCache} behind {@link ld.feeltrack_backend.controller.ReviewController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ResponseCacheIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        responseCache.invalidate();
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+    }
+
+    @Test
+    void getReviewStats_shouldServeCachedGzipBodyWithoutQuery() throws Exception {
+        mockMvc.perform(get("/review/stats"))
+            .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        byte[] body = mockMvc.perform(get("/review/stats").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(
+                "{\"positive\":0,\"negative\":0,\"neutral\":0}",
+                new String(gzip.readAllBytes(), StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    @Test
+    void getReviewStats_shouldReturnFreshCounts_afterReviewCreate() throws Exception {
+        mockMvc.perform(get("/review/stats"))
+            .andExpect(jsonPath("$.positive").value(0));
+        mockMvc.perform(get("/review/stats/timeline"))
+            .andExpect(jsonPath("$.dates.length()").value(ReviewController.DEFAULT_TIMELINE_DAYS))
+            .andExpect(jsonPath("$.positive[29]").value(0));
+
+        mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"cache@test.com\"}}"))
+            .andExpect(status().isCreated());
+
+        String stats = mockMvc.perform(get("/review/stats"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        long total = objectMapper.readTree(stats).properties().stream()
+            .mapToLong(field -> field.getValue().asLong())
+            .sum();
+        assertEquals(1, total);
+
+        String timeline = mockMvc.perform(get("/review/stats/timeline"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(timeline);
+        long todayTotal = json.get("positive").get(29).asLong()
+            + json.get("negative").get(29).asLong()
+            + json.get("neutral").get(29).asLong();
+        assertEquals(1, todayTotal);
+    }
+}
@@ -9,8 +9,13 @@
 
 package ld.feeltrack_backend.it.controller;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -26,13 +32,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import ld.feeltrack_backend.cache.SerializedResponseCache;
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
 import ld.feeltrack_backend.repository.CustomerRepository;
 import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
 import ld.feeltrack_backend.testutils.CustomerTestBuilder;
 import ld.feeltrack_backend.testutils.ReviewTestBuilder;
 import ld.feeltrack_backend.testutils.TestDataFactory;
@@ -58,12 +73,27 @@ class ReviewControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private Customer persistedCustomer;
 
     @BeforeEach
     void setUp() {
         reviewRepository.deleteAll();
         customerRepository.deleteAll();
+        // Écritures directes par les repositories, sans événement : cache des réponses et compteurs réalignés à la main
+        responseCache.invalidate();
+        countersReconciler.reconcile();
 
         // Utilisation du builder pour respecter le constructeur protégé
         persistedCustomer = customerRepository.save(
@@ -111,7 +141,104 @@ class ReviewControllerIT {
 
         mockMvc.perform(get("/review"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.length()").value(2));
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void findReviews_shouldPageThroughAllReviews_whenLimitIsSmallerThanTotal() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            reviewRepository.save(
+                ReviewTestBuilder.aReview().withCustomer(persistedCustomer).withText("Avis " + i).build()
+            );
+        }
+
+        Set<Integer> seenIds = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            MockHttpServletRequestBuilder request = get("/review").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> seenIds.add(item.get("id").asInt()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, seenIds.size());
+    }
+
+    @Test
+    void findReviews_shouldLoadPageInSingleStatement() throws Exception {
+        // Un client distinct par avis : un chargement ligne à ligne coûterait une requête par client
+        for (int i = 1; i <= 5; i++) {
+            reviewRepository.save(
+                ReviewTestBuilder.aReview()
+                    .withCustomer(CustomerTestBuilder.aCustomer().withEmail("client" + i + "@test.com").build())
+                    .withText("Avis " + i)
+                    .build()
+            );
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/review"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(5))
+            .andExpect(jsonPath("$.items[0].customer.email").isNotEmpty());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findReviews_shouldReturnOnlyRequestedFields_whenFieldsIsProvided() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            reviewRepository.save(
+                ReviewTestBuilder.aReview()
+                    .withCustomer(persistedCustomer)
+                    .withText("Avis " + i)
+                    .withType(ReviewType.POSITIVE)
+                    .build()
+            );
+        }
+
+        String body = mockMvc.perform(get("/review").param("fields", "id,type,createdAt").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].type").value("POSITIVE"))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode item = objectMapper.readTree(body).get("items").get(0);
+        List<String> names = new ArrayList<>();
+        item.fieldNames().forEachRemaining(names::add);
+        assertEquals(List.of("id", "type", "createdAt"), names);
+    }
+
+    @Test
+    void findReviews_shouldReturnArgumentsInvalid_whenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/review").param("fields", "id,password"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    @Test
+    void findReviews_shouldReturnArgumentsInvalid_whenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/review").param("cursor", "%%%"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
     }
 
     @Test
@@ -134,9 +261,50 @@ class ReviewControllerIT {
         mockMvc.perform(get("/review")
                 .param("type", "NEGATIVE"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.length()").value(1))
-            .andExpect(jsonPath("$[0].type").value("NEGATIVE"))
-            .andExpect(jsonPath("$[0].text").value("Je ne suis pas satisfait"));
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].type").value("NEGATIVE"))
+            .andExpect(jsonPath("$.items[0].text").value("Je ne suis pas satisfait"));
+    }
+
+    @Test
+    void findReviews_shouldCombineCustomerDateAndTypeFilters() throws Exception {
+        Customer otherCustomer = customerRepository.save(
+            CustomerTestBuilder.aCustomer().withEmail("other@test.com").build()
+        );
+        reviewRepository.save(ReviewTestBuilder.aReview()
+            .withCustomer(persistedCustomer).withText("Premier avis").withType(ReviewType.POSITIVE).build());
+        reviewRepository.save(ReviewTestBuilder.aReview()
+            .withCustomer(persistedCustomer).withText("Second avis").withType(ReviewType.POSITIVE).build());
+        reviewRepository.save(ReviewTestBuilder.aReview()
+            .withCustomer(persistedCustomer).withText("Avis négatif").withType(ReviewType.NEGATIVE).build());
+        reviewRepository.save(ReviewTestBuilder.aReview()
+            .withCustomer(otherCustomer).withText("Avis d'un autre client").withType(ReviewType.POSITIVE).build());
+
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(get("/review")
+                .param("customerId", persistedCustomer.getId().toString())
+                .param("type", "POSITIVE")
+                .param("from", today)
+                .param("to", today)
+                .param("direction", "ASC"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].text").value("Premier avis"))
+            .andExpect(jsonPath("$.items[1].text").value("Second avis"));
+
+        mockMvc.perform(get("/review")
+                .param("customerId", persistedCustomer.getId().toString())
+                .param("to", LocalDate.now().minusDays(1).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    void findReviews_shouldReturnArgumentsInvalid_whenDateRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/review").param("from", "2026-02-01").param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
     }
 
     @Test
@@ -148,12 +316,41 @@ class ReviewControllerIT {
 
     //endregion
 
+    //region ------------ GET REVIEW BY ID ------------
+
+    @Test
+    void getReviewById_shouldReturnReviewWithCustomer() throws Exception {
+        Review persistedReview = reviewRepository.save(
+            ReviewTestBuilder.aReview()
+                .withCustomer(persistedCustomer)
+                .withText("Avis détaillé")
+                .withType(ReviewType.POSITIVE)
+                .build()
+        );
+
+        mockMvc.perform(get("/review/{id}", persistedReview.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(persistedReview.getId()))
+            .andExpect(jsonPath("$.text").value("Avis détaillé"))
+            .andExpect(jsonPath("$.customer.email").value("customer@test.com"));
+    }
+
+    @Test
+    void getReviewById_shouldReturnNotFound_whenReviewDoesNotExist() throws Exception {
+        mockMvc.perform(get("/review/{id}", 999))
+            .andExpect(status().isNotFound());
+    }
+
+    //endregion
+
     //region ------------ GET REVIEW STATS ------------
     @Test
     void getReviewStats_shouldReturnReviewStats() throws Exception {
 
         List<Review> reviews = TestDataFactory.createReviewListWithDifferentTypes(5, 3, 2);
+        reviews.forEach(review -> review.setCustomer(persistedCustomer));
         reviewRepository.saveAll(reviews);
+        countersReconciler.reconcile();
 
         mockMvc.perform(get("/review/stats"))
             .andExpect(status().isOk())
@@ -172,6 +369,40 @@ class ReviewControllerIT {
             .andExpect(jsonPath("$.neutral").value(0));
     }
 
+    @Test
+    void getTimeline_shouldReturnDenseColumnarSeries() throws Exception {
+
+        List<Review> reviews = TestDataFactory.createReviewListWithDifferentTypes(5, 3, 2);
+        reviews.forEach(review -> review.setCustomer(persistedCustomer));
+        reviewRepository.saveAll(reviews);
+        dailyRollupRebuilder.rebuildAll();
+
+        mockMvc.perform(get("/review/stats/timeline").param("days", "7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.granularity").value("DAY"))
+            .andExpect(jsonPath("$.dates.length()").value(7))
+            .andExpect(jsonPath("$.dates[6]").value(LocalDate.now().toString()))
+            .andExpect(jsonPath("$.positive[0]").value(0))
+            .andExpect(jsonPath("$.positive[6]").value(5))
+            .andExpect(jsonPath("$.negative[6]").value(3))
+            .andExpect(jsonPath("$.neutral[6]").value(2));
+
+        mockMvc.perform(get("/review/stats/timeline")
+                .param("from", LocalDate.now().minusMonths(2).toString())
+                .param("granularity", "MONTH"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dates.length()").value(3))
+            .andExpect(jsonPath("$.dates[0]").value(LocalDate.now().minusMonths(2).withDayOfMonth(1).toString()))
+            .andExpect(jsonPath("$.positive[2]").value(5));
+    }
+
+    @Test
+    void getTimeline_shouldReturnArgumentsInvalid_whenDateRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/review/stats/timeline").param("from", "2026-02-01").param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
     //region ------------ DELETE REVIEW ------------
 
     @Test
@@ -188,7 +419,7 @@ class ReviewControllerIT {
 
         mockMvc.perform(get("/review"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.length()").value(0));
+            .andExpect(jsonPath("$.items.length()").value(0));
     }
 
     @Test
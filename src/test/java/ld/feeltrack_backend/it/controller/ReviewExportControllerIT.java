@@ -0,0 +1,203 @@
+/**
+ * ReviewExportControllerIT - Tests d'intégration pour le ReviewExportController.
+ *
+ * L'export est écrit sur un thread asynchrone, dans sa propre transaction : les données
+ * de test sont donc validées en base (pas de @Transactional sur la classe) puis
+ * supprimées après chaque test.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.testutils.CustomerTestBuilder;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+/**
+ * Integration tests for {@link ld.feeltrack_backend.controller.ReviewExportController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ReviewExportControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        dailyRollupRebuilder.rebuildAll();
+    }
+
+    @Test
+    void exportReviews_shouldStreamEveryReviewAsNdjson() throws Exception {
+        // Le client est persisté en cascade avec les avis, dans une seule transaction
+        Customer customer = CustomerTestBuilder.aCustomer().withEmail("export@test.com").build();
+        reviewRepository.saveAll(IntStream.rangeClosed(1, 3)
+            .mapToObj(i -> ReviewTestBuilder.aReview()
+                .withCustomer(customer)
+                .withText("Avis exporté " + i)
+                .withType(ReviewType.NEUTRAL)
+                .build())
+            .toList());
+
+        MvcResult asyncResult = mockMvc.perform(get("/review/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertEquals("Avis exporté 1", firstLine.get("text").asText());
+        assertEquals("export@test.com", firstLine.get("customer").get("email").asText());
+    }
+
+    @Test
+    void exportReviews_shouldReturnEmptyBody_whenNoReviews() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/review/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void exportReviewsAsCsv_shouldStreamOnlyReviewsOfRequestedType() throws Exception {
+        saveReviews(ReviewType.POSITIVE, ReviewType.NEGATIVE, ReviewType.NEGATIVE);
+
+        MvcResult asyncResult = mockMvc.perform(get("/review/export/reviews.csv").param("type", "NEGATIVE"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.csv\""))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains(",NEGATIVE,") && lines[1].contains("export@test.com"));
+    }
+
+    @Test
+    void exportReviewsAsCsv_shouldCompressBody_whenGzipIsRequested() throws Exception {
+        saveReviews(ReviewType.NEUTRAL);
+
+        MvcResult asyncResult = mockMvc.perform(get("/review/export/reviews.csv").param("gzip", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/gzip"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.csv.gz\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String csv = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(2, csv.split("\r\n").length);
+            assertTrue(csv.contains("Avis exporté 1"));
+        }
+    }
+
+    @Test
+    void exportTimelineAsCsv_shouldWriteDailyCountsUpToToday() throws Exception {
+        saveReviews(ReviewType.POSITIVE, ReviewType.POSITIVE, ReviewType.NEGATIVE);
+        dailyRollupRebuilder.rebuildAll();
+        LocalDate today = LocalDate.now();
+
+        MvcResult asyncResult = mockMvc.perform(get("/review/export/timeline.csv")
+                .param("from", today.minusDays(1).toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(
+            "date,positive,negative,neutral\r\n" + today.minusDays(1) + ",0,0,0\r\n" + today + ",2,1,0\r\n",
+            body
+        );
+    }
+
+    @Test
+    void exportTimelineAsCsv_shouldReturnArgumentsInvalid_whenDateRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/review/export/timeline.csv").param("from", "2026-03-10").param("to", "2026-03-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    // Le client est persisté en cascade avec les avis, dans une seule transaction
+    private void saveReviews(ReviewType... types) {
+        Customer customer = CustomerTestBuilder.aCustomer().withEmail("export@test.com").build();
+        reviewRepository.saveAll(IntStream.range(0, types.length)
+            .mapToObj(i -> ReviewTestBuilder.aReview()
+                .withCustomer(customer)
+                .withText("Avis exporté " + (i + 1))
+                .withType(types[i])
+                .build())
+            .toList());
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * ReviewSearchIT - Tests d'intégration de la recherche plein texte dans les avis.
+ *
+ * L'index est mis à jour après validation des écritures : les avis sont créés via l'API,
+ * sans @Transactional sur la classe, et la base est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.search.ReviewSearchIndexLoader;
+import ld.feeltrack_backend.testutils.CustomerTestBuilder;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+/**
+ * Integration tests for {@code GET /review/search}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ReviewSearchIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ReviewSearchIndexLoader reviewSearchIndexLoader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        reviewSearchIndexLoader.rebuild();
+    }
+
+    @Test
+    void searchReviews_shouldFindReviewsIndexedAtStartup() throws Exception {
+        // Écriture directe en base, hors service : seule la reconstruction de l'index peut la voir
+        Customer customer = CustomerTestBuilder.aCustomer().withEmail("search@test.com").build();
+        reviewRepository.save(ReviewTestBuilder.aReview().withCustomer(customer).withText("Livraison très rapide").build());
+
+        assertEquals(1, reviewSearchIndexLoader.rebuild());
+
+        mockMvc.perform(get("/review/search").param("q", "LIVRAISON"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].text").value("Livraison très rapide"))
+            .andExpect(jsonPath("$[0].customer.email").value("search@test.com"));
+    }
+
+    @Test
+    void searchReviews_shouldFollowCreateAndDelete() throws Exception {
+        String body = mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Trop de bugs dans l'appli\",\"customer\":{\"email\":\"bugs@test.com\"}}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        int reviewId = objectMapper.readTree(body).get("id").asInt();
+
+        mockMvc.perform(get("/review/search").param("q", "appli bugs"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(reviewId));
+
+        mockMvc.perform(delete("/review/{id}", reviewId))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/review/search").param("q", "bugs"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void searchReviews_shouldReturnArgumentsInvalid_whenQueryHasNoWord() throws Exception {
+        mockMvc.perform(get("/review/search").param("q", "!"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+}
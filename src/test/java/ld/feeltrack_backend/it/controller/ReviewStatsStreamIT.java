@@ -0,0 +1,155 @@
+/**
+ * ReviewStatsStreamIT - Tests d'intégration du flux SSE des statistiques.
+ *
+ * Les événements ne sont diffusés qu'après validation des écritures : les avis sont créés
+ * par l'API, sans @Transactional sur la classe, et la base est nettoyée après chaque test.
+ * La diffusion planifiée est espacée d'une heure, pour être déclenchée explicitement.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndexLoader;
+import ld.feeltrack_backend.stats.ReviewStatsStream;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
+
+@SpringBootTest(properties = "app.stats.stream.interval=PT1H")
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ReviewStatsStreamIT {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewStatsStream reviewStatsStream;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @Autowired
+    private ReviewDateRangeIndexLoader dateRangeIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+        dateRangeIndexLoader.reload();
+    }
+
+    @Test
+    void streamStats_shouldSendCurrentStats_thenOneEventPerIntervalWithChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/review/stats/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        List<JsonNode> initial = awaitEvents(stream, events -> events.size() == 1);
+        assertEquals(0, total(initial.get(0).get("total")));
+
+        createReview("stream1@test.com");
+        createReview("stream2@test.com");
+        reviewStatsStream.publishChanges();
+
+        // Deux écritures, un seul événement
+        List<JsonNode> events = awaitEvents(stream, received -> received.size() == 2);
+        assertEquals(2, total(events.get(1).get("total")));
+        assertEquals(2, total(events.get(1).get("today")));
+
+        // Aucune écriture depuis le dernier événement : rien n'est envoyé
+        reviewStatsStream.publishChanges();
+        reviewStatsStream.sendHeartbeat();
+        awaitContent(stream, content -> content.contains(":heartbeat"));
+        assertEquals(2, statsEvents(stream).size());
+    }
+
+    private void createReview(String email) throws Exception {
+        mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"" + email + "\"}}"))
+            .andExpect(status().isCreated());
+    }
+
+    private List<JsonNode> awaitEvents(MvcResult stream, Predicate<List<JsonNode>> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            List<JsonNode> events = statsEvents(stream);
+            if (condition.test(events)) {
+                return events;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Expected stats events not received : " + stream.getResponse().getContentAsString());
+    }
+
+    private void awaitContent(MvcResult stream, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.test(stream.getResponse().getContentAsString())) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Expected content not received : " + stream.getResponse().getContentAsString());
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    // Données JSON des événements "stats" reçus jusqu'ici
+    private List<JsonNode> statsEvents(MvcResult stream) throws Exception {
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : stream.getResponse().getContentAsString().split("\n")) {
+            if (line.startsWith("data:")) {
+                events.add(objectMapper.readTree(line.substring("data:".length())));
+            }
+        }
+        return events;
+    }
+
+    private static long total(JsonNode stats) {
+        return stats.get("positive").asLong() + stats.get("negative").asLong() + stats.get("neutral").asLong();
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * StatsInvalidationOrderIT - Tests d'intégration de l'ordre des listeners après validation.
+ *
+ * Une sonde, ordonnée juste avant l'invalidation des caches et de l'ETag, calcule les statistiques
+ * comme une requête qui manquerait le cache à ce moment-là : elle doit déjà voir l'écriture
+ * appliquée par les compteurs et l'index des plages de dates, sans quoi la valeur calculée
+ * serait rangée sous la nouvelle génération et servie avec le nouvel ETag. Les écritures passent
+ * par l'API, sans @Transactional sur la classe, et la base est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.controller;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ld.feeltrack_backend.cache.SerializedResponseCache;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.service.ReviewService;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndexLoader;
+import ld.feeltrack_backend.stats.ReviewTypeCountersReconciler;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class StatsInvalidationOrderIT {
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        StatsRequestProbe statsRequestProbe(ReviewService reviewService) {
+            return new StatsRequestProbe(reviewService);
+        }
+    }
+
+    /**
+     * Computes the stats like a cache miss right before the caches and the ETag are invalidated.
+     */
+    static class StatsRequestProbe {
+
+        private final ReviewService reviewService;
+        private volatile ReviewStatsDTO stats;
+        private volatile ReviewStatsDTO todayStats;
+
+        StatsRequestProbe(ReviewService reviewService) {
+            this.reviewService = reviewService;
+        }
+
+        @Order(Ordered.LOWEST_PRECEDENCE - 1)
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onReviewCreated(ReviewCreatedEvent event) {
+            stats = reviewService.getReviewStats();
+            todayStats = reviewService.countReviewsBetween(LocalDate.now(), LocalDate.now());
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatsRequestProbe probe;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private ReviewTypeCountersReconciler countersReconciler;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder dailyRollupRebuilder;
+
+    @Autowired
+    private ReviewDateRangeIndexLoader dateRangeIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        responseCache.invalidate();
+        countersReconciler.reconcile();
+        dailyRollupRebuilder.rebuildAll();
+        dateRangeIndexLoader.reload();
+    }
+
+    @Test
+    void createReview_shouldApplyInMemoryStats_beforeCachesAndEtagAreInvalidated() throws Exception {
+        // Cache et ETag chauds avant l'écriture
+        String etag = mockMvc.perform(get("/review/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.positive").value(0))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"order@test.com\"}}"))
+            .andExpect(status().isCreated());
+
+        assertEquals(1, probe.stats.getPositive());
+        assertEquals(1, probe.todayStats.getPositive());
+
+        String freshEtag = mockMvc.perform(get("/review/stats").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.positive").value(1))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, freshEtag);
+
+        mockMvc.perform(get("/review/stats").header(HttpHeaders.IF_NONE_MATCH, freshEtag))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/review/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.positive").value(1));
+
+        // Écriture libérée en fin de transaction : la réconciliation s'applique et ne corrige rien
+        assertTrue(countersReconciler.reconcile());
+        mockMvc.perform(get("/review/stats"))
+            .andExpect(jsonPath("$.positive").value(1));
+    }
+}
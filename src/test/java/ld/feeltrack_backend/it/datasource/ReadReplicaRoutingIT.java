@@ -0,0 +1,143 @@
+/**
+ * ReadReplicaRoutingIT - Tests d'intégration du routage vers le réplica en lecture.
+ *
+ * Les deux pools pointent ici vers la même base H2 (la réplication n'est pas simulée) et le
+ * retard est mesuré par une requête constante : seul le choix du pool est vérifié, via la
+ * métrique app.datasource.connections.
+ */
+
+package ld.feeltrack_backend.it.datasource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import ld.feeltrack_backend.controller.interceptor.ReadYourWritesInterceptor;
+import ld.feeltrack_backend.datasource.ReplicaLagMonitor;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routingdb",
+    "app.datasource.replica.url=jdbc:h2:mem:routingdb",
+    "app.datasource.replica.lag-query=SELECT 0 AS Seconds_Behind_Master"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ReadReplicaRoutingIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor.check();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void dataSource_shouldBeRoutingProxy() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        assertTrue(lagMonitor.isReplicaUsable());
+    }
+
+    @Test
+    void reads_shouldUseReplica_exceptForClientThatJustWrote() throws Exception {
+        Cookie sticky = mockMvc.perform(post("/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"replica@test.com\"}}"))
+            .andExpect(status().isCreated())
+            .andExpect(cookie().exists(ReadYourWritesInterceptor.COOKIE_NAME))
+            .andReturn().getResponse().getCookie(ReadYourWritesInterceptor.COOKIE_NAME);
+
+        // Client qui vient d'écrire : lecture sur le primaire
+        double replicaBefore = replicaConnections();
+        mockMvc.perform(get("/customer").cookie(sticky))
+            .andExpect(status().isOk());
+        assertEquals(replicaBefore, replicaConnections());
+
+        // Autre client : lecture sur le réplica
+        mockMvc.perform(get("/customer").param("limit", "5"))
+            .andExpect(status().isOk());
+        assertTrue(replicaConnections() > replicaBefore);
+    }
+
+    @Test
+    void conditionalGets_shouldReadPrimary() throws Exception {
+        // Réponse marquée par la version du primaire : jamais lue sur le réplica
+        double replicaBefore = replicaConnections();
+        mockMvc.perform(get("/review").param("limit", "5"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/review/stats/timeline"))
+            .andExpect(status().isOk());
+        assertEquals(replicaBefore, replicaConnections());
+    }
+
+    @Test
+    void crossOriginWrite_shouldAllowCredentials_soThatStickyCookieIsSentBack() throws Exception {
+        mockMvc.perform(options("/review")
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "http://localhost:3000"))
+            .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true"));
+
+        mockMvc.perform(post("/review")
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"Très bon service\",\"customer\":{\"email\":\"cors@test.com\"}}"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true"))
+            .andExpect(cookie().exists(ReadYourWritesInterceptor.COOKIE_NAME));
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("app.datasource.connections").tag("route", "replica").functionCounter().count();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * CustomerRepositoryIT - Vérification des plans d'exécution de la liste paginée des clients.
+ *
+ * La pagination et la recherche par préfixe d'email s'expriment comme des plages sur la
+ * colonne email : le plan doit les servir par l'index unique, dans l'ordre de l'index,
+ * sans parcours complet ni tri de la table. Le préfixe doit aussi suivre la collation de la
+ * colonne (insensible à la casse ici) et ne retenir que les emails qui commencent par lui.
+ */
+
+package ld.feeltrack_backend.it.repository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.testutils.SqlCaptureInspector;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=ld.feeltrack_backend.testutils.SqlCaptureInspector",
+    // Colonnes de texte insensibles à la casse, comme la collation par défaut de MariaDB
+    "spring.datasource.url=jdbc:h2:mem:customerdb;IGNORECASE=TRUE"
+})
+@ActiveProfiles("test")
+@Transactional
+class CustomerRepositoryIT {
+
+    private static final int CUSTOMERS = 2_000;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM review");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("""
+            INSERT INTO customer(email)
+            SELECT 'client' || LPAD(X, 4, '0') || '@test.com' FROM SYSTEM_RANGE(1, ?)
+            """, CUSTOMERS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findPageAfter_shouldReadUniqueEmailIndexInOrder() {
+        SqlCaptureInspector.clear();
+        List<CustomerDTO> page = customerRepository.findPageAfter("client0100@test.com", Limit.of(10));
+        String plan = explain(SqlCaptureInspector.last());
+
+        assertEquals("client0101@test.com", page.get(0).getEmail());
+        assertEquals(10, page.size());
+        assertEmailRangeOnIndex(plan);
+    }
+
+    @Test
+    void findPageByEmailPrefix_shouldReadOnlyMatchingRangeOfUniqueEmailIndex() {
+        SqlCaptureInspector.clear();
+        List<CustomerDTO> page = customerRepository.findPageByEmailPrefix(
+            "client019", "client019%", "", Limit.of(100));
+        String plan = explain(SqlCaptureInspector.last());
+
+        assertEquals(10, page.size());
+        assertTrue(page.stream().allMatch(customer -> customer.getEmail().startsWith("client019")));
+        assertEmailRangeOnIndex(plan);
+    }
+
+    @Test
+    void findPageByEmailPrefix_shouldMatchPrefixExactly_withPunctuationAndMixedCase() {
+        jdbcTemplate.update("DELETE FROM customer");
+        for (String email : List.of("a.b@x.com", "a@x.com", "ab@x.com", "a_c@x.com", "a/z@x.com",
+                                    "Alice@x.com", "alicia@y.com", "ALIX@z.com", "bob@x.com")) {
+            jdbcTemplate.update("INSERT INTO customer(email) VALUES (?)", email);
+        }
+
+        assertEquals(List.of("a.b@x.com"), emailsStartingWith("a."));
+        assertEquals(List.of("a@x.com"), emailsStartingWith("a@"));
+        // « _ » pris littéralement, pas comme joker
+        assertEquals(List.of("a_c@x.com"), emailsStartingWith("a_"));
+        // Comparaison selon la collation de la colonne, insensible à la casse comme sous MariaDB
+        assertEquals(List.of("Alice@x.com", "alicia@y.com", "ALIX@z.com"), emailsStartingWith("ALI"));
+        assertEquals(List.of("Alice@x.com", "alicia@y.com"), emailsStartingWith("alic"));
+    }
+
+    private List<String> emailsStartingWith(String prefix) {
+        return customerRepository.findPageByEmailPrefix(prefix, prefix.replace("_", "!_") + "%", "", Limit.of(100))
+            .stream().map(CustomerDTO::getEmail).toList();
+    }
+
+    private static void assertEmailRangeOnIndex(String plan) {
+        String access = plan.substring(plan.indexOf("/*") + 2, plan.indexOf("*/")).strip();
+
+        assertFalse(access.contains("tableScan"), () -> "Customer table fully scanned :\n" + plan);
+        assertTrue(access.contains("EMAIL >"), () -> "Email range not served by an index :\n" + plan);
+        assertTrue(plan.contains("index sorted"), () -> "Rows sorted after reading :\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
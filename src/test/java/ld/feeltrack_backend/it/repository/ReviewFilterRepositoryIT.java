@@ -0,0 +1,198 @@
+/**
+ * ReviewFilterRepositoryIT - Vérification des plans d'exécution de la liste filtrée des avis.
+ *
+ * Pour chaque combinaison de filtres, la requête réellement générée par Hibernate est
+ * capturée puis passée à EXPLAIN : le plan doit passer par un index composite qui porte
+ * les critères d'égalité (type, client) et la plage de dates, jamais par un parcours
+ * complet de la table.
+ */
+
+package ld.feeltrack_backend.it.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import ld.feeltrack_backend.dto.FieldSet;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.pagination.ReviewCursor;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.testutils.SqlCaptureInspector;
+
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=ld.feeltrack_backend.testutils.SqlCaptureInspector")
+@ActiveProfiles("test")
+@Transactional
+class ReviewFilterRepositoryIT {
+
+    private static final int CUSTOMERS = 50;
+    private static final int REVIEWS = 3_000;
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 2);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 3);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int customerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM review");
+        jdbcTemplate.update("DELETE FROM customer");
+        for (int i = 0; i < CUSTOMERS; i++) {
+            jdbcTemplate.update("INSERT INTO customer(email) VALUES (?)", "filter" + i + "@test.com");
+        }
+        customerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM customer", Integer.class);
+
+        // Un avis par minute à partir du 1er janvier, types et clients répartis en rotation
+        jdbcTemplate.update("""
+            INSERT INTO review(text, type, customer_id, created_at, created_date)
+            SELECT 'Avis ' || X,
+                CASE MOD(X, 3) WHEN 0 THEN 'POSITIVE' WHEN 1 THEN 'NEGATIVE' ELSE 'NEUTRAL' END,
+                ? + MOD(X, ?),
+                DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00'),
+                CAST(DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00') AS DATE)
+            FROM SYSTEM_RANGE(1, ?)
+            """, customerId, CUSTOMERS, REVIEWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+            // filtres, direction, index attendu (alternatives séparées par |), conditions portées par l'index
+            Arguments.of("none", Sort.Direction.DESC, "IDX_REVIEW_CREATED_AT_ID", List.of()),
+            Arguments.of("dates", Sort.Direction.ASC, "IDX_REVIEW_CREATED_AT_ID", List.of("CREATED_AT >=", "CREATED_AT <")),
+            Arguments.of("type", Sort.Direction.DESC, "IDX_REVIEW_TYPE_CREATED_AT_ID", List.of("TYPE =")),
+            Arguments.of("type+dates", Sort.Direction.DESC, "IDX_REVIEW_TYPE_CREATED_AT_ID",
+                List.of("TYPE =", "CREATED_AT >=", "CREATED_AT <")),
+            // H2 garde son propre index sur la clé étrangère customer_id, de coût égal pour ce seul critère
+            // (MariaDB supprime cet index implicite dès qu'un index composite commençant par customer_id existe)
+            Arguments.of("customer", Sort.Direction.DESC, "IDX_REVIEW_CUSTOMER_CREATED_AT_ID|FK", List.of("CUSTOMER_ID =")),
+            Arguments.of("customer+dates", Sort.Direction.DESC, "IDX_REVIEW_CUSTOMER_CREATED_AT_ID",
+                List.of("CUSTOMER_ID =", "CREATED_AT >=", "CREATED_AT <")),
+            Arguments.of("customer+type", Sort.Direction.DESC, "IDX_REVIEW_CUSTOMER_TYPE_CREATED_AT_ID",
+                List.of("CUSTOMER_ID =", "TYPE =")),
+            Arguments.of("customer+type+dates", Sort.Direction.ASC, "IDX_REVIEW_CUSTOMER_TYPE_CREATED_AT_ID",
+                List.of("CUSTOMER_ID =", "TYPE =", "CREATED_AT >=", "CREATED_AT <"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("filterCombinations")
+    void findFiltered_shouldUseIndexForEveryCombination(String combination, Sort.Direction direction,
+                                                        String expectedIndex, List<String> expectedConditions) {
+        ReviewFilterDTO filter = filterFor(combination);
+
+        SqlCaptureInspector.clear();
+        reviewRepository.findFiltered(filter, null, direction, Limit.of(20));
+        String plan = explain(SqlCaptureInspector.last());
+        String reviewAccess = reviewAccess(plan);
+
+        assertTrue(Stream.of(expectedIndex.split("\\|")).anyMatch(index -> reviewAccess.startsWith("PUBLIC." + index)),
+            () -> "Unexpected index for " + combination + " :\n" + plan);
+        expectedConditions.forEach(condition -> assertTrue(reviewAccess.contains(condition),
+            () -> "Condition '" + condition + "' not served by the index for " + combination + " :\n" + plan));
+        // Le client est lu par clé primaire pour la jointure
+        assertTrue(plan.contains("PRIMARY_KEY"), () -> "Customer join without primary key for " + combination);
+    }
+
+    @Test
+    void findFiltered_shouldReadRowsInIndexOrder_whenNoEqualityFilter() {
+        SqlCaptureInspector.clear();
+        reviewRepository.findFiltered(new ReviewFilterDTO(null, null, FROM, TO), null, Sort.Direction.DESC, Limit.of(20));
+
+        assertTrue(explain(SqlCaptureInspector.last()).contains("index sorted"));
+    }
+
+    @Test
+    void findFiltered_shouldApplyEveryCriterion() {
+        ReviewFilterDTO filter = new ReviewFilterDTO(ReviewType.POSITIVE, customerId + 3, FROM, TO);
+
+        List<ReviewDTO> reviews = reviewRepository.findFiltered(filter, null, Sort.Direction.ASC, Limit.of(500));
+
+        assertFalse(reviews.isEmpty());
+        assertTrue(reviews.stream().allMatch(review ->
+            review.getType() == ReviewType.POSITIVE
+                && review.getCustomer().getId() == customerId + 3
+                && !review.getCreatedAt().toLocalDate().isBefore(FROM)
+                && !review.getCreatedAt().toLocalDate().isAfter(TO)));
+        for (int i = 1; i < reviews.size(); i++) {
+            assertTrue(reviews.get(i - 1).getCreatedAt().isBefore(reviews.get(i).getCreatedAt()));
+        }
+    }
+
+    @Test
+    void findFiltered_shouldContinueAfterCursorInBothDirections() {
+        ReviewFilterDTO filter = ReviewFilterDTO.ofType(ReviewType.NEGATIVE);
+        LocalDateTime middle = LocalDateTime.of(2026, 1, 2, 0, 0);
+        ReviewCursor cursor = new ReviewCursor(middle, Integer.MAX_VALUE);
+
+        List<ReviewDTO> older = reviewRepository.findFiltered(filter, cursor, Sort.Direction.DESC, Limit.of(5));
+        List<ReviewDTO> newer = reviewRepository.findFiltered(filter, cursor, Sort.Direction.ASC, Limit.of(5));
+
+        assertEquals(5, older.size());
+        assertEquals(5, newer.size());
+        assertTrue(older.stream().noneMatch(review -> review.getCreatedAt().isAfter(middle)));
+        assertTrue(newer.stream().allMatch(review -> review.getCreatedAt().isAfter(middle)));
+    }
+
+    @Test
+    void findFiltered_shouldSelectOnlyRequestedColumns_withoutCustomerJoin() {
+        FieldSet fields = FieldSet.parse("id,type", ReviewDTO.FIELDS);
+
+        SqlCaptureInspector.clear();
+        List<ReviewDTO> reviews = reviewRepository.findFiltered(
+            ReviewFilterDTO.ofType(ReviewType.NEUTRAL), fields, null, Sort.Direction.DESC, Limit.of(5));
+        String sql = SqlCaptureInspector.last().toLowerCase(Locale.ROOT);
+
+        assertEquals(5, reviews.size());
+        assertTrue(reviews.stream().allMatch(review -> review.getType() == ReviewType.NEUTRAL
+            && review.getText() == null && review.getCustomer() == null && review.getCreatedAt() != null));
+        assertFalse(sql.contains("join"), () -> "Customer joined although not requested : " + sql);
+        assertFalse(sql.contains(".text"), () -> "Text selected although not requested : " + sql);
+    }
+
+    private ReviewFilterDTO filterFor(String combination) {
+        boolean dates = combination.contains("dates");
+        return new ReviewFilterDTO(
+            combination.contains("type") ? ReviewType.POSITIVE : null,
+            combination.contains("customer") ? customerId : null,
+            dates ? FROM : null,
+            dates ? TO : null
+        );
+    }
+
+    // Commentaire d'accès à la table review dans le plan H2 : "/* PUBLIC.<index>: <conditions> */"
+    private static String reviewAccess(String plan) {
+        int table = plan.indexOf("\"PUBLIC\".\"REVIEW\"");
+        int start = plan.indexOf("/*", table) + 2;
+        return plan.substring(start, plan.indexOf("*/", start)).strip();
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
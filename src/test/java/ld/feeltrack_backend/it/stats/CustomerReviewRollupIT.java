@@ -0,0 +1,203 @@
+/**
+ * CustomerReviewRollupIT - Tests d'intégration de la table d'agrégats par client (customer_review_stats).
+ *
+ * Le rollup est écrit dans la transaction de l'avis : les écritures passent par le service,
+ * sans @Transactional sur la classe, et la base est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.service.CustomerService;
+import ld.feeltrack_backend.service.ReviewService;
+import ld.feeltrack_backend.stats.CustomerReviewRollupRebuilder;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerReviewRollupIT {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerReviewStatsRepository customerStatsRepository;
+
+    @Autowired
+    private CustomerReviewRollupRebuilder rebuilder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerStatsRepository.deleteAllInBatch();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void createReview_shouldUpdateCountsAndLastReviewDate() {
+        Review first = createReview("stats@test.com", "Très bon service");
+        Review second = createReview("stats@test.com", "Très bon service");
+
+        CustomerDTO customer = customerService.getCustomerDTOById(first.getCustomer().getId());
+
+        assertEquals(2, countOf(customer.getReviewStats(), first.getType()));
+        assertEquals(2, total(customer.getReviewStats()));
+        assertEquals(second.getCreatedAt(), customer.getLastReviewAt());
+    }
+
+    @Test
+    void deleteReview_shouldDecrementCountsAndRestorePreviousLastReviewDate() {
+        Review first = createReview("stats@test.com", "Très bon service");
+        Review second = createReview("stats@test.com", "Très bon service");
+
+        reviewService.deleteReview(second.getId());
+
+        CustomerDTO customer = customerService.getCustomerDTOById(first.getCustomer().getId());
+        assertEquals(1, total(customer.getReviewStats()));
+        assertEquals(first.getCreatedAt(), customer.getLastReviewAt());
+
+        reviewService.deleteReview(first.getId());
+
+        customer = customerService.getCustomerDTOById(first.getCustomer().getId());
+        assertEquals(0, total(customer.getReviewStats()));
+        assertNull(customer.getLastReviewAt());
+    }
+
+    @Test
+    void createReview_shouldCreateRows_whenFirstReviewsOutnumberConnectionPool() throws Exception {
+        // Deux fois plus de premiers avis concurrents que de connexions (10 par défaut) :
+        // la ligne est créée dans la transaction de l'avis, sans seconde connexion
+        int writers = 20;
+        List<Callable<Review>> creations = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            String email = "first" + i + "@test.com";
+            creations.add(() -> createReview(email, "Très bon service"));
+        }
+        List<Review> reviews = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (Future<Review> result : executor.invokeAll(creations)) {
+                reviews.add(result.get());
+            }
+        }
+
+        for (Review review : reviews) {
+            CustomerDTO customer = customerService.getCustomerDTOById(review.getCustomer().getId());
+            assertEquals(1, total(customer.getReviewStats()));
+            assertEquals(review.getCreatedAt(), customer.getLastReviewAt());
+        }
+        assertEquals(writers, customerStatsRepository.count());
+    }
+
+    @Test
+    void createReview_shouldRollBackCounts_withReview() {
+        Customer customer = customerRepository.save(new Customer("rollback@test.com", null));
+
+        inTransaction().executeWithoutResult(status -> {
+            reviewService.createReview(new Review(customer, "Très bon service"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, total(customerService.getCustomerDTOById(customer.getId()).getReviewStats()));
+    }
+
+    @Test
+    void findCustomers_shouldServeCountsFromRollup_withZeroForCustomersWithoutReview() {
+        createReview("a-stats@test.com", "Très bon service");
+        customerRepository.save(new Customer("b-stats@test.com", null));
+
+        List<CustomerDTO> customers = customerRepository.findPageAfter("", Limit.of(10));
+
+        assertEquals(2, customers.size());
+        assertEquals(1, total(customers.get(0).getReviewStats()));
+        assertEquals(0, total(customers.get(1).getReviewStats()));
+        assertNull(customers.get(1).getLastReviewAt());
+    }
+
+    @Test
+    void rebuildAll_shouldRealignRollupOnReviewTable() {
+        // Écritures directes : aucun événement, le rollup n'est pas tenu à jour
+        Customer customer = inTransaction().execute(status -> {
+            Customer saved = customerRepository.save(new Customer("direct@test.com", null));
+            for (ReviewType type : List.of(ReviewType.POSITIVE, ReviewType.POSITIVE, ReviewType.NEGATIVE)) {
+                Review review = new Review(saved, "Avis importé");
+                review.setType(type);
+                reviewRepository.save(review);
+            }
+            return saved;
+        });
+        assertEquals(0, total(customerService.getCustomerDTOById(customer.getId()).getReviewStats()));
+
+        int written = rebuilder.rebuildAll();
+
+        CustomerDTO rebuilt = customerService.getCustomerDTOById(customer.getId());
+        assertEquals(1, written);
+        assertEquals(2, rebuilt.getReviewStats().getPositive());
+        assertEquals(1, rebuilt.getReviewStats().getNegative());
+        assertEquals(0, rebuilt.getReviewStats().getNeutral());
+        assertTrue(rebuilt.getLastReviewAt() != null);
+    }
+
+    // Client créé puis avis enregistré dans la même session, comme dans une requête HTTP (open-in-view)
+    private Review createReview(String email, String text) {
+        return inTransaction().execute(status -> reviewService.createReview(new Review(new Customer(email, null), text)));
+    }
+
+    private TransactionTemplate inTransaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private static long countOf(ReviewStatsDTO stats, ReviewType type) {
+        return switch (type) {
+            case POSITIVE -> stats.getPositive();
+            case NEGATIVE -> stats.getNegative();
+            case NEUTRAL -> stats.getNeutral();
+        };
+    }
+
+    private static long total(ReviewStatsDTO stats) {
+        return stats.getPositive() + stats.getNegative() + stats.getNeutral();
+    }
+}
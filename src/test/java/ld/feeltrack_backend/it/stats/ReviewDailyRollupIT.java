@@ -0,0 +1,244 @@
+/**
+ * ReviewDailyRollupIT - Tests d'intégration de la table d'agrégats journaliers (review_daily_stats).
+ *
+ * Le rollup est écrit dans la transaction de l'avis : les écritures passent par le service,
+ * sans @Transactional sur la classe, et la base est nettoyée après chaque test.
+ */
+
+package ld.feeltrack_backend.it.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.entity.ReviewDailyStat;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.service.ReviewService;
+import ld.feeltrack_backend.stats.ReviewDailyRollupRebuilder;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndexLoader;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewDailyRollupIT {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ReviewDailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private ReviewDailyRollupRebuilder rebuilder;
+
+    @Autowired
+    private ReviewDateRangeIndexLoader dateRangeIndexLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        reviewRepository.deleteAll();
+        customerRepository.deleteAll();
+        dailyStatsRepository.deleteAllInBatch();
+        dateRangeIndexLoader.reload();
+    }
+
+    @Test
+    void createReview_shouldIncrementDailyCount() {
+        Review first = createReview("rollup1@test.com", "Très bon service");
+        createReview("rollup2@test.com", "Très bon service");
+
+        assertEquals(Map.of(first.getType(), 2L), countsOf(LocalDate.now()));
+        assertEquals(sourceCounts(), timelineCounts());
+    }
+
+    @Test
+    void deleteReview_shouldDecrementDailyCount() {
+        Review first = createReview("rollup1@test.com", "Très bon service");
+        Review second = createReview("rollup2@test.com", "Très bon service");
+
+        reviewService.deleteReview(first.getId());
+
+        assertEquals(Map.of(second.getType(), 1L), countsOf(LocalDate.now()));
+
+        reviewService.deleteReview(second.getId());
+
+        // Ligne à 0 conservée, mais absente de la timeline
+        assertTrue(timelineRows().isEmpty());
+    }
+
+    @Test
+    void deleteReview_shouldDecrementOnce_whenSameReviewIsDeletedTwice() throws Exception {
+        Review first = createReview("rollup1@test.com", "Très bon service");
+        Review second = createReview("rollup1@test.com", "Très bon service");
+        long totalBefore = total(reviewService.getReviewStats());
+
+        // Deux suppressions concurrentes du même avis : une seule retire la ligne
+        List<Callable<Boolean>> deletes = List.of(() -> delete(first.getId()), () -> delete(first.getId()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            long succeeded = 0;
+            for (Future<Boolean> result : executor.invokeAll(deletes)) {
+                succeeded += result.get() ? 1 : 0;
+            }
+            assertEquals(1, succeeded);
+        }
+        assertThrows(EntityNotFoundException.class, () -> reviewService.deleteReview(first.getId()));
+
+        assertEquals(Map.of(second.getType(), 1L), countsOf(LocalDate.now()));
+        assertEquals(totalBefore - 1, total(reviewService.getReviewStats()));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+            "SELECT positive_count + negative_count + neutral_count FROM customer_review_stats WHERE customer_id = ?",
+            Long.class, second.getCustomer().getId()));
+    }
+
+    @Test
+    void countReviewsBetween_shouldFollowCommittedWrites() {
+        Review first = createReview("rollup1@test.com", "Très bon service");
+        createReview("rollup2@test.com", "Très bon service");
+        reviewService.deleteReview(first.getId());
+
+        ReviewStatsDTO today = reviewService.countReviewsBetween(LocalDate.now(), LocalDate.now());
+        ReviewStatsDTO yesterday = reviewService.countReviewsBetween(LocalDate.now().minusDays(1), LocalDate.now().minusDays(1));
+
+        assertEquals(1, today.getPositive() + today.getNegative() + today.getNeutral());
+        assertEquals(0, yesterday.getPositive() + yesterday.getNegative() + yesterday.getNeutral());
+    }
+
+    @Test
+    void createReview_shouldRollBackDailyCount_withReview() {
+        inTransaction().executeWithoutResult(status -> {
+            createReview("rollback@test.com", "Très bon service");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, reviewRepository.count());
+        assertTrue(countsOf(LocalDate.now()).isEmpty());
+    }
+
+    @Test
+    void rebuildAll_shouldRealignRollupOnReviewTable() {
+        // Écritures directes : aucun événement, le rollup n'est pas tenu à jour
+        inTransaction().executeWithoutResult(status -> {
+            Customer customer = customerRepository.save(new Customer("direct@test.com", null));
+            for (ReviewType type : List.of(ReviewType.POSITIVE, ReviewType.POSITIVE, ReviewType.NEGATIVE)) {
+                Review review = new Review(customer, "Avis importé");
+                review.setType(type);
+                reviewRepository.save(review);
+            }
+        });
+        jdbcTemplate.update("UPDATE review SET created_date = ? WHERE type = 'NEGATIVE'", LocalDate.now().minusDays(3));
+        assertTrue(timelineRows().isEmpty());
+
+        int written = rebuilder.rebuildAll();
+
+        assertEquals(2, written);
+        assertEquals(Map.of(ReviewType.POSITIVE, 2L), countsOf(LocalDate.now()));
+        assertEquals(Map.of(ReviewType.NEGATIVE, 1L), countsOf(LocalDate.now().minusDays(3)));
+        assertEquals(sourceCounts(), timelineCounts());
+    }
+
+    @Test
+    void rebuild_shouldOnlyReplaceRequestedDays() {
+        createReview("rollup1@test.com", "Très bon service");
+        jdbcTemplate.update("UPDATE review_daily_stats SET review_count = 42");
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        rebuilder.rebuild(yesterday.minusDays(6), yesterday);
+
+        assertEquals(42L, countsOf(LocalDate.now()).values().iterator().next());
+
+        rebuilder.rebuild(LocalDate.now(), LocalDate.now());
+
+        assertEquals(1L, countsOf(LocalDate.now()).values().iterator().next());
+    }
+
+    // Client créé puis avis enregistré dans la même session, comme dans une requête HTTP (open-in-view)
+    private Review createReview(String email, String text) {
+        return inTransaction().execute(status -> reviewService.createReview(new Review(new Customer(email, null), text)));
+    }
+
+    private boolean delete(int reviewId) {
+        try {
+            reviewService.deleteReview(reviewId);
+            return true;
+        } catch (EntityNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static long total(ReviewStatsDTO stats) {
+        return stats.getPositive() + stats.getNegative() + stats.getNeutral();
+    }
+
+    private TransactionTemplate inTransaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private Map<ReviewType, Long> countsOf(LocalDate day) {
+        return dailyStatsRepository.findAll().stream()
+            .filter(stat -> stat.getCreatedDate().equals(day) && stat.getCount() > 0)
+            .collect(Collectors.toMap(ReviewDailyStat::getType, ReviewDailyStat::getCount));
+    }
+
+    private List<ReviewTimelineProjection> timelineRows() {
+        return dailyStatsRepository.getTimeline(LocalDate.now().minusDays(30), LocalDate.now());
+    }
+
+    private Map<String, Long> timelineCounts() {
+        return timelineRows().stream().collect(Collectors.toMap(
+            (ReviewTimelineProjection row) -> row.getCreatedDate() + "/" + row.getType(),
+            ReviewTimelineProjection::getCount
+        ));
+    }
+
+    // Comptage de référence, directement sur la table des avis
+    private Map<String, Long> sourceCounts() {
+        return jdbcTemplate.queryForList(
+            "SELECT created_date, type, COUNT(*) AS n FROM review GROUP BY created_date, type"
+        ).stream().collect(Collectors.toMap(
+            row -> row.get("created_date") + "/" + row.get("type"),
+            row -> ((Number) row.get("n")).longValue()
+        ));
+    }
+}
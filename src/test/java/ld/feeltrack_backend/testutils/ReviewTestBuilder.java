@@ -7,6 +7,10 @@
 
 package ld.feeltrack_backend.testutils;
 
+import java.time.LocalDate;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
@@ -16,6 +20,7 @@ public class ReviewTestBuilder {
     private Customer customer = TestDataFactory.createDefaultCustomer();
     private String text = "Très bonne expérience!";
     private ReviewType type = null;
+    private LocalDate createdDate = null;
     
     public static ReviewTestBuilder aReview() {
         return new ReviewTestBuilder();
@@ -41,6 +46,12 @@ public class ReviewTestBuilder {
         return this;
     }
     
+    // Date normalement fixée à l'insertion (@PrePersist), pour les tests sans base
+    public ReviewTestBuilder withCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+        return this;
+    }
+    
     public Review build() {
         Review review = new Review(customer, text);
         if (id != null) {
@@ -49,6 +60,9 @@ public class ReviewTestBuilder {
         if (type != null) {
             review.setType(type);
         }
+        if (createdDate != null) {
+            ReflectionTestUtils.setField(review, "createdDate", createdDate);
+        }
         return review;
     }
 }
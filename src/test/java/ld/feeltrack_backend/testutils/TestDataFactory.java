@@ -79,8 +79,9 @@ public class TestDataFactory {
         for (int i = 0 ; i < neutralNumber ; i++) {
             reviews.add(createReviewWithType(ReviewType.NEUTRAL));
         }
-        // Assigner un customer par défaut à chaque review pour éviter les nulls
-        reviews.forEach(r -> r.setCustomer(createDefaultCustomer()));
+        // Assigner le même customer par défaut à chaque review pour éviter les nulls (email unique)
+        Customer customer = createDefaultCustomer();
+        reviews.forEach(r -> r.setCustomer(customer));
         
         return reviews;
     }
@@ -0,0 +1,128 @@
+package ld.feeltrack_backend.unit.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ld.feeltrack_backend.cache.AggregationCache;
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.event.AggregatesRefreshedEvent;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+class AggregationCacheTest {
+
+    private final BoundedExecutor refreshExecutor =
+        new BoundedExecutor("refresh-test", Executors.newVirtualThreadPerTaskExecutor(), 2, Duration.ofSeconds(1));
+    private final ApplicationEventPublisher eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void closeExecutor() {
+        refreshExecutor.close();
+    }
+
+    @Test
+    void get_shouldLoadOnce_thenServeHits() {
+        AggregationCache cache = newCache(true, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, cache.get("stats", List.of("2026-03-01"), loads::incrementAndGet));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, meterRegistry.get("app.cache.aggregation.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(1, meterRegistry.get("app.cache.aggregation.load").timer().count());
+    }
+
+    @Test
+    void get_shouldServeStaleResult_whileSingleRefreshRunsInBackground() throws Exception {
+        AggregationCache cache = newCache(true, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertEquals(1, cache.get("stats", List.of(), loads::incrementAndGet));
+        cache.onReviewCreated(new ReviewCreatedEvent(ReviewTestBuilder.aReview().build()));
+
+        // Le rafraîchissement reste bloqué : les lecteurs obtiennent l'ancienne valeur sans attendre
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, cache.get("stats", List.of(), () -> {
+                await(release);
+                return loads.incrementAndGet();
+            }));
+        }
+        assertEquals(5, cache.getStaleHits());
+
+        release.countDown();
+        verify(eventPublisher, timeout(1_000)).publishEvent(any(AggregatesRefreshedEvent.class));
+
+        assertEquals(2, cache.get("stats", List.of(), loads::incrementAndGet));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_shouldReload_whenEntryIsExpired() throws Exception {
+        AggregationCache cache = newCache(true, 10, Duration.ofMillis(20));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("stats", List.of(), loads::incrementAndGet);
+        TimeUnit.MILLISECONDS.sleep(40);
+
+        assertEquals(2, cache.get("stats", List.of(), loads::incrementAndGet));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void get_shouldEvictOldestEntry_whenFull() {
+        AggregationCache cache = newCache(true, 2, Duration.ofMinutes(1));
+
+        cache.get("timeline", List.of(1), () -> "first");
+        cache.get("timeline", List.of(2), () -> "second");
+        cache.get("timeline", List.of(3), () -> "third");
+
+        assertEquals(2, cache.size());
+        assertEquals("reloaded", cache.get("timeline", List.of(1), () -> "reloaded"));
+        assertTrue(meterRegistry.get("app.cache.aggregation.evictions").functionCounter().count() >= 1);
+    }
+
+    @Test
+    void get_shouldCallLoaderEveryTime_whenDisabled() {
+        AggregationCache cache = newCache(false, 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("stats", List.of(), loads::incrementAndGet);
+        cache.get("stats", List.of(), loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private AggregationCache newCache(boolean enabled, int maxEntries, Duration ttl) {
+        return new AggregationCache(refreshExecutor, eventPublisher, meterRegistry, enabled, maxEntries, ttl);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ld.feeltrack_backend.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.cache.DataVersion;
+import ld.feeltrack_backend.event.CustomerChangedEvent;
+
+class DataVersionTest {
+
+    @Test
+    void onDataChange_shouldIncrementVersionAndChangeEtag() {
+        DataVersion dataVersion = new DataVersion();
+        DataVersion.Snapshot before = dataVersion.snapshot();
+
+        dataVersion.onDataChange(new CustomerChangedEvent(1));
+        DataVersion.Snapshot after = dataVersion.snapshot();
+
+        assertEquals(before.version() + 1, after.version());
+        assertFalse(after.lastModified().isBefore(before.lastModified()));
+        assertNotEquals(dataVersion.etag(before), dataVersion.etag(after));
+    }
+
+    @Test
+    void etag_shouldBeStableWithoutWrites() {
+        DataVersion dataVersion = new DataVersion();
+
+        assertEquals(dataVersion.etag(dataVersion.snapshot()), dataVersion.etag(dataVersion.snapshot()));
+    }
+
+    @Test
+    void etag_shouldBeQuoted() {
+        DataVersion dataVersion = new DataVersion();
+        String etag = dataVersion.etag(dataVersion.snapshot());
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    }
+}
@@ -0,0 +1,92 @@
+package ld.feeltrack_backend.unit.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ld.feeltrack_backend.cache.SerializedResponseCache;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.testutils.TestDataFactory;
+
+class SerializedResponseCacheTest {
+
+    private final SerializedResponseCache cache = new SerializedResponseCache(new ObjectMapper());
+
+    @Test
+    void get_shouldComputeOnceAndServeSameBytes_untilReviewWrite() {
+        AtomicInteger loads = new AtomicInteger();
+
+        SerializedResponseCache.CachedBody first = cache.get("stats", () -> stats(loads.incrementAndGet()));
+        SerializedResponseCache.CachedBody second = cache.get("stats", () -> stats(loads.incrementAndGet()));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.onReviewCreated(new ReviewCreatedEvent(TestDataFactory.createDefaultReview()));
+        cache.get("stats", () -> stats(loads.incrementAndGet()));
+        cache.onReviewDeleted(new ReviewDeletedEvent(TestDataFactory.createDefaultReview()));
+        SerializedResponseCache.CachedBody afterWrites = cache.get("stats", () -> stats(loads.incrementAndGet()));
+
+        assertEquals(3, loads.get());
+        assertEquals("{\"positive\":3,\"negative\":0,\"neutral\":0}", new String(afterWrites.json(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void get_shouldNotServeEntryComputedDuringWrite() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // Écriture validée pendant le calcul : l'entrée garde l'ancienne génération
+        cache.get("stats", () -> {
+            cache.invalidate();
+            return stats(loads.incrementAndGet());
+        });
+        cache.get("stats", () -> stats(loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void toResponse_shouldServeGzipBody_whenClientAcceptsGzip() throws IOException {
+        SerializedResponseCache.CachedBody body = cache.get("stats", () -> stats(1));
+
+        ResponseEntity<byte[]> response = body.toResponse("deflate, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(body.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void toResponse_shouldServePlainJson_whenGzipNotAccepted() {
+        SerializedResponseCache.CachedBody body = cache.get("stats", () -> stats(1));
+
+        for (String acceptEncoding : new String[] {null, "br", "gzip;q=0", "identity, gzip; q=0.0"}) {
+            ResponseEntity<byte[]> response = body.toResponse(acceptEncoding);
+
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+            assertArrayEquals(body.json(), response.getBody());
+        }
+    }
+
+    private static ReviewStatsDTO stats(long positive) {
+        return new ReviewStatsDTO(positive, 0, 0);
+    }
+}
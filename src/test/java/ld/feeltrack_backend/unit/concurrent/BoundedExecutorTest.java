@@ -0,0 +1,130 @@
+package ld.feeltrack_backend.unit.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+
+class BoundedExecutorTest {
+
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void closeExecutor() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    void call_shouldRunTaskOnCallingThread() {
+        executor = newVirtualExecutor(2, Duration.ofSeconds(1));
+
+        Thread caller = Thread.currentThread();
+        Thread runner = executor.call(Thread::currentThread);
+
+        assertEquals(caller, runner);
+        assertEquals(2, executor.getAvailablePermits());
+    }
+
+    @Test
+    void submit_shouldNeverExceedMaxConcurrency() throws Exception {
+        int maxConcurrency = 3;
+        executor = newVirtualExecutor(maxConcurrency, Duration.ofSeconds(10));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(executor.execute(() -> {
+                int current = running.incrementAndGet();
+                maxObserved.accumulateAndGet(current, Math::max);
+                sleep(5);
+                running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertTrue(maxObserved.get() <= maxConcurrency);
+        assertEquals(maxConcurrency, executor.getAvailablePermits());
+    }
+
+    @Test
+    void call_shouldThrowRejectedExecution_whenNoPermitBeforeTimeout() throws Exception {
+        executor = newVirtualExecutor(1, Duration.ofMillis(50));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocking = executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await();
+
+        RejectedExecutionException exception = assertThrows(
+            RejectedExecutionException.class,
+            () -> executor.call(() -> "never")
+        );
+
+        assertTrue(exception.getMessage().contains("saturated"));
+
+        release.countDown();
+        blocking.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void submit_shouldPropagateTaskFailure() {
+        executor = newVirtualExecutor(1, Duration.ofSeconds(1));
+
+        CompletableFuture<Object> future = executor.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertEquals("boom", exception.getCause().getMessage());
+        assertEquals(1, executor.getAvailablePermits());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveConcurrency() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new BoundedExecutor("invalid", Executors.newVirtualThreadPerTaskExecutor(), 0, Duration.ofSeconds(1))
+        );
+    }
+
+    private static BoundedExecutor newVirtualExecutor(int maxConcurrency, Duration acquireTimeout) {
+        return new BoundedExecutor("test", Executors.newVirtualThreadPerTaskExecutor(), maxConcurrency, acquireTimeout);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Audit du « pinning » des threads virtuels.
+ *
+ * Un thread virtuel bloqué à l'intérieur d'un bloc synchronized (ou d'un appel natif)
+ * reste attaché à son thread porteur, ce qui annule le bénéfice des threads virtuels.
+ * Ces tests enregistrent les événements JFR {@code jdk.VirtualThreadPinned} pendant
+ * l'exécution de nos chemins de code et échouent si l'un d'eux provient du package
+ * {@code ld.feeltrack_backend}.
+ */
+
+package ld.feeltrack_backend.unit.concurrent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.external.nlp.FeelingAnalyser;
+
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "ld.feeltrack_backend.";
+
+    @Test
+    void audit_shouldDetectPinning_whenVirtualThreadBlocksInsideMonitor() throws Exception {
+        // Contrôle du mécanisme d'audit : un blocage volontaire dans un bloc synchronized doit être détecté
+        Object monitor = new Object();
+
+        List<RecordedEvent> events = recordPinnedEvents(() -> runOnVirtualThreads(4, () -> {
+            synchronized (monitor) {
+                sleep(20);
+            }
+        }));
+
+        assertFalse(
+            filterByFrame(events, frame -> frame.getMethod().getType().getName().equals(getClass().getName())).isEmpty(),
+            "The JFR audit did not report a deliberately pinned virtual thread."
+        );
+    }
+
+    @Test
+    void boundedExecutor_shouldNotPinCarrierThreads_underContention() throws Exception {
+        try (BoundedExecutor executor = new BoundedExecutor(
+                "audit", Executors.newVirtualThreadPerTaskExecutor(), 2, Duration.ofSeconds(10))) {
+
+            List<RecordedEvent> events = recordPinnedEvents(() -> {
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    futures.add(executor.execute(() -> sleep(5)));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                // Appels synchrones depuis des threads virtuels en concurrence sur les mêmes permis
+                runOnVirtualThreads(20, () -> executor.call(() -> {
+                    sleep(5);
+                    return null;
+                }));
+            });
+
+            assertNoApplicationPinning(events);
+        }
+    }
+
+    @Test
+    void feelingAnalyser_shouldNotPinCarrierThreads() throws Exception {
+        List<RecordedEvent> events = recordPinnedEvents(() -> runOnVirtualThreads(50, () ->
+            FeelingAnalyser.analyzeFeelingType("Le service n'est pas bon mais la livraison est super")
+        ));
+
+        assertNoApplicationPinning(events);
+    }
+
+    private void assertNoApplicationPinning(List<RecordedEvent> events) {
+        List<RecordedEvent> applicationEvents = filterByFrame(
+            events, frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)
+                && !frame.getMethod().getType().getName().startsWith(getClass().getName())
+        );
+
+        assertTrue(applicationEvents.isEmpty(), () -> "Virtual thread pinning detected in application code :\n"
+            + applicationEvents.stream().map(RecordedEvent::toString).collect(Collectors.joining("\n")));
+    }
+
+    private static List<RecordedEvent> filterByFrame(List<RecordedEvent> events, Predicate<RecordedFrame> predicate) {
+        return events.stream()
+            .filter(event -> event.getStackTrace() != null)
+            .filter(event -> event.getStackTrace().getFrames().stream().anyMatch(predicate))
+            .toList();
+    }
+
+    private static List<RecordedEvent> recordPinnedEvents(Runnable workload) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+
+            Path dump = Files.createTempFile("pinning-audit", ".jfr");
+            try {
+                recording.dump(dump);
+                return RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                    .toList();
+            } finally {
+                Files.deleteIfExists(dump);
+            }
+        }
+    }
+
+    private static void runOnVirtualThreads(int count, Runnable task) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(CompletableFuture.runAsync(task, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Workload failed", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
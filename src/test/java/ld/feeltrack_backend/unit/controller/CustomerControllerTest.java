@@ -14,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -29,8 +30,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import ld.feeltrack_backend.controller.CustomerController;
 import ld.feeltrack_backend.controller.advice.ApplicationControllerAdvice;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.service.CustomerService;
+import ld.feeltrack_backend.service.ReviewService;
 import ld.feeltrack_backend.testutils.CustomerTestBuilder;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +46,9 @@ class CustomerControllerTest {
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private ReviewService reviewService;
+
     @InjectMocks
     private CustomerController customerController;
 
@@ -84,17 +92,19 @@ class CustomerControllerTest {
 
     //endregion
 
-    //region ---------- GET ALL CUSTOMERS ----------
+    //region ---------- FIND CUSTOMERS ----------
 
     @Test
-    void getAllCustomers_shouldReturnListOfCustomers() throws Exception {
-        Customer customer = CustomerTestBuilder.aCustomer().build();
+    void findCustomers_shouldReturnPageOfCustomers() throws Exception {
+        CustomerDTO customer = new CustomerDTO(1, "page@test.com", "0600000000");
 
-        when(customerService.getAllCustomers()).thenReturn(List.of(customer));
+        when(customerService.findCustomers("pa", null, CustomerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(new CursorPageDTO<>(List.of(customer), "next"));
 
-        mockMvc.perform(get("/customer"))
+        mockMvc.perform(get("/customer").param("email", "pa"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].email").value(customer.getEmail()));
+                .andExpect(jsonPath("$.items[0].email").value(customer.getEmail()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     //endregion
@@ -102,19 +112,44 @@ class CustomerControllerTest {
     //region ---------- GET CUSTOMER BY ID ----------
 
     @Test
-    void getCustomerById_shouldReturnCustomer_whenExists() throws Exception {
-        Customer customer = CustomerTestBuilder.aCustomer().withId(1).build();
+    void findCustomerReviews_shouldReturnPageOfReviews() throws Exception {
+        when(reviewService.findCustomerReviews(1, ReviewDTO.ALL_FIELDS, Sort.Direction.ASC, "abc", 20))
+            .thenReturn(new CursorPageDTO<>(List.of(), null));
+
+        mockMvc.perform(get("/customer/1/reviews")
+                .param("direction", "ASC")
+                .param("cursor", "abc")
+                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
 
-        when(customerService.getCustomerById(1)).thenReturn(customer);
+    @Test
+    void findCustomerReviews_shouldReturnNotFound_whenCustomerDoesNotExist() throws Exception {
+        when(reviewService.findCustomerReviews(99, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, ReviewService.DEFAULT_PAGE_SIZE))
+            .thenThrow(new EntityNotFoundException("No customer found with the ID : 99."));
+
+        mockMvc.perform(get("/customer/99/reviews"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getCustomerById_shouldReturnCustomerWithReviewStats_whenExists() throws Exception {
+        CustomerDTO customer = new CustomerDTO(1, "stats@test.com", null, 3L, 1L, null, null);
+
+        when(customerService.getCustomerDTOById(1)).thenReturn(customer);
 
         mockMvc.perform(get("/customer/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.email").value(customer.getEmail()));
+                .andExpect(jsonPath("$.email").value("stats@test.com"))
+                .andExpect(jsonPath("$.reviewStats.positive").value(3))
+                .andExpect(jsonPath("$.reviewStats.negative").value(1))
+                .andExpect(jsonPath("$.reviewStats.neutral").value(0));
     }
 
     @Test
     void getCustomerById_shouldReturn404_whenCustomerDoesNotExist() throws Exception {
-        when(customerService.getCustomerById(99))
+        when(customerService.getCustomerDTOById(99))
                 .thenThrow(new EntityNotFoundException("Customer not found"));
 
         mockMvc.perform(get("/customer/99"))
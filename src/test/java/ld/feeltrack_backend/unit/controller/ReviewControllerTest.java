@@ -1,5 +1,6 @@
 package ld.feeltrack_backend.unit.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -8,10 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -24,12 +28,21 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.cache.SerializedResponseCache;
 import ld.feeltrack_backend.controller.ReviewController;
 import ld.feeltrack_backend.controller.advice.ApplicationControllerAdvice;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.dto.ReviewTimelineDTO;
+import ld.feeltrack_backend.dto.TermCountDTO;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.enums.TimelineGranularity;
 import ld.feeltrack_backend.service.ReviewService;
-import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+import ld.feeltrack_backend.stats.ReviewStatsStream;
 import ld.feeltrack_backend.testutils.TestDataFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +53,12 @@ class ReviewControllerTest {
     @Mock
     private ReviewService reviewService;
 
+    @Spy
+    private SerializedResponseCache responseCache = new SerializedResponseCache(new ObjectMapper());
+
+    @Mock
+    private ReviewStatsStream reviewStatsStream;
+
     @InjectMocks
     private ReviewController reviewController;
 
@@ -76,56 +95,257 @@ class ReviewControllerTest {
 
     @Test
     void findReviews_shouldReturnAllReviews_whenTypeIsNull() throws Exception {
-        Review positiveReview = ReviewTestBuilder.aReview()
-                .withText("Super !")
-                .withType(ReviewType.POSITIVE)
-                .build();
-
-        Review negativeReview = ReviewTestBuilder.aReview()
-                .withText("Pas top")
-                .withType(ReviewType.NEGATIVE)
-                .build();
-
-        List<Review> allReviews = List.of(positiveReview, negativeReview);
+        ReviewDTO positiveReview = aReviewDTO(1, "Super !", ReviewType.POSITIVE);
+        ReviewDTO negativeReview = aReviewDTO(2, "Pas top", ReviewType.NEGATIVE);
 
-        when(reviewService.findReviews(null)).thenReturn(allReviews);
+        when(reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, ReviewService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPageDTO<>(List.of(positiveReview, negativeReview), null));
 
         mockMvc.perform(get("/review"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].text").value("Super !"))
-                .andExpect(jsonPath("$[0].type").value("POSITIVE"))
-                .andExpect(jsonPath("$[1].text").value("Pas top"))
-                .andExpect(jsonPath("$[1].type").value("NEGATIVE"));
+                .andExpect(jsonPath("$.items[0].text").value("Super !"))
+                .andExpect(jsonPath("$.items[0].type").value("POSITIVE"))
+                .andExpect(jsonPath("$.items[0].customer.email").value("client@test.com"))
+                .andExpect(jsonPath("$.items[1].text").value("Pas top"))
+                .andExpect(jsonPath("$.items[1].type").value("NEGATIVE"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
     void findReviews_shouldReturnFilteredReviews_whenTypeIsProvided() throws Exception {
-        Review positiveReview = ReviewTestBuilder.aReview()
-                .withText("Super !")
-                .withType(ReviewType.POSITIVE)
-                .build();
-
-        Review negativeReview1 = ReviewTestBuilder.aReview()
-                .withText("Pas top")
-                .withType(ReviewType.NEGATIVE)
-                .build();
-
-        Review negativeReview2 = ReviewTestBuilder.aReview()
-                .withText("Décevant")
-                .withType(ReviewType.NEGATIVE)
-                .build();
+        ReviewDTO negativeReview1 = aReviewDTO(1, "Pas top", ReviewType.NEGATIVE);
+        ReviewDTO negativeReview2 = aReviewDTO(2, "Décevant", ReviewType.NEGATIVE);
 
         // Service mocké : retourne uniquement les avis négatifs
-        when(reviewService.findReviews(ReviewType.NEGATIVE))
-                .thenReturn(List.of(negativeReview1, negativeReview2));
+        when(reviewService.findReviews(ReviewFilterDTO.ofType(ReviewType.NEGATIVE), ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, ReviewService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPageDTO<>(List.of(negativeReview1, negativeReview2), null));
 
         mockMvc.perform(get("/review")
                         .param("type", "NEGATIVE"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].type").value("NEGATIVE"))
-                .andExpect(jsonPath("$[0].text").value("Pas top"))
-                .andExpect(jsonPath("$[1].type").value("NEGATIVE"))
-                .andExpect(jsonPath("$[1].text").value("Décevant"));
+                .andExpect(jsonPath("$.items[0].type").value("NEGATIVE"))
+                .andExpect(jsonPath("$.items[0].text").value("Pas top"))
+                .andExpect(jsonPath("$.items[1].type").value("NEGATIVE"))
+                .andExpect(jsonPath("$.items[1].text").value("Décevant"));
+    }
+
+    @Test
+    void findReviews_shouldPassCursorAndLimit_andReturnNextCursor() throws Exception {
+        ReviewDTO review = aReviewDTO(1, "Super !", ReviewType.POSITIVE);
+
+        when(reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, "abc", 1))
+                .thenReturn(new CursorPageDTO<>(List.of(review), "def"));
+
+        mockMvc.perform(get("/review")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void findReviews_shouldBuildFilterFromRequestParameters() throws Exception {
+        ReviewFilterDTO filter = new ReviewFilterDTO(
+            ReviewType.POSITIVE, 12, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)
+        );
+
+        when(reviewService.findReviews(filter, ReviewDTO.ALL_FIELDS, Sort.Direction.ASC, null, ReviewService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPageDTO<>(List.of(aReviewDTO(5, "Super !", ReviewType.POSITIVE)), null));
+
+        mockMvc.perform(get("/review")
+                        .param("type", "POSITIVE")
+                        .param("customerId", "12")
+                        .param("from", "2026-03-01")
+                        .param("to", "2026-03-31")
+                        .param("direction", "ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(5));
+    }
+
+    @Test
+    void findReviews_shouldReturn400_whenDateIsInvalid() throws Exception {
+        mockMvc.perform(get("/review").param("from", "01/03/2026"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    @Test
+    void findReviews_shouldReturn400_whenServiceRejectsArguments() throws Exception {
+        when(reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, "bad", ReviewService.DEFAULT_PAGE_SIZE))
+                .thenThrow(new IllegalArgumentException("Invalid cursor : bad"));
+
+        mockMvc.perform(get("/review").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    //endregion
+
+    //region ---------- SEARCH REVIEWS ----------
+
+    @Test
+    void searchReviews_shouldReturnMatchingReviews() throws Exception {
+        when(reviewService.searchReviews("livraison", 5))
+                .thenReturn(List.of(aReviewDTO(3, "Livraison rapide", ReviewType.POSITIVE)));
+
+        mockMvc.perform(get("/review/search")
+                        .param("q", "livraison")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].text").value("Livraison rapide"));
+    }
+
+    @Test
+    void searchReviews_shouldWriteOnlyRequestedFields_whenFieldsIsProvided() throws Exception {
+        when(reviewService.searchReviews("livraison", ReviewService.DEFAULT_PAGE_SIZE))
+                .thenReturn(List.of(aReviewDTO(3, "Livraison rapide", ReviewType.POSITIVE)));
+
+        mockMvc.perform(get("/review/search")
+                        .param("q", "livraison")
+                        .param("fields", "id, customer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].customer.email").value("client@test.com"))
+                .andExpect(jsonPath("$[0].text").doesNotExist())
+                .andExpect(jsonPath("$[0].type").doesNotExist());
+    }
+
+    //endregion
+
+    //region ---------- GET REVIEW BY ID ----------
+
+    @Test
+    void getReviewById_shouldReturn200_whenReviewExists() throws Exception {
+        when(reviewService.getReviewById(1)).thenReturn(aReviewDTO(1, "Super !", ReviewType.POSITIVE));
+
+        mockMvc.perform(get("/review/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.customer.id").value(7));
+    }
+
+    @Test
+    void getReviewById_shouldReturn404_whenReviewDoesNotExist() throws Exception {
+        when(reviewService.getReviewById(99)).thenThrow(new EntityNotFoundException("Review not found"));
+
+        mockMvc.perform(get("/review/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    //endregion
+
+    //region ---------- GET REVIEW STATS ----------
+
+    @Test
+    void getReviewStats_shouldServeCachedBody_withoutCallingServiceAgain() throws Exception {
+        when(reviewService.getReviewStats()).thenReturn(new ReviewStatsDTO(5, 3, 2));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/review/stats"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.positive").value(5))
+                    .andExpect(jsonPath("$.neutral").value(2));
+        }
+
+        verify(reviewService, times(1)).getReviewStats();
+    }
+
+    @Test
+    void countReviewsBetween_shouldReturnCountsOfRange() throws Exception {
+        when(reviewService.countReviewsBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31)))
+            .thenReturn(new ReviewStatsDTO(120, 40, 15));
+
+        mockMvc.perform(get("/review/stats/range").param("from", "2024-01-01").param("to", "2025-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.positive").value(120))
+                .andExpect(jsonPath("$.neutral").value(15));
+    }
+
+    @Test
+    void countReviewsBetween_shouldReturn400_whenDateIsMissing() throws Exception {
+        mockMvc.perform(get("/review/stats/range").param("from", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTimeline_shouldNotCache_whenWindowIsNotTheDefault() throws Exception {
+        LocalDate today = LocalDate.now();
+        when(reviewService.getTimeline(today.minusDays(6), today, TimelineGranularity.DAY))
+            .thenReturn(emptyTimeline(today.minusDays(6), today, TimelineGranularity.DAY));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/review/stats/timeline").param("days", "7"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.granularity").value("DAY"))
+                    .andExpect(jsonPath("$.positive").isArray());
+        }
+
+        verify(reviewService, times(2)).getTimeline(today.minusDays(6), today, TimelineGranularity.DAY);
+    }
+
+    @Test
+    void getTimeline_shouldPassExplicitRangeAndGranularity() throws Exception {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        when(reviewService.getTimeline(from, to, TimelineGranularity.MONTH))
+            .thenReturn(emptyTimeline(from, to, TimelineGranularity.MONTH));
+
+        mockMvc.perform(get("/review/stats/timeline")
+                        .param("from", "2026-01-01")
+                        .param("to", "2026-03-31")
+                        .param("granularity", "MONTH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("MONTH"))
+                .andExpect(jsonPath("$.dates").isArray());
+    }
+
+    @Test
+    void getTimeline_shouldReturn400_whenGranularityIsUnknown() throws Exception {
+        mockMvc.perform(get("/review/stats/timeline").param("granularity", "YEAR"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ENUM_VALUE_INVALID"));
+    }
+
+    @Test
+    void getUniqueReviewers_shouldUseLastDaysWindow_whenNoRangeGiven() throws Exception {
+        LocalDate today = LocalDate.now();
+        when(reviewService.getUniqueReviewers(today.minusDays(13), today, TimelineGranularity.WEEK))
+            .thenReturn(emptyTimeline(today.minusDays(13), today, TimelineGranularity.WEEK));
+
+        mockMvc.perform(get("/review/stats/reviewers").param("days", "14").param("granularity", "WEEK"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("WEEK"));
+    }
+
+    @Test
+    void getUniqueReviewers_shouldReturn400_whenDaysIsNotPositive() throws Exception {
+        mockMvc.perform(get("/review/stats/reviewers").param("days", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
+    }
+
+    @Test
+    void getTopTerms_shouldDefaultToNegativeReviewsOfLastWeek() throws Exception {
+        when(reviewService.getTopTerms(ReviewType.NEGATIVE, 7, 10))
+            .thenReturn(List.of(new TermCountDTO("livraison", 12, 1)));
+
+        mockMvc.perform(get("/review/stats/top-terms"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].term").value("livraison"))
+                .andExpect(jsonPath("$[0].count").value(12))
+                .andExpect(jsonPath("$[0].error").value(1));
+    }
+
+    @Test
+    void getTopTerms_shouldReturn400_whenArgumentsAreInvalid() throws Exception {
+        when(reviewService.getTopTerms(ReviewType.POSITIVE, 90, 10))
+            .thenThrow(new IllegalArgumentException("Days must be between 1 and 30."));
+
+        mockMvc.perform(get("/review/stats/top-terms").param("type", "POSITIVE").param("days", "90"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ARGUMENTS_INVALID"));
     }
 
     //endregion
@@ -150,4 +370,12 @@ class ReviewControllerTest {
     }
 
     //endregion
+
+    private static ReviewDTO aReviewDTO(int id, String text, ReviewType type) {
+        return new ReviewDTO(id, text, type, null, null, new CustomerDTO(7, "client@test.com", null));
+    }
+
+    private static ReviewTimelineDTO emptyTimeline(LocalDate from, LocalDate to, TimelineGranularity granularity) {
+        return new ReviewTimelineDTO(granularity, from, to, List.of(), new long[0], new long[0], new long[0]);
+    }
 }
@@ -0,0 +1,74 @@
+package ld.feeltrack_backend.unit.controller.interceptor;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.Cookie;
+import ld.feeltrack_backend.controller.interceptor.ReadYourWritesInterceptor;
+import ld.feeltrack_backend.datasource.PrimaryPin;
+
+class ReadYourWritesInterceptorTest {
+
+    private static final Duration STICKINESS = Duration.ofSeconds(5);
+
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(STICKINESS);
+
+    @AfterEach
+    void unpin() {
+        PrimaryPin.unpin();
+    }
+
+    @Test
+    void writeRequest_shouldPinToPrimary_andSetStickyCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/review");
+        request.setContextPath("/api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+
+        assertTrue(PrimaryPin.isPinned());
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesInterceptor.COOKIE_NAME + "="));
+        assertTrue(cookie.contains("Path=/api"));
+        assertTrue(cookie.contains("Max-Age=5"));
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertFalse(PrimaryPin.isPinned());
+    }
+
+    @Test
+    void readRequest_shouldPinToPrimary_onlyWithinStickinessWindow() {
+        long now = System.currentTimeMillis();
+
+        assertPinned(false, null);
+        assertPinned(true, Long.toString(now + 3_000));
+        // Fenêtre expirée, valeur forgée au-delà de la fenêtre ou illisible
+        assertPinned(false, Long.toString(now - 1_000));
+        assertPinned(false, Long.toString(now + 60_000));
+        assertPinned(false, "forever");
+    }
+
+    private void assertPinned(boolean expected, String cookieValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/review");
+        if (cookieValue != null) {
+            request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, cookieValue));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+
+        assertTrue(expected == PrimaryPin.isPinned(), "Pinned for cookie " + cookieValue);
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+        interceptor.afterCompletion(request, response, null, null);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Routage lecture / écriture entre deux bases H2 distinctes, chacune portant son nom dans
+ * une table : la base lue indique la route prise par la transaction.
+ */
+
+package ld.feeltrack_backend.unit.datasource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ld.feeltrack_backend.datasource.PrimaryPin;
+import ld.feeltrack_backend.datasource.ReadWriteRoutingDataSource;
+import ld.feeltrack_backend.datasource.ReplicaLagMonitor;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag AS Seconds_Behind_Master FROM replication_status";
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("primary");
+        DataSource replicaDataSource = database("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE replication_status (lag BIGINT)");
+
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, LAG_QUERY, Duration.ofSeconds(2), new SimpleMeterRegistry());
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+            primaryDataSource, replicaDataSource, lagMonitor, new SimpleMeterRegistry()
+        ));
+
+        routed = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPin.unpin();
+        primary.execute("SHUTDOWN");
+        replica.execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadReplica_whenLagIsWithinTolerance() {
+        setLag(1L);
+
+        assertTrue(lagMonitor.isReplicaUsable());
+        assertEquals("replica", readOnlyTransaction.execute(status -> instanceName()));
+        assertEquals("primary", readWriteTransaction.execute(status -> instanceName()));
+        // Hors transaction : primaire
+        assertEquals("primary", instanceName());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadPrimary_whenPinned() {
+        setLag(0L);
+
+        assertEquals("primary", PrimaryPin.call(() -> readOnlyTransaction.execute(status -> instanceName())));
+        assertFalse(PrimaryPin.isPinned());
+        assertEquals("replica", readOnlyTransaction.execute(status -> instanceName()));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadPrimary_whenReplicaLagsTooMuch() {
+        setLag(10L);
+
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals(10L, lagMonitor.getLagSeconds());
+        assertEquals("primary", readOnlyTransaction.execute(status -> instanceName()));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadPrimary_whenReplicationIsStoppedOrMissing() {
+        // Réplication arrêtée : retard NULL
+        setLag(null);
+        assertNull(lagMonitor.getLagSeconds());
+        assertEquals("primary", readOnlyTransaction.execute(status -> instanceName()));
+
+        // Réplication non configurée : aucune ligne
+        replica.update("DELETE FROM replication_status");
+        lagMonitor.check();
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnlyTransaction.execute(status -> instanceName()));
+    }
+
+    private String instanceName() {
+        return routed.queryForObject("SELECT name FROM instance", String.class);
+    }
+
+    private void setLag(Long lag) {
+        replica.update("DELETE FROM replication_status");
+        replica.update("INSERT INTO replication_status (lag) VALUES (?)", lag);
+        lagMonitor.check();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE instance (name VARCHAR(20))");
+        jdbc.update("INSERT INTO instance (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
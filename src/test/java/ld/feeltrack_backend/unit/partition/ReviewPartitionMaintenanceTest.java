@@ -0,0 +1,114 @@
+package ld.feeltrack_backend.unit.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.partition.ReviewPartitionMaintenance;
+import ld.feeltrack_backend.partition.ReviewPartitionMaintenance.ArchiveTable;
+import ld.feeltrack_backend.partition.ReviewPartitionMaintenance.ReviewPartition;
+
+class ReviewPartitionMaintenanceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private static final List<ReviewPartition> PARTITIONS = List.of(
+        new ReviewPartition("p202509", LocalDate.of(2025, 10, 1)),
+        new ReviewPartition("p202510", LocalDate.of(2025, 11, 1)),
+        new ReviewPartition("p202511", LocalDate.of(2025, 12, 1)),
+        new ReviewPartition("p202611", LocalDate.of(2026, 12, 1)),
+        new ReviewPartition("pmax", null)
+    );
+
+    @Test
+    void plan_shouldCarveMissingMonthsOutOfCatchAllPartition() {
+        List<String> statements = maintenance(3, 0, true).plan(PARTITIONS, List.of(), TODAY);
+
+        assertEquals(List.of(
+            "ALTER TABLE review REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+                + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))"
+        ), statements);
+    }
+
+    @Test
+    void plan_shouldDoNothing_whenMonthsAreAlreadyCreated() {
+        assertTrue(maintenance(1, 0, true).plan(PARTITIONS, List.of(), TODAY).isEmpty());
+    }
+
+    @Test
+    void plan_shouldArchiveExpiredPartitionsByExchange() {
+        // 12 mois conservés : de novembre 2025 à octobre 2026
+        List<String> statements = maintenance(1, 12, true).plan(PARTITIONS, List.of(), TODAY);
+
+        assertEquals(List.of(
+            "CREATE TABLE IF NOT EXISTS review_archive_p202509 LIKE review",
+            "ALTER TABLE review_archive_p202509 REMOVE PARTITIONING",
+            "ALTER TABLE review EXCHANGE PARTITION p202509 WITH TABLE review_archive_p202509",
+            "ALTER TABLE review DROP PARTITION p202509",
+            "CREATE TABLE IF NOT EXISTS review_archive_p202510 LIKE review",
+            "ALTER TABLE review_archive_p202510 REMOVE PARTITIONING",
+            "ALTER TABLE review EXCHANGE PARTITION p202510 WITH TABLE review_archive_p202510",
+            "ALTER TABLE review DROP PARTITION p202510"
+        ), statements);
+    }
+
+    @Test
+    void plan_shouldResumeInterruptedArchival_fromStateOfArchiveTables() {
+        // Passage précédent interrompu : p202509 échangée mais pas supprimée, p202510 créée seulement
+        List<ArchiveTable> archives = List.of(
+            new ArchiveTable("review_archive_p202509", false, false),
+            new ArchiveTable("review_archive_p202510", true, true)
+        );
+
+        List<String> statements = maintenance(1, 12, true).plan(PARTITIONS, archives, TODAY);
+
+        assertEquals(List.of(
+            "ALTER TABLE review DROP PARTITION p202509",
+            "ALTER TABLE review_archive_p202510 REMOVE PARTITIONING",
+            "ALTER TABLE review EXCHANGE PARTITION p202510 WITH TABLE review_archive_p202510",
+            "ALTER TABLE review DROP PARTITION p202510"
+        ), statements);
+    }
+
+    @Test
+    void plan_shouldExchangeIntoEmptyArchive_leftReadyByPreviousRun() {
+        List<ArchiveTable> archives = List.of(new ArchiveTable("review_archive_p202509", false, true));
+
+        List<String> statements = maintenance(1, 12, true).plan(PARTITIONS.subList(0, 1), archives, TODAY);
+
+        assertEquals(List.of(
+            "ALTER TABLE review EXCHANGE PARTITION p202509 WITH TABLE review_archive_p202509",
+            "ALTER TABLE review DROP PARTITION p202509"
+        ), statements);
+    }
+
+    @Test
+    void plan_shouldDropExpiredPartitions_whenArchiveIsDisabled() {
+        List<String> statements = maintenance(1, 12, false).plan(PARTITIONS, List.of(), TODAY);
+
+        assertEquals(List.of(
+            "ALTER TABLE review DROP PARTITION p202509",
+            "ALTER TABLE review DROP PARTITION p202510"
+        ), statements);
+    }
+
+    @Test
+    void constructor_shouldRefuseRetention_whenReviewArchivalIsEnabled() {
+        assertThrows(IllegalArgumentException.class, () -> new ReviewPartitionMaintenance(null, true, 1, 12, true, 365));
+    }
+
+    @Test
+    void constructor_shouldAcceptArchival_withoutRetention() {
+        assertTrue(new ReviewPartitionMaintenance(null, true, 1, 0, true, 365).plan(PARTITIONS, List.of(), TODAY).isEmpty());
+    }
+
+    private static ReviewPartitionMaintenance maintenance(int monthsAhead, int retentionMonths, boolean archiveExpired) {
+        return new ReviewPartitionMaintenance(null, true, monthsAhead, retentionMonths, archiveExpired, 0);
+    }
+}
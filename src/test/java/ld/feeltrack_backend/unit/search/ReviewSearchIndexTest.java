@@ -0,0 +1,152 @@
+package ld.feeltrack_backend.unit.search;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.search.ReviewSearchIndex;
+
+class ReviewSearchIndexTest {
+
+    private ReviewSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ReviewSearchIndex();
+        index.add(1, "Livraison rapide, très bon produit");
+        index.add(2, "Livraison en retard et produit abîmé");
+        index.add(3, "Application pleine de bugs");
+        index.add(4, "Les bugs sont corrigés, la LIVRAISON était parfaite");
+    }
+
+    @Test
+    void search_shouldReturnMatchingIdsMostRecentFirst() {
+        assertArrayEquals(new int[] {4, 2, 1}, index.search("livraison", 10));
+    }
+
+    @Test
+    void search_shouldIgnoreCaseAndAccents() {
+        assertArrayEquals(new int[] {2}, index.search("ABIME", 10));
+        assertArrayEquals(new int[] {4}, index.search("corrigés", 10));
+    }
+
+    @Test
+    void search_shouldRequireEveryTerm() {
+        assertArrayEquals(new int[] {4}, index.search("bugs livraison", 10));
+        assertArrayEquals(new int[0], index.search("bugs inconnu", 10));
+    }
+
+    @Test
+    void search_shouldApplyLimit() {
+        assertArrayEquals(new int[] {4, 2}, index.search("livraison", 2));
+    }
+
+    @Test
+    void search_shouldThrowException_whenQueryHasNoTerm() {
+        assertThrows(IllegalArgumentException.class, () -> index.search(" ! ", 10));
+    }
+
+    @Test
+    void remove_shouldDropReviewAndEmptyTerms() {
+        int termsBefore = index.termCount();
+
+        index.remove(3, "Application pleine de bugs");
+
+        assertArrayEquals(new int[] {4}, index.search("bugs", 10));
+        assertArrayEquals(new int[0], index.search("application", 10));
+        assertTrue(index.termCount() < termsBefore);
+    }
+
+    @Test
+    void add_shouldKeepIdsSorted_whenInsertedOutOfOrder() {
+        index.add(1_000, "livraison");
+        index.add(3, "livraison");
+        index.add(300, "livraison");
+
+        assertArrayEquals(new int[] {1_000, 300, 4, 3, 2, 1}, index.search("livraison", 10));
+    }
+
+    @Test
+    void postings_shouldBeCompressed() {
+        ReviewSearchIndex large = new ReviewSearchIndex();
+        large.beginBuild();
+        for (int id = 1; id <= 10_000; id++) {
+            large.add(id, "livraison");
+        }
+        large.endBuild(true);
+
+        // Écarts de 1 entre ids consécutifs : un octet par id au lieu des quatre d'un int
+        assertEquals(10_000, large.encodedBytes());
+        assertEquals(10_000, large.search("livraison", 20_000).length);
+    }
+
+    @Test
+    void endBuild_shouldReplayRemovalsReceivedDuringBuild() {
+        ReviewSearchIndex building = new ReviewSearchIndex();
+        building.beginBuild();
+        building.add(1, "livraison");
+        // Suppression reçue alors que l'avis 2 n'a pas encore été lu par la construction
+        building.remove(2, "livraison");
+        building.add(2, "livraison");
+        building.endBuild(true);
+
+        assertArrayEquals(new int[] {1}, building.search("livraison", 10));
+    }
+
+    @Test
+    void remove_shouldHideIdsWithoutLosingOthers_acrossCompactions() {
+        ReviewSearchIndex large = new ReviewSearchIndex();
+        for (int id = 1; id <= 1_000; id++) {
+            large.add(id, "livraison");
+        }
+        // Suppressions et insertions hors ordre, assez nombreuses pour déclencher plusieurs réencodages
+        for (int id = 2; id <= 1_000; id += 2) {
+            large.remove(id, "livraison");
+        }
+        large.add(500, "livraison");
+        large.add(500, "livraison");
+        large.remove(999, "livraison");
+
+        int[] found = large.search("livraison", 2_000);
+        assertEquals(500, found.length);
+        assertEquals(997, found[0]);
+        assertEquals(1, found[found.length - 1]);
+        assertTrue(Arrays.stream(found).anyMatch(id -> id == 500));
+        assertTrue(Arrays.stream(found).noneMatch(id -> id == 502));
+    }
+
+    @Test
+    void remove_shouldDropTerm_whenLastIdIsRemovedAfterOutOfOrderInsert() {
+        int termsBefore = index.termCount();
+        index.add(2, "unique");
+        index.add(1, "unique");
+
+        index.remove(2, "unique");
+        index.remove(1, "unique");
+
+        assertArrayEquals(new int[0], index.search("unique", 10));
+        assertEquals(termsBefore, index.termCount());
+    }
+
+    @Test
+    void isBuilt_shouldBeFalse_untilBuildCompletes() {
+        ReviewSearchIndex building = new ReviewSearchIndex();
+        assertFalse(building.isBuilt());
+
+        building.beginBuild();
+        building.add(1, "livraison");
+        assertFalse(building.isBuilt());
+        building.endBuild(true);
+        assertTrue(building.isBuilt());
+
+        building.beginBuild();
+        building.endBuild(false);
+        assertFalse(building.isBuilt());
+    }
+}
@@ -0,0 +1,44 @@
+package ld.feeltrack_backend.unit.search;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.search.TextTokenizer;
+
+class TextTokenizerTest {
+
+    @Test
+    void tokenize_shouldFoldCaseAndAccents() {
+        Set<String> terms = TextTokenizer.tokenize("Très DÉÇU par la Livraison");
+
+        assertEquals(List.of("tres", "decu", "par", "la", "livraison"), List.copyOf(terms));
+    }
+
+    @Test
+    void tokenize_shouldSplitElisionsAndPunctuation() {
+        Set<String> terms = TextTokenizer.tokenize("L'appli plante : bugs, bugs et re-bugs !");
+
+        assertEquals(List.of("appli", "plante", "bugs", "et", "re"), List.copyOf(terms));
+    }
+
+    @Test
+    void tokenize_shouldExpandLigatures() {
+        assertEquals(Set.of("oeuvre", "ex", "aequo"), TextTokenizer.tokenize("Œuvre ex-æquo"));
+    }
+
+    @Test
+    void tokenize_shouldKeepDigits() {
+        assertEquals(Set.of("livre", "en", "48h"), TextTokenizer.tokenize("Livré en 48h"));
+    }
+
+    @Test
+    void tokenize_shouldReturnEmptySet_whenTextIsBlankOrNull() {
+        assertTrue(TextTokenizer.tokenize("   ").isEmpty());
+        assertTrue(TextTokenizer.tokenize(null).isEmpty());
+        assertTrue(TextTokenizer.tokenize("à !").isEmpty());
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -14,14 +15,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
 import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.event.CustomerChangedEvent;
+import ld.feeltrack_backend.pagination.CustomerCursor;
 import ld.feeltrack_backend.repository.CustomerRepository;
+import ld.feeltrack_backend.repository.CustomerReviewStatsRepository;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
 import ld.feeltrack_backend.repository.ReviewRepository;
 import ld.feeltrack_backend.service.CustomerService;
 import ld.feeltrack_backend.testutils.CustomerTestBuilder;
@@ -36,6 +46,15 @@ class CustomerServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewArchiveRepository reviewArchiveRepository;
+
+    @Mock
+    private CustomerReviewStatsRepository customerReviewStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -92,7 +111,9 @@ class CustomerServiceTest {
         customerService.deleteCustomer(customerId);
 
         verify(customerRepository).existsById(customerId);
+        verify(customerReviewStatsRepository).deleteById(customerId);
         verify(customerRepository).deleteById(customerId);
+        verify(eventPublisher).publishEvent(new CustomerChangedEvent(customerId));
     }
 
     @Test
@@ -140,28 +161,69 @@ class CustomerServiceTest {
     }
     //endregion
 
-    //region ------------ GET ALL CUSTOMERS ------------
+    //region ------------ FIND CUSTOMERS ------------
 
     @Test
-    void getAllCustomers_shouldReturnAllCustomers_whenCustomersExist() {
-        List<Customer> existingCustomers = TestDataFactory.createCustomerList(2);
+    void findCustomers_shouldReturnLastPage_whenFewerCustomersThanLimit() {
+        List<CustomerDTO> customers = List.of(
+            new CustomerDTO(1, "a@test.com", null),
+            new CustomerDTO(2, "b@test.com", null)
+        );
+
+        when(customerRepository.findPageAfter("", Limit.of(11))).thenReturn(customers);
 
-        when(customerRepository.findAll()).thenReturn(existingCustomers);
+        CursorPageDTO<CustomerDTO> page = customerService.findCustomers(null, null, 10);
+
+        assertEquals(customers, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void findCustomers_shouldReturnCursorOfLastItem_whenMoreCustomersThanLimit() {
+        when(customerRepository.findPageAfter("a@test.com", Limit.of(3))).thenReturn(List.of(
+            new CustomerDTO(2, "b@test.com", null),
+            new CustomerDTO(3, "c@test.com", null),
+            new CustomerDTO(4, "d@test.com", null)
+        ));
+
+        CursorPageDTO<CustomerDTO> page = customerService.findCustomers(
+            null, new CustomerCursor("a@test.com").encode(), 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("c@test.com", CustomerCursor.decode(page.getNextCursor()).email());
+    }
+
+    @Test
+    void findCustomers_shouldSearchEmailPrefix_whenPrefixGiven() {
+        when(customerRepository.findPageByEmailPrefix("Ali", "Ali%", "", Limit.of(51))).thenReturn(List.of());
 
-        List<Customer> returnedCustomers = customerService.getAllCustomers();
+        customerService.findCustomers("Ali", null, CustomerService.DEFAULT_PAGE_SIZE);
 
-        assertEquals(existingCustomers.size(), returnedCustomers.size());
-        verify(customerRepository).findAll();
+        verify(customerRepository).findPageByEmailPrefix("Ali", "Ali%", "", Limit.of(51));
+        verifyNoMoreInteractions(customerRepository);
     }
 
     @Test
-    void getAllCustomers_shouldReturnEmptyList_whenNoCustomerExists() {
-        when(customerRepository.findAll()).thenReturn(List.of());
+    void findCustomers_shouldEscapeLikeWildcards_inPrefix() {
+        when(customerRepository.findPageByEmailPrefix("a_b%!.", "a!_b!%!!.%", "", Limit.of(11))).thenReturn(List.of());
+
+        customerService.findCustomers("a_b%!.", null, 10);
+
+        verify(customerRepository).findPageByEmailPrefix("a_b%!.", "a!_b!%!!.%", "", Limit.of(11));
+    }
 
-        List<Customer> returnedCustomers = customerService.getAllCustomers();
+    @Test
+    void findCustomers_shouldThrowIllegalArgument_whenLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+            () -> customerService.findCustomers(null, null, CustomerService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> customerService.findCustomers(null, null, 0));
+        verifyNoInteractions(customerRepository);
+    }
 
-        assertTrue(returnedCustomers.isEmpty());
-        verify(customerRepository).findAll();
+    @Test
+    void findCustomers_shouldThrowIllegalArgument_whenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> customerService.findCustomers(null, "%%%", 10));
+        verifyNoInteractions(customerRepository);
     }
 
     //endregion
@@ -205,6 +267,18 @@ class CustomerServiceTest {
         verify(customerRepository).findById(nonExistentCustomerId);
     }
 
+    @Test
+    void getCustomerDTOById_shouldThrowException_whenCustomerDoesNotExist() {
+        when(customerRepository.findDTOById(111)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> customerService.getCustomerDTOById(111)
+        );
+
+        assertEquals("No customer found with the ID : 111.", exception.getMessage());
+    }
+
     //endregion
 
     //region ------------ FIND OR CREATE CUSTOMER ------------
@@ -224,6 +298,7 @@ class CustomerServiceTest {
         assertEquals(existingCustomer.getId(), foundCustomer.getId());
         verify(customerRepository).findByEmail(existingCustomer.getEmail());
         verifyNoMoreInteractions(customerRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -240,6 +315,7 @@ class CustomerServiceTest {
         assertEquals(customerToCreate.getEmail(), createdCustomer.getEmail());
         verify(customerRepository).findByEmail(customerToCreate.getEmail());
         verify(customerRepository).save(customerToCreate);
+        verify(eventPublisher).publishEvent(any(CustomerChangedEvent.class));
     }
 
     //endregion
@@ -362,6 +438,7 @@ class CustomerServiceTest {
         assertEquals("0700000000", updatedCustomer.getPhone());
 
         verify(customerRepository).save(existingCustomer);
+        verify(eventPublisher).publishEvent(new CustomerChangedEvent(customerId));
     }
 
     //endregion
@@ -0,0 +1,193 @@
+package ld.feeltrack_backend.unit.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.persistence.EntityManager;
+import ld.feeltrack_backend.archive.ReviewArchive;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
+import ld.feeltrack_backend.entity.Customer;
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
+import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.service.ReviewExportService;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+import ld.feeltrack_backend.testutils.TestDataFactory;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewExportServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewArchiveRepository reviewArchiveRepository;
+
+    @Mock
+    private ReviewArchive reviewArchive;
+
+    @Mock
+    private ReviewDailyStatsRepository reviewDailyStatsRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ReviewExportService reviewExportService;
+
+    @BeforeEach
+    void setup() {
+        reviewExportService = new ReviewExportService(reviewRepository, reviewArchiveRepository, reviewArchive,
+            reviewDailyStatsRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    void exportReviewsAsNdjson_shouldWriteOneJsonObjectPerLine() throws Exception {
+        Customer customer = TestDataFactory.createCompleteCustomerWithId(1);
+        Review first = ReviewTestBuilder.aReview().withId(1).withCustomer(customer)
+            .withText("Première ligne").withType(ReviewType.POSITIVE).build();
+        Review second = ReviewTestBuilder.aReview().withId(2).withCustomer(customer)
+            .withText("Avec un \"guillemet\"\net un saut de ligne").withType(ReviewType.NEGATIVE).build();
+
+        when(reviewRepository.streamAllWithCustomer()).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = reviewExportService.exportReviewsAsNdjson(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertEquals(2, secondLine.get("id").asInt());
+        assertEquals(second.getText(), secondLine.get("text").asText());
+        assertEquals(customer.getEmail(), secondLine.get("customer").get("email").asText());
+    }
+
+    @Test
+    void exportReviewsAsNdjson_shouldDetachEachExportedEntity() throws Exception {
+        Customer customer = TestDataFactory.createCompleteCustomerWithId(1);
+        Review review = ReviewTestBuilder.aReview().withId(1).withCustomer(customer).build();
+
+        when(reviewRepository.streamAllWithCustomer()).thenReturn(Stream.of(review));
+
+        reviewExportService.exportReviewsAsNdjson(new ByteArrayOutputStream());
+
+        verify(entityManager).detach(review);
+        verify(entityManager).detach(customer);
+    }
+
+    @Test
+    void exportReviewsAsNdjson_shouldWriteNothing_whenNoReviews() throws Exception {
+        when(reviewRepository.streamAllWithCustomer()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = reviewExportService.exportReviewsAsNdjson(output);
+
+        assertEquals(0, count);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void exportReviewsAsCsv_shouldQuoteFieldsAndNeutralizeFormulas() throws Exception {
+        // Secondes nulles d'un côté, fraction de seconde de l'autre : même format de colonne
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 2, 10, 15);
+        LocalDateTime laterCreatedAt = LocalDateTime.of(2026, 3, 2, 10, 15, 30, 123_456_000);
+        ReviewFilterDTO filter = ReviewFilterDTO.ofType(ReviewType.NEGATIVE);
+        when(reviewRepository.streamFiltered(filter)).thenReturn(Stream.of(
+            new ReviewDTO(1, "Livraison en retard, colis \"abîmé\"\nà revoir", ReviewType.NEGATIVE, createdAt,
+                createdAt.toLocalDate(), new CustomerDTO(7, "client@test.com", null)),
+            new ReviewDTO(2, "=HYPERLINK(\"http://x\")", ReviewType.NEGATIVE, laterCreatedAt, createdAt.toLocalDate(), null)
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = reviewExportService.exportReviewsAsCsv(output, filter);
+
+        assertEquals(2, count);
+        assertEquals(
+            "id,created_at,created_date,type,customer_id,customer_email,customer_phone,text\r\n"
+                + "1,2026-03-02T10:15:00,2026-03-02,NEGATIVE,7,client@test.com,,\"Livraison en retard, colis \"\"abîmé\"\"\nà revoir\"\r\n"
+                + "2,2026-03-02T10:15:30,2026-03-02,NEGATIVE,,,,\"'=HYPERLINK(\"\"http://x\"\")\"\r\n",
+            output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void exportTimelineAsCsv_shouldWriteOneLinePerDay_withZeroFilledGaps() throws Exception {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 4);
+        when(reviewDailyStatsRepository.streamTimeline(from, to)).thenReturn(Stream.of(
+            timelineRow(LocalDate.of(2026, 3, 2), ReviewType.POSITIVE, 3),
+            timelineRow(LocalDate.of(2026, 3, 2), ReviewType.NEUTRAL, 1),
+            timelineRow(LocalDate.of(2026, 3, 3), ReviewType.NEGATIVE, 2)
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = reviewExportService.exportTimelineAsCsv(output, from, to);
+
+        assertEquals(4, count);
+        assertEquals(
+            "date,positive,negative,neutral\r\n"
+                + "2026-03-01,0,0,0\r\n"
+                + "2026-03-02,3,0,1\r\n"
+                + "2026-03-03,0,2,0\r\n"
+                + "2026-03-04,0,0,0\r\n",
+            output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void exportTimelineAsCsv_shouldStartAtFirstReviewDay_whenFromIsMissing() throws Exception {
+        LocalDate to = LocalDate.of(2026, 3, 4);
+        when(reviewRepository.findFirstCreatedDate()).thenReturn(Optional.of(LocalDate.of(2026, 3, 3)));
+        when(reviewDailyStatsRepository.streamTimeline(LocalDate.of(2026, 3, 3), to)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertEquals(2, reviewExportService.exportTimelineAsCsv(output, null, to));
+    }
+
+    private static ReviewTimelineProjection timelineRow(LocalDate day, ReviewType type, long count) {
+        return new ReviewTimelineProjection() {
+            @Override
+            public LocalDate getCreatedDate() {
+                return day;
+            }
+
+            @Override
+            public ReviewType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -1,33 +1,67 @@
 package ld.feeltrack_backend.unit.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import ld.feeltrack_backend.archive.ReviewArchive;
+import ld.feeltrack_backend.cache.AggregationCache;
+import ld.feeltrack_backend.concurrent.BoundedExecutor;
+import ld.feeltrack_backend.dto.CursorPageDTO;
+import ld.feeltrack_backend.dto.CustomerDTO;
+import ld.feeltrack_backend.dto.ReviewDTO;
+import ld.feeltrack_backend.dto.ReviewFilterDTO;
 import ld.feeltrack_backend.dto.ReviewStatsDTO;
+import ld.feeltrack_backend.dto.ReviewTimelineDTO;
+import ld.feeltrack_backend.dto.TermCountDTO;
 import ld.feeltrack_backend.entity.Customer;
 import ld.feeltrack_backend.entity.Review;
 import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.enums.TimelineGranularity;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.exception.ServiceNotReadyException;
 import ld.feeltrack_backend.external.nlp.FeelingAnalyser;
+import ld.feeltrack_backend.pagination.ReviewCursor;
 import ld.feeltrack_backend.projection.ReviewCountProjection;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.repository.ReviewArchiveRepository;
+import ld.feeltrack_backend.repository.ReviewDailyStatsRepository;
 import ld.feeltrack_backend.repository.ReviewRepository;
+import ld.feeltrack_backend.search.ReviewSearchIndex;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndex;
+import ld.feeltrack_backend.stats.ReviewTopTerms;
+import ld.feeltrack_backend.stats.ReviewTypeCounters;
+import ld.feeltrack_backend.stats.UniqueReviewerSketches;
 import ld.feeltrack_backend.service.CustomerService;
 import ld.feeltrack_backend.service.ReviewService;
 import ld.feeltrack_backend.testutils.CustomerTestBuilder;
@@ -43,9 +77,48 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewArchiveRepository reviewArchiveRepository;
+
+    @Mock
+    private ReviewArchive reviewArchive;
+
     @Mock
     private CustomerService customerService;
 
+    @Spy
+    private BoundedExecutor nlpExecutor =
+        new BoundedExecutor("nlp-test", Executors.newVirtualThreadPerTaskExecutor(), 1, Duration.ofSeconds(1));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReviewSearchIndex reviewSearchIndex;
+
+    @Mock
+    private ReviewTypeCounters reviewTypeCounters;
+
+    @Mock
+    private ReviewDailyStatsRepository reviewDailyStatsRepository;
+
+    @Mock
+    private ReviewDateRangeIndex reviewDateRangeIndex;
+
+    @Mock
+    private UniqueReviewerSketches uniqueReviewerSketches;
+
+    @Mock
+    private ReviewTopTerms reviewTopTerms;
+
+    // Cache désactivé : chaque appel exécute la requête
+    @Spy
+    private AggregationCache aggregationCache =
+        new AggregationCache(null, null, new SimpleMeterRegistry(), false, 1, Duration.ofMinutes(1));
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -182,6 +255,7 @@ class ReviewServiceTest {
 
             verify(customerService).findOrCreateCustomer(customerFromRequest);
             verify(reviewRepository).save(reviewToCreate);
+            verify(eventPublisher).publishEvent(new ReviewCreatedEvent(createdReview));
         }
     }
 
@@ -190,71 +264,230 @@ class ReviewServiceTest {
     //region ------------ FIND REVIEWS ------------
 
     @Test
-    void findReviews_shouldReturnAllReviews_whenTypeIsNull() {
-        Customer customer = TestDataFactory.createDefaultCustomer();
+    void findReviews_shouldReturnAllReviews_whenNoFilterIsGiven() {
+        CustomerDTO customer = new CustomerDTO(1, "client@test.com", null);
 
-        Review positiveReview = ReviewTestBuilder.aReview()
-            .withId(1)
-            .withCustomer(customer)
-            .withText("Excellent service")
-            .withType(ReviewType.POSITIVE)
-            .build();
+        ReviewDTO positiveReview = new ReviewDTO(
+            1, "Excellent service", ReviewType.POSITIVE, LocalDateTime.now(), LocalDate.now(), customer
+        );
+        ReviewDTO negativeReview = new ReviewDTO(
+            2, "Très déçu", ReviewType.NEGATIVE, LocalDateTime.now(), LocalDate.now(), customer
+        );
 
-        Review negativeReview = ReviewTestBuilder.aReview()
-            .withId(2)
-            .withCustomer(customer)
-            .withText("Très déçu")
-            .withType(ReviewType.NEGATIVE)
-            .build();
+        when(reviewRepository.findFiltered(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(11)))
+            .thenReturn(List.of(positiveReview, negativeReview));
 
-        List<Review> existingReviews = List.of(positiveReview, negativeReview);
+        CursorPageDTO<ReviewDTO> foundReviews = reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 10);
 
-        when(reviewRepository.findAllByOrderByCreatedAtDesc()).thenReturn(existingReviews);
+        assertEquals(2, foundReviews.getItems().size());
+        assertNull(foundReviews.getNextCursor());
+        verify(reviewRepository).findFiltered(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(11));
+    }
 
-        List<Review> foundReviews = reviewService.findReviews(null);
+    @Test
+    void findReviews_shouldPassFilterToRepository() {
+        ReviewFilterDTO filter = new ReviewFilterDTO(
+            ReviewType.NEGATIVE, 4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        );
+        ReviewDTO negativeReview1 = reviewCreatedAt(1, LocalDateTime.of(2026, 1, 10, 8, 0), ReviewType.NEGATIVE);
+        ReviewDTO negativeReview2 = reviewCreatedAt(2, LocalDateTime.of(2026, 1, 12, 8, 0), ReviewType.NEGATIVE);
+
+        when(reviewRepository.findFiltered(filter, ReviewDTO.ALL_FIELDS, null, Sort.Direction.ASC, Limit.of(11)))
+            .thenReturn(List.of(negativeReview1, negativeReview2));
 
-        assertEquals(2, foundReviews.size());
-        verify(reviewRepository).findAllByOrderByCreatedAtDesc();
-        verify(reviewRepository, never()).findByTypeOrderByCreatedAtDesc(any());
+        CursorPageDTO<ReviewDTO> foundReviews = reviewService.findReviews(filter, ReviewDTO.ALL_FIELDS, Sort.Direction.ASC, null, 10);
+
+        assertEquals(List.of(negativeReview1, negativeReview2), foundReviews.getItems());
+        assertTrue(foundReviews.getItems().stream().allMatch(
+            review -> review.getType() == ReviewType.NEGATIVE
+        ));
     }
 
     @Test
-    void findReviews_shouldReturnFilteredReviews_whenTypeIsProvided() {
-        Customer customer = TestDataFactory.createDefaultCustomer();
+    void findReviews_shouldReturnNextCursor_whenMoreReviewsExist() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+        ReviewDTO newest = reviewCreatedAt(3, createdAt, ReviewType.POSITIVE);
+        ReviewDTO middle = reviewCreatedAt(2, createdAt, ReviewType.POSITIVE);
+        ReviewDTO oldest = reviewCreatedAt(1, createdAt.minusDays(1), ReviewType.POSITIVE);
 
-        Review negativeReview1 = ReviewTestBuilder.aReview()
-            .withId(1)
-            .withCustomer(customer)
-            .withText("Très déçu")
-            .withType(ReviewType.NEGATIVE)
-            .build();
+        when(reviewRepository.findFiltered(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(3)))
+            .thenReturn(List.of(newest, middle, oldest));
 
-        Review negativeReview2 = ReviewTestBuilder.aReview()
-            .withId(2)
-            .withCustomer(customer)
-            .withText("Service médiocre")
-            .withType(ReviewType.NEGATIVE)
-            .build();
+        CursorPageDTO<ReviewDTO> firstPage = reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 2);
 
-        Review positiveReview = ReviewTestBuilder.aReview()
-            .withId(3)
-            .withCustomer(customer)
-            .withText("Excellent")
-            .withType(ReviewType.POSITIVE)
-            .build();
+        assertEquals(List.of(newest, middle), firstPage.getItems());
+        assertEquals(new ReviewCursor(createdAt, 2), ReviewCursor.decode(firstPage.getNextCursor()));
+    }
 
-        when(reviewRepository.findByTypeOrderByCreatedAtDesc(ReviewType.NEGATIVE))
-            .thenReturn(List.of(negativeReview1, negativeReview2));
+    @Test
+    void findReviews_shouldCompleteFromArchive_whenReviewTableIsExhausted() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+        ReviewDTO recent = reviewCreatedAt(3, createdAt, ReviewType.POSITIVE);
+        ReviewDTO archived = reviewCreatedAt(2, createdAt.minusYears(1), ReviewType.POSITIVE);
+        ReviewDTO oldest = reviewCreatedAt(1, createdAt.minusYears(2), ReviewType.POSITIVE);
+
+        when(reviewArchive.mayContain(ReviewFilterDTO.NONE, null, Sort.Direction.DESC)).thenReturn(true);
+        when(reviewRepository.findFiltered(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(3)))
+            .thenReturn(List.of(recent));
+        when(reviewArchiveRepository.findFiltered(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(2)))
+            .thenReturn(List.of(archived, oldest));
+
+        CursorPageDTO<ReviewDTO> firstPage = reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 2);
+
+        assertEquals(List.of(recent, archived), firstPage.getItems());
+        assertEquals(ReviewCursor.of(archived), ReviewCursor.decode(firstPage.getNextCursor()));
+    }
 
-        List<Review> foundReviews = reviewService.findReviews(ReviewType.NEGATIVE);
+    @Test
+    void findReviews_shouldContinueAfterCursor_whenCursorIsProvided() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+        ReviewCursor position = new ReviewCursor(createdAt, 2);
+        ReviewFilterDTO filter = ReviewFilterDTO.ofType(ReviewType.POSITIVE);
+        ReviewDTO oldest = reviewCreatedAt(1, createdAt.minusDays(1), ReviewType.POSITIVE);
 
-        assertEquals(2, foundReviews.size());
-        assertTrue(foundReviews.stream().allMatch(
-            review -> review.getType() == ReviewType.NEGATIVE
-        ));
+        when(reviewRepository.findFiltered(filter, ReviewDTO.ALL_FIELDS, position, Sort.Direction.DESC, Limit.of(3)))
+            .thenReturn(List.of(oldest));
+
+        CursorPageDTO<ReviewDTO> nextPage = reviewService.findReviews(filter, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, position.encode(), 2);
+
+        assertEquals(List.of(oldest), nextPage.getItems());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void findReviews_shouldThrowException_whenLimitIsOutOfRange() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, ReviewService.MAX_PAGE_SIZE + 1)
+        );
+
+        assertEquals("Limit must be between 1 and " + ReviewService.MAX_PAGE_SIZE + ".", exception.getMessage());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void findReviews_shouldThrowException_whenDateRangeIsReversed() {
+        ReviewFilterDTO filter = new ReviewFilterDTO(null, null, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.findReviews(filter, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 10)
+        );
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void findReviews_shouldThrowException_whenCursorIsInvalid() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.findReviews(ReviewFilterDTO.NONE, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, "not-a-cursor", 10)
+        );
+        verifyNoInteractions(reviewRepository);
+    }
+
+    //endregion
+
+    //region ------------ FIND CUSTOMER REVIEWS ------------
+
+    @Test
+    void findCustomerReviews_shouldNotLookUpCustomer_whenPageIsNotEmpty() {
+        ReviewDTO review = reviewCreatedAt(1, LocalDateTime.of(2026, 1, 10, 8, 0), ReviewType.POSITIVE);
+
+        when(reviewRepository.findFiltered(ReviewFilterDTO.ofCustomer(7), ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(11)))
+            .thenReturn(List.of(review));
+
+        CursorPageDTO<ReviewDTO> page = reviewService.findCustomerReviews(7, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 10);
+
+        assertEquals(List.of(review), page.getItems());
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void findCustomerReviews_shouldReturnEmptyPage_whenCustomerHasNoReview() {
+        when(reviewRepository.findFiltered(ReviewFilterDTO.ofCustomer(7), ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(11)))
+            .thenReturn(List.of());
+
+        CursorPageDTO<ReviewDTO> page = reviewService.findCustomerReviews(7, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 10);
+
+        assertTrue(page.getItems().isEmpty());
+        verify(customerService).getCustomerById(7);
+    }
+
+    @Test
+    void findCustomerReviews_shouldThrowNotFound_whenCustomerDoesNotExist() {
+        when(reviewRepository.findFiltered(ReviewFilterDTO.ofCustomer(99), ReviewDTO.ALL_FIELDS, null, Sort.Direction.DESC, Limit.of(11)))
+            .thenReturn(List.of());
+        when(customerService.getCustomerById(99))
+            .thenThrow(new EntityNotFoundException("No customer found with the ID : 99."));
+
+        assertThrows(
+            EntityNotFoundException.class,
+            () -> reviewService.findCustomerReviews(99, ReviewDTO.ALL_FIELDS, Sort.Direction.DESC, null, 10)
+        );
+    }
+
+    //endregion
+
+    //region ------------ SEARCH REVIEWS ------------
+
+    @Test
+    void searchReviews_shouldLoadOnlyIdsFoundByIndex() {
+        ReviewDTO review = reviewCreatedAt(7, LocalDateTime.now(), ReviewType.NEGATIVE);
+
+        when(reviewSearchIndex.isBuilt()).thenReturn(true);
+        when(reviewSearchIndex.search("livraison", 10)).thenReturn(new int[] {7, 3});
+        when(reviewRepository.findDtosByIdIn(List.of(7, 3))).thenReturn(List.of(review));
+
+        assertEquals(List.of(review), reviewService.searchReviews("livraison", 10));
+    }
+
+    @Test
+    void searchReviews_shouldNotQueryDatabase_whenNothingMatches() {
+        when(reviewSearchIndex.isBuilt()).thenReturn(true);
+        when(reviewSearchIndex.search("inconnu", 10)).thenReturn(new int[0]);
+
+        assertTrue(reviewService.searchReviews("inconnu", 10).isEmpty());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void searchReviews_shouldThrowException_whenLimitIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> reviewService.searchReviews("livraison", 0));
+        verifyNoInteractions(reviewSearchIndex);
+    }
+
+    @Test
+    void searchReviews_shouldThrowServiceNotReady_whileIndexIsBuilding() {
+        when(reviewSearchIndex.isBuilt()).thenReturn(false);
+
+        assertThrows(ServiceNotReadyException.class, () -> reviewService.searchReviews("livraison", 10));
+        verify(reviewSearchIndex, never()).search("livraison", 10);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    //endregion
+
+    //region ------------ GET REVIEW BY ID ------------
+
+    @Test
+    void getReviewById_shouldReturnReview_whenReviewExists() {
+        ReviewDTO review = reviewCreatedAt(1, LocalDateTime.now(), ReviewType.NEUTRAL);
+
+        when(reviewRepository.findDtoById(1)).thenReturn(Optional.of(review));
+
+        assertEquals(review, reviewService.getReviewById(1));
+    }
+
+    @Test
+    void getReviewById_shouldThrowException_whenReviewDoesNotExist() {
+        when(reviewRepository.findDtoById(404)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> reviewService.getReviewById(404)
+        );
 
-        verify(reviewRepository).findByTypeOrderByCreatedAtDesc(ReviewType.NEGATIVE);
-        verify(reviewRepository, never()).findAllByOrderByCreatedAtDesc();
+        assertEquals("No review found with the ID : 404.", exception.getMessage());
     }
 
     //endregion
@@ -288,6 +521,187 @@ class ReviewServiceTest {
         assertEquals(0, result.getNeutral());
     }
 
+    @Test
+    void getReviewStats_shouldReadLiveCounters_whenSeeded() {
+        when(reviewTypeCounters.isSeeded()).thenReturn(true);
+        when(reviewTypeCounters.stats()).thenReturn(new ReviewStatsDTO(7, 1, 4));
+
+        ReviewStatsDTO result = reviewService.getReviewStats();
+
+        assertEquals(7, result.getPositive());
+        assertEquals(4, result.getNeutral());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void countReviewsBetween_shouldReadDateRangeIndex_whenSeeded() {
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2026, 6, 30);
+        when(reviewDateRangeIndex.isSeeded()).thenReturn(true);
+        when(reviewDateRangeIndex.stats(from, to)).thenReturn(new ReviewStatsDTO(10, 2, 3));
+
+        ReviewStatsDTO result = reviewService.countReviewsBetween(from, to);
+
+        assertEquals(10, result.getPositive());
+        verifyNoInteractions(reviewRepository, reviewDailyStatsRepository);
+    }
+
+    @Test
+    void countReviewsBetween_shouldSumDailyRollup_whenIndexIsNotSeeded() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        when(reviewDailyStatsRepository.countByTypeBetween(from, to)).thenReturn(List.of(
+            new ReviewCountProjectionImpl(ReviewType.NEGATIVE, 6)
+        ));
+
+        ReviewStatsDTO result = reviewService.countReviewsBetween(from, to);
+
+        assertEquals(0, result.getPositive());
+        assertEquals(6, result.getNegative());
+    }
+
+    @Test
+    void countReviewsBetween_shouldThrowException_whenFromIsAfterTo() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(IllegalArgumentException.class, () -> reviewService.countReviewsBetween(today, today.minusDays(1)));
+        verifyNoInteractions(reviewDateRangeIndex);
+    }
+
+    @Test
+    void getTimeline_shouldReturnZeroFilledDailySeries() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 4);
+        when(reviewDailyStatsRepository.getTimeline(from, to)).thenReturn(List.of(
+            timelineRow(LocalDate.of(2026, 3, 2), ReviewType.POSITIVE, 3),
+            timelineRow(LocalDate.of(2026, 3, 2), ReviewType.NEGATIVE, 1),
+            timelineRow(LocalDate.of(2026, 3, 4), ReviewType.NEUTRAL, 2)
+        ));
+
+        ReviewTimelineDTO timeline = reviewService.getTimeline(from, to, TimelineGranularity.DAY);
+
+        assertEquals(List.of(from, from.plusDays(1), from.plusDays(2), to), timeline.getDates());
+        assertArrayEquals(new long[] {0, 3, 0, 0}, timeline.getPositive());
+        assertArrayEquals(new long[] {0, 1, 0, 0}, timeline.getNegative());
+        assertArrayEquals(new long[] {0, 0, 0, 2}, timeline.getNeutral());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void getTimeline_shouldSumDaysIntoIsoWeeks() {
+        // Du mercredi 4 au mardi 17 mars 2026 : semaines des lundis 2, 9 et 16
+        LocalDate from = LocalDate.of(2026, 3, 4);
+        LocalDate to = LocalDate.of(2026, 3, 17);
+        when(reviewDailyStatsRepository.getTimeline(from, to)).thenReturn(List.of(
+            timelineRow(LocalDate.of(2026, 3, 4), ReviewType.POSITIVE, 1),
+            timelineRow(LocalDate.of(2026, 3, 8), ReviewType.POSITIVE, 2),
+            timelineRow(LocalDate.of(2026, 3, 17), ReviewType.POSITIVE, 5)
+        ));
+
+        ReviewTimelineDTO timeline = reviewService.getTimeline(from, to, TimelineGranularity.WEEK);
+
+        assertEquals(
+            List.of(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 16)),
+            timeline.getDates()
+        );
+        assertArrayEquals(new long[] {3, 0, 5}, timeline.getPositive());
+        assertArrayEquals(new long[] {0, 0, 0}, timeline.getNeutral());
+    }
+
+    @Test
+    void getTimeline_shouldSumDaysIntoMonths() {
+        LocalDate from = LocalDate.of(2025, 12, 15);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+        when(reviewDailyStatsRepository.getTimeline(from, to)).thenReturn(List.of(
+            timelineRow(LocalDate.of(2025, 12, 31), ReviewType.NEGATIVE, 4),
+            timelineRow(LocalDate.of(2026, 2, 1), ReviewType.NEGATIVE, 1),
+            timelineRow(LocalDate.of(2026, 2, 10), ReviewType.NEGATIVE, 1)
+        ));
+
+        ReviewTimelineDTO timeline = reviewService.getTimeline(from, to, TimelineGranularity.MONTH);
+
+        assertEquals(
+            List.of(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1)),
+            timeline.getDates()
+        );
+        assertArrayEquals(new long[] {4, 0, 2}, timeline.getNegative());
+    }
+
+    @Test
+    void getTimeline_shouldThrowException_whenFromIsAfterTo() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.getTimeline(today, today.minusDays(1), TimelineGranularity.DAY)
+        );
+        verifyNoInteractions(reviewDailyStatsRepository);
+    }
+
+    @Test
+    void getTimeline_shouldThrowException_whenRangeIsTooLong() {
+        LocalDate today = LocalDate.now();
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.getTimeline(today.minusDays(ReviewService.MAX_TIMELINE_DAYS), today, TimelineGranularity.MONTH)
+        );
+
+        assertEquals("Timeline range cannot exceed " + ReviewService.MAX_TIMELINE_DAYS + " days.", exception.getMessage());
+    }
+
+    @Test
+    void getUniqueReviewers_shouldEstimateEachBucket_clampedToRange() {
+        // Du mercredi 4 au mardi 17 mars 2026 : trois semaines ISO partielles
+        LocalDate from = LocalDate.of(2026, 3, 4);
+        LocalDate to = LocalDate.of(2026, 3, 17);
+        when(uniqueReviewerSketches.estimate(any(), any(), any())).thenReturn(0L);
+        when(uniqueReviewerSketches.estimate(ReviewType.POSITIVE, from, LocalDate.of(2026, 3, 8))).thenReturn(3L);
+        when(uniqueReviewerSketches.estimate(ReviewType.POSITIVE, LocalDate.of(2026, 3, 16), to)).thenReturn(1L);
+
+        ReviewTimelineDTO reviewers = reviewService.getUniqueReviewers(from, to, TimelineGranularity.WEEK);
+
+        assertEquals(
+            List.of(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 16)),
+            reviewers.getDates()
+        );
+        assertArrayEquals(new long[] {3, 0, 1}, reviewers.getPositive());
+        assertArrayEquals(new long[] {0, 0, 0}, reviewers.getNegative());
+        verifyNoInteractions(reviewDailyStatsRepository);
+    }
+
+
+    @Test
+    void getTopTerms_shouldQueryLastDaysUpToToday() {
+        LocalDate today = LocalDate.now();
+        List<TermCountDTO> expected = List.of(new TermCountDTO("livraison", 12, 0));
+        when(reviewTopTerms.getRetentionDays()).thenReturn(30);
+        when(reviewTopTerms.top(ReviewType.NEGATIVE, today.minusDays(6), today, 10)).thenReturn(expected);
+
+        assertEquals(expected, reviewService.getTopTerms(ReviewType.NEGATIVE, 7, 10));
+    }
+
+    @Test
+    void getTopTerms_shouldThrowException_whenDaysExceedRetention() {
+        when(reviewTopTerms.getRetentionDays()).thenReturn(30);
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.getTopTerms(ReviewType.NEGATIVE, 31, 10)
+        );
+
+        assertEquals("Days must be between 1 and 30.", exception.getMessage());
+    }
+
+    @Test
+    void getTopTerms_shouldThrowException_whenLimitIsTooHigh() {
+        when(reviewTopTerms.getRetentionDays()).thenReturn(30);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> reviewService.getTopTerms(ReviewType.NEGATIVE, 7, ReviewService.MAX_TOP_TERMS + 1)
+        );
+    }
 
     //region ------------ DELETE REVIEW ------------
 
@@ -295,7 +709,7 @@ class ReviewServiceTest {
     void deleteReview_shouldThrowException_whenReviewDoesNotExist() {
         int nonExistentReviewId = 123;
 
-        when(reviewRepository.existsById(nonExistentReviewId)).thenReturn(false);
+        when(reviewRepository.findById(nonExistentReviewId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
             EntityNotFoundException.class,
@@ -307,24 +721,44 @@ class ReviewServiceTest {
             exception.getMessage()
         );
 
-        verify(reviewRepository).existsById(nonExistentReviewId);
-        verify(reviewRepository, never()).deleteById(anyInt());
+        verify(reviewRepository).findById(nonExistentReviewId);
+        verify(reviewRepository, never()).deleteReviewById(nonExistentReviewId);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void deleteReview_shouldDeleteReview_whenReviewExists() {
         int existingReviewId = 1;
+        Review existingReview = ReviewTestBuilder.aReview().withId(existingReviewId).build();
 
-        when(reviewRepository.existsById(existingReviewId)).thenReturn(true);
+        when(reviewRepository.findById(existingReviewId)).thenReturn(Optional.of(existingReview));
+        when(reviewRepository.deleteReviewById(existingReviewId)).thenReturn(1);
 
         reviewService.deleteReview(existingReviewId);
 
-        verify(reviewRepository).existsById(existingReviewId);
-        verify(reviewRepository).deleteById(existingReviewId);
+        verify(reviewRepository).deleteReviewById(existingReviewId);
+        verify(eventPublisher).publishEvent(new ReviewDeletedEvent(existingReview));
+    }
+
+    @Test
+    void deleteReview_shouldNotPublishEvent_whenRowWasAlreadyDeleted() {
+        int reviewId = 1;
+        Review review = ReviewTestBuilder.aReview().withId(reviewId).build();
+
+        // Avis lu, mais supprimé par une requête concurrente avant le DELETE
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+        when(reviewRepository.deleteReviewById(reviewId)).thenReturn(0);
+
+        assertThrows(EntityNotFoundException.class, () -> reviewService.deleteReview(reviewId));
+        verifyNoInteractions(eventPublisher);
     }
 
     //endregion
 
+    private static ReviewDTO reviewCreatedAt(int id, LocalDateTime createdAt, ReviewType type) {
+        return new ReviewDTO(id, "Avis " + id, type, createdAt, createdAt.toLocalDate(), null);
+    }
+
     static class ReviewCountProjectionImpl implements ReviewCountProjection {
         private final ReviewType type;
         private final long count;
@@ -337,4 +771,23 @@ class ReviewServiceTest {
         public ReviewType getType() { return type; }
         public long getCount() { return count; }
     }
-}
\ No newline at end of file
+
+    private static ReviewTimelineProjection timelineRow(LocalDate day, ReviewType type, long count) {
+        return new ReviewTimelineProjection() {
+            @Override
+            public LocalDate getCreatedDate() {
+                return day;
+            }
+
+            @Override
+            public ReviewType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
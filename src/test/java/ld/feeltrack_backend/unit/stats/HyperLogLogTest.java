@@ -0,0 +1,71 @@
+package ld.feeltrack_backend.unit.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.stats.HyperLogLog;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimate_shouldBeExact_forFewValues() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            // Doublons ignorés
+            sketch.add(i);
+            sketch.add(i);
+        }
+
+        assertEquals(100, sketch.estimate());
+    }
+
+    @Test
+    void estimate_shouldStayWithinTwoPercent_forLargeCardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        int distinct = 100_000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add(i);
+        }
+
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 0.02, "Relative error too high : " + error);
+        // Passage en représentation dense : un octet par registre
+        assertTrue(sketch.sizeInBytes() >= HyperLogLog.REGISTERS);
+    }
+
+    @Test
+    void mergeInto_shouldEstimateUnion_withoutCountingSharedValuesTwice() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            first.add(i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.add(i);
+        }
+
+        byte[] merged = new byte[HyperLogLog.REGISTERS];
+        first.mergeInto(merged);
+        second.mergeInto(merged);
+
+        double error = Math.abs(HyperLogLog.estimate(merged) - 50_000) / 50_000.0;
+        assertTrue(error < 0.02, "Relative error too high : " + error);
+    }
+
+    @Test
+    void mergeInto_shouldKeepSparseSketchesExact() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            first.add(i);
+            second.add(i + 25);
+        }
+
+        byte[] merged = new byte[HyperLogLog.REGISTERS];
+        first.mergeInto(merged);
+        second.mergeInto(merged);
+
+        assertEquals(75, HyperLogLog.estimate(merged));
+    }
+}
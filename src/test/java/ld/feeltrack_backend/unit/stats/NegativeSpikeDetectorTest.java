@@ -0,0 +1,111 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.context.ApplicationEventPublisher;
+
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.NegativeSpikeEvent;
+import ld.feeltrack_backend.stats.NegativeSpikeDetector;
+import ld.feeltrack_backend.stats.NegativeSpikeDetector.SpikeState;
+
+class NegativeSpikeDetectorTest {
+
+    private static final Instant START = Instant.parse("2026-04-15T08:00:00Z");
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final NegativeSpikeDetector detector = new NegativeSpikeDetector(eventPublisher, 0.1, 3.0, 5, 30);
+
+    @Test
+    void record_shouldRaiseAlert_whenNegativeReviewsBurstAboveBaseline() {
+        int minute = steadyTraffic(60);
+
+        for (int i = 0; i < 15; i++) {
+            detector.record(ReviewType.NEGATIVE, at(minute, i));
+        }
+
+        ArgumentCaptor<NegativeSpikeEvent> event = ArgumentCaptor.forClass(NegativeSpikeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().alerting());
+        assertEquals(at(minute, 0), event.getValue().minute());
+        assertTrue(event.getValue().zScore() >= 3.0);
+
+        SpikeState state = detector.state(at(minute, 59));
+        assertTrue(state.alerting());
+        assertEquals(15, state.currentCounts().get(ReviewType.NEGATIVE));
+        assertEquals(2.0, state.negativeBaseline(), 0.1);
+    }
+
+    @Test
+    void advanceTo_shouldClearAlert_onceReviewsCalmDown() {
+        int minute = steadyTraffic(60);
+        for (int i = 0; i < 15; i++) {
+            detector.record(ReviewType.NEGATIVE, at(minute, i));
+        }
+
+        // La minute du pic reste en alerte tant qu'elle est la dernière minute terminée
+        detector.advanceTo(at(minute + 1, 0));
+        assertTrue(detector.state(at(minute + 1, 0)).alerting());
+
+        detector.advanceTo(at(minute + 2, 0));
+
+        ArgumentCaptor<NegativeSpikeEvent> events = ArgumentCaptor.forClass(NegativeSpikeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        List<NegativeSpikeEvent> published = events.getAllValues();
+        assertTrue(published.get(0).alerting());
+        assertFalse(published.get(1).alerting());
+        assertFalse(detector.state(at(minute + 2, 0)).alerting());
+    }
+
+    @Test
+    void record_shouldNotAlert_beforeWarmUp() {
+        int minute = steadyTraffic(10);
+
+        for (int i = 0; i < 50; i++) {
+            detector.record(ReviewType.NEGATIVE, at(minute, i));
+        }
+
+        verify(eventPublisher, never()).publishEvent(any());
+        assertFalse(detector.state(at(minute, 59)).warmedUp());
+    }
+
+    @Test
+    void record_shouldNotAlert_belowMinimumCount() {
+        // Référence nulle (aucun avis négatif) : quelques avis suffisent à un score élevé
+        for (int minute = 0; minute < 60; minute++) {
+            detector.record(ReviewType.POSITIVE, at(minute, 0));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            detector.record(ReviewType.NEGATIVE, at(60, i));
+        }
+
+        verify(eventPublisher, never()).publishEvent(any());
+        assertTrue(detector.state(at(60, 59)).zScore() >= 3.0);
+    }
+
+    // Deux avis négatifs et un positif par minute, puis retourne la minute suivante
+    private int steadyTraffic(int minutes) {
+        for (int minute = 0; minute < minutes; minute++) {
+            detector.record(ReviewType.NEGATIVE, at(minute, 10));
+            detector.record(ReviewType.NEGATIVE, at(minute, 20));
+            detector.record(ReviewType.POSITIVE, at(minute, 30));
+        }
+        return minutes;
+    }
+
+    private static Instant at(int minute, int second) {
+        return START.plusSeconds(minute * 60L + second);
+    }
+}
@@ -0,0 +1,155 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.projection.ReviewTimelineProjection;
+import ld.feeltrack_backend.stats.ReviewDateRangeIndex;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+class ReviewDateRangeIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final ReviewDateRangeIndex index = new ReviewDateRangeIndex();
+
+    @Test
+    void replaceIfNoWriteSince_shouldSeedIndex() {
+        assertFalse(index.isSeeded());
+
+        assertTrue(index.replaceIfNoWriteSince(List.of(
+            row(TODAY.minusDays(10), ReviewType.POSITIVE, 4),
+            row(TODAY.minusDays(2), ReviewType.POSITIVE, 1),
+            row(TODAY.minusDays(2), ReviewType.NEGATIVE, 3)
+        ), 0));
+
+        assertTrue(index.isSeeded());
+        assertEquals(5, index.count(ReviewType.POSITIVE, TODAY.minusDays(10), TODAY));
+        assertEquals(1, index.count(ReviewType.POSITIVE, TODAY.minusDays(9), TODAY));
+        assertEquals(3, index.count(ReviewType.NEGATIVE, TODAY.minusYears(5), TODAY.plusYears(5)));
+        assertEquals(0, index.count(ReviewType.NEUTRAL, TODAY.minusDays(10), TODAY));
+        assertEquals(0, index.count(ReviewType.POSITIVE, TODAY.minusDays(1), TODAY.minusDays(3)));
+    }
+
+    @Test
+    void replaceIfNoWriteSince_shouldBeRejected_whenWriteWasAppliedSinceSequenceWasRead() {
+        long sequence = index.writeSequence();
+        index.onReviewCreated(new ReviewCreatedEvent(review(TODAY, ReviewType.POSITIVE)));
+
+        assertFalse(index.replaceIfNoWriteSince(List.of(), sequence));
+        assertFalse(index.isSeeded());
+        assertTrue(index.replaceIfNoWriteSince(List.of(), index.writeSequence()));
+    }
+
+    @Test
+    void replaceIfNoWriteSince_shouldBeRejected_whenWriteIsCommittedButNotYetApplied() {
+        index.replaceIfNoWriteSince(List.of(), 0);
+        long sequence = index.writeSequence();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.onReviewCommitting();
+            // Rollup relu après la validation, avant le listener : le jour compterait deux fois
+            assertFalse(index.replaceIfNoWriteSince(List.of(row(TODAY, ReviewType.POSITIVE, 1)), sequence));
+
+            index.onReviewCreated(new ReviewCreatedEvent(review(TODAY, ReviewType.POSITIVE)));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, index.count(ReviewType.POSITIVE, TODAY, TODAY));
+        assertTrue(index.replaceIfNoWriteSince(List.of(row(TODAY, ReviewType.POSITIVE, 1)), index.writeSequence()));
+        assertEquals(1, index.count(ReviewType.POSITIVE, TODAY, TODAY));
+    }
+
+    @Test
+    void events_shouldUpdateCountOfTheirDayAndType() {
+        index.replaceIfNoWriteSince(List.of(row(TODAY.minusDays(1), ReviewType.NEUTRAL, 2)), 0);
+
+        index.onReviewCreated(new ReviewCreatedEvent(review(TODAY, ReviewType.NEUTRAL)));
+        index.onReviewDeleted(new ReviewDeletedEvent(review(TODAY.minusDays(1), ReviewType.NEUTRAL)));
+
+        assertEquals(1, index.count(ReviewType.NEUTRAL, TODAY.minusDays(1), TODAY.minusDays(1)));
+        assertEquals(1, index.count(ReviewType.NEUTRAL, TODAY, TODAY));
+        assertEquals(2, index.stats(TODAY.minusDays(1), TODAY).getNeutral());
+    }
+
+    @Test
+    void events_shouldGrowIndex_whenDayIsOutsideOfIt() {
+        index.replaceIfNoWriteSince(List.of(row(TODAY, ReviewType.POSITIVE, 1)), 0);
+
+        index.onReviewCreated(new ReviewCreatedEvent(review(TODAY.plusYears(4), ReviewType.POSITIVE)));
+        index.onReviewCreated(new ReviewCreatedEvent(review(TODAY.minusYears(6), ReviewType.POSITIVE)));
+
+        assertEquals(3, index.count(ReviewType.POSITIVE, TODAY.minusYears(10), TODAY.plusYears(10)));
+        assertEquals(1, index.count(ReviewType.POSITIVE, TODAY.minusYears(6), TODAY.minusYears(6)));
+        assertEquals(2, index.count(ReviewType.POSITIVE, TODAY, TODAY.plusYears(4)));
+    }
+
+    @Test
+    void count_shouldMatchBruteForce_onRandomRanges() {
+        Random random = new Random(42);
+        int days = 3_000;
+        long[] positive = new long[days];
+        List<ReviewTimelineProjection> rows = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            if (random.nextInt(3) == 0) {
+                positive[day] = random.nextInt(50);
+                rows.add(row(TODAY.minusDays(day), ReviewType.POSITIVE, positive[day]));
+            }
+        }
+        index.replaceIfNoWriteSince(rows, 0);
+
+        for (int i = 0; i < 500; i++) {
+            int a = random.nextInt(days);
+            int b = random.nextInt(days);
+            int newest = Math.min(a, b);
+            int oldest = Math.max(a, b);
+
+            long expected = 0;
+            for (int day = newest; day <= oldest; day++) {
+                expected += positive[day];
+            }
+            assertEquals(expected, index.count(ReviewType.POSITIVE, TODAY.minusDays(oldest), TODAY.minusDays(newest)));
+        }
+    }
+
+    private static Review review(LocalDate day, ReviewType type) {
+        return ReviewTestBuilder.aReview().withType(type).withCreatedDate(day).build();
+    }
+
+    private static ReviewTimelineProjection row(LocalDate day, ReviewType type, long count) {
+        return new ReviewTimelineProjection() {
+            @Override
+            public LocalDate getCreatedDate() {
+                return day;
+            }
+
+            @Override
+            public ReviewType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
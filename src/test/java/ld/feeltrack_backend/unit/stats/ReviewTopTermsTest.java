@@ -0,0 +1,88 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.dto.TermCountDTO;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.stats.ReviewTopTerms;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+class ReviewTopTermsTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final ReviewTopTerms topTerms = new ReviewTopTerms(100, 7);
+
+    @Test
+    void top_shouldCountEachReviewOnce_andIgnoreStopWords() {
+        topTerms.add(1, TODAY, ReviewType.NEGATIVE, "La livraison est en retard, livraison ratée");
+        topTerms.add(2, TODAY.minusDays(1), ReviewType.NEGATIVE, "Encore une livraison en retard");
+        topTerms.add(3, TODAY.minusDays(1), ReviewType.NEGATIVE, "Colis abîmé");
+        topTerms.add(4, TODAY, ReviewType.POSITIVE, "Livraison rapide");
+
+        List<TermCountDTO> top = topTerms.top(ReviewType.NEGATIVE, TODAY.minusDays(6), TODAY, 2);
+
+        assertEquals(List.of("livraison", "retard"), top.stream().map(TermCountDTO::getTerm).toList());
+        assertEquals(2, top.get(0).getCount());
+        assertEquals(0, top.get(0).getError());
+        assertTrue(topTerms.top(ReviewType.NEGATIVE, TODAY, TODAY, 10).stream()
+            .noneMatch(term -> term.getTerm().equals("la") || term.getTerm().equals("est")));
+    }
+
+    @Test
+    void top_shouldOnlyMergeDaysOfWindow() {
+        topTerms.add(5, TODAY.minusDays(3), ReviewType.NEGATIVE, "remboursement");
+        topTerms.add(6, TODAY, ReviewType.NEGATIVE, "attente");
+
+        List<TermCountDTO> top = topTerms.top(ReviewType.NEGATIVE, TODAY.minusDays(1), TODAY, 10);
+
+        assertEquals(List.of("attente"), top.stream().map(TermCountDTO::getTerm).toList());
+    }
+
+    @Test
+    void add_shouldIgnoreDaysOutsideRetention() {
+        topTerms.add(7, TODAY.minusDays(7), ReviewType.NEGATIVE, "ancien");
+        topTerms.add(8, TODAY.minusDays(6), ReviewType.NEGATIVE, "recent");
+
+        assertEquals(1, topTerms.dayCount());
+        assertEquals(TODAY.minusDays(6), topTerms.oldestRetainedDay());
+    }
+
+    @Test
+    void endBuild_shouldKeepCreationsReceivedDuringWarmUp() {
+        topTerms.beginBuild();
+        topTerms.addToBuild(TODAY, ReviewType.NEGATIVE, "facture");
+        topTerms.onReviewCreated(createdEvent(11, "Facture erronée"));
+        topTerms.endBuild(true, 10);
+
+        List<TermCountDTO> top = topTerms.top(ReviewType.NEGATIVE, TODAY, TODAY, 1);
+
+        assertEquals("facture", top.get(0).getTerm());
+        assertEquals(2, top.get(0).getCount());
+    }
+
+    @Test
+    void endBuild_shouldNotCountTwice_creationAlsoReadByWarmUp() {
+        topTerms.beginBuild();
+        // Avis 10 validé avant la requête de préchauffage, mais dont l'événement arrive pendant celui-ci
+        topTerms.onReviewCreated(createdEvent(10, "Facture erronée"));
+        topTerms.addToBuild(TODAY, ReviewType.NEGATIVE, "Facture erronée");
+        topTerms.endBuild(true, 10);
+
+        List<TermCountDTO> top = topTerms.top(ReviewType.NEGATIVE, TODAY, TODAY, 1);
+
+        assertEquals("erronee", top.get(0).getTerm());
+        assertEquals(1, top.get(0).getCount());
+    }
+
+    private static ReviewCreatedEvent createdEvent(int id, String text) {
+        return new ReviewCreatedEvent(ReviewTestBuilder.aReview()
+            .withId(id).withText(text).withType(ReviewType.NEGATIVE).withCreatedDate(TODAY).build());
+    }
+}
@@ -0,0 +1,124 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import ld.feeltrack_backend.entity.Review;
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.event.ReviewDeletedEvent;
+import ld.feeltrack_backend.stats.ReviewTypeCounters;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+class ReviewTypeCountersTest {
+
+    private final ReviewTypeCounters counters = new ReviewTypeCounters();
+
+    @Test
+    void replaceIfNoWriteSince_shouldSeedCounters() {
+        assertFalse(counters.isSeeded());
+
+        assertTrue(counters.replaceIfNoWriteSince(Map.of(ReviewType.POSITIVE, 4L, ReviewType.NEUTRAL, 1L), 0));
+
+        assertTrue(counters.isSeeded());
+        assertEquals(4, counters.stats().getPositive());
+        assertEquals(0, counters.stats().getNegative());
+        assertEquals(1, counters.stats().getNeutral());
+    }
+
+    @Test
+    void events_shouldUpdateCountersOfTheirType() {
+        counters.replaceIfNoWriteSince(Map.of(ReviewType.NEGATIVE, 2L), 0);
+
+        counters.onReviewCreated(new ReviewCreatedEvent(review(ReviewType.NEGATIVE)));
+        counters.onReviewCreated(new ReviewCreatedEvent(review(ReviewType.POSITIVE)));
+        counters.onReviewDeleted(new ReviewDeletedEvent(review(ReviewType.NEGATIVE)));
+
+        assertEquals(1, counters.count(ReviewType.POSITIVE));
+        assertEquals(2, counters.count(ReviewType.NEGATIVE));
+        assertEquals(3, counters.writeSequence());
+    }
+
+    @Test
+    void replaceIfNoWriteSince_shouldKeepCounters_whenWriteAppliedDuringDatabaseCount() {
+        counters.replaceIfNoWriteSince(Map.of(), 0);
+        long writeSequence = counters.writeSequence();
+
+        // Écriture validée pendant que la base compte : le résultat de la base est ambigu
+        counters.onReviewCreated(new ReviewCreatedEvent(review(ReviewType.POSITIVE)));
+
+        assertFalse(counters.replaceIfNoWriteSince(Map.of(ReviewType.POSITIVE, 10L), writeSequence));
+        assertEquals(1, counters.count(ReviewType.POSITIVE));
+    }
+
+    @Test
+    void replaceIfNoWriteSince_shouldKeepCounters_whenWriteIsCommittedButNotYetApplied() {
+        counters.replaceIfNoWriteSince(Map.of(), 0);
+        long writeSequence = counters.writeSequence();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.onReviewCommitting();
+            // Ligne validée, déjà comptée par la base, listener après validation pas encore exécuté
+            assertFalse(counters.replaceIfNoWriteSince(Map.of(ReviewType.POSITIVE, 1L), writeSequence));
+
+            counters.onReviewCreated(new ReviewCreatedEvent(review(ReviewType.POSITIVE)));
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, counters.count(ReviewType.POSITIVE));
+        assertTrue(counters.replaceIfNoWriteSince(Map.of(ReviewType.POSITIVE, 1L), counters.writeSequence()));
+        assertEquals(1, counters.count(ReviewType.POSITIVE));
+    }
+
+    @Test
+    void replaceIfNoWriteSince_shouldApply_onceCommittingWriteIsRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.onReviewCommitting();
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(counters.replaceIfNoWriteSince(Map.of(ReviewType.NEGATIVE, 3L), counters.writeSequence()));
+        assertEquals(3, counters.count(ReviewType.NEGATIVE));
+    }
+
+    @Test
+    void events_shouldNotLoseUpdates_underConcurrency() {
+        counters.replaceIfNoWriteSince(Map.of(), 0);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(CompletableFuture.runAsync(
+                    () -> counters.onReviewCreated(new ReviewCreatedEvent(review(ReviewType.NEUTRAL))), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertEquals(1_000, counters.count(ReviewType.NEUTRAL));
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), status);
+    }
+
+    private static Review review(ReviewType type) {
+        return ReviewTestBuilder.aReview().withType(type).build();
+    }
+}
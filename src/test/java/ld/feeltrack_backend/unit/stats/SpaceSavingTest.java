@@ -0,0 +1,85 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.stats.SpaceSaving;
+
+class SpaceSavingTest {
+
+    @Test
+    void top_shouldBeExact_whileCapacityIsNotReached() {
+        SpaceSaving summary = new SpaceSaving(10);
+        for (String term : List.of("livraison", "retard", "livraison", "colis", "livraison", "retard")) {
+            summary.offer(term);
+        }
+
+        List<Map.Entry<String, long[]>> top = summary.top(2);
+
+        assertEquals("livraison", top.get(0).getKey());
+        assertArrayEquals(new long[] {3, 0}, top.get(0).getValue());
+        assertEquals("retard", top.get(1).getKey());
+        assertArrayEquals(new long[] {2, 0}, top.get(1).getValue());
+        assertEquals(3, summary.size());
+    }
+
+    @Test
+    void offer_shouldKeepHeavyHitters_andBoundCountError_whenCapacityIsExceeded() {
+        SpaceSaving summary = new SpaceSaving(50);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+
+        // Trois termes fréquents noyés dans un long bruit de termes rares
+        for (int i = 0; i < 20_000; i++) {
+            String term = switch (i % 10) {
+                case 0, 1 -> "remboursement";
+                case 2 -> "retard";
+                case 3 -> "casse";
+                default -> "bruit" + random.nextInt(5_000);
+            };
+            summary.offer(term);
+            exact.merge(term, 1L, Long::sum);
+        }
+
+        List<Map.Entry<String, long[]>> top = summary.top(3);
+
+        assertEquals(List.of("remboursement", "retard", "casse"), top.stream().map(Map.Entry::getKey).toList());
+        for (Map.Entry<String, long[]> entry : top) {
+            long count = entry.getValue()[0];
+            long error = entry.getValue()[1];
+            long actual = exact.get(entry.getKey());
+            assertTrue(count >= actual && count - error <= actual, entry.getKey() + " : " + count + " ± " + error);
+        }
+        assertEquals(50, summary.size());
+    }
+
+    @Test
+    void mergeInto_shouldSumCountsAndErrors() {
+        SpaceSaving first = new SpaceSaving(5);
+        SpaceSaving second = new SpaceSaving(5);
+        first.offer("colis");
+        first.offer("colis");
+        second.offer("colis");
+        second.offer("retard");
+
+        Map<String, long[]> merged = new HashMap<>();
+        first.mergeInto(merged);
+        second.mergeInto(merged);
+
+        assertArrayEquals(new long[] {3, 0}, merged.get("colis"));
+        assertArrayEquals(new long[] {1, 0}, merged.get("retard"));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving(0));
+    }
+}
@@ -0,0 +1,65 @@
+package ld.feeltrack_backend.unit.stats;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import ld.feeltrack_backend.enums.ReviewType;
+import ld.feeltrack_backend.event.ReviewCreatedEvent;
+import ld.feeltrack_backend.stats.UniqueReviewerSketches;
+import ld.feeltrack_backend.testutils.CustomerTestBuilder;
+import ld.feeltrack_backend.testutils.ReviewTestBuilder;
+
+class UniqueReviewerSketchesTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private final UniqueReviewerSketches sketches = new UniqueReviewerSketches();
+
+    @Test
+    void estimate_shouldCountCustomerOnce_acrossDaysOfRange() {
+        sketches.add(MONDAY, ReviewType.POSITIVE, 1);
+        sketches.add(MONDAY, ReviewType.POSITIVE, 1);
+        sketches.add(MONDAY.plusDays(1), ReviewType.POSITIVE, 1);
+        sketches.add(MONDAY.plusDays(1), ReviewType.POSITIVE, 2);
+        sketches.add(MONDAY.plusDays(1), ReviewType.NEGATIVE, 3);
+
+        assertEquals(1, sketches.estimate(ReviewType.POSITIVE, MONDAY, MONDAY));
+        assertEquals(2, sketches.estimate(ReviewType.POSITIVE, MONDAY, MONDAY.plusDays(6)));
+        assertEquals(1, sketches.estimate(ReviewType.NEGATIVE, MONDAY, MONDAY.plusDays(6)));
+        assertEquals(0, sketches.estimate(ReviewType.NEUTRAL, MONDAY, MONDAY.plusDays(6)));
+        assertEquals(0, sketches.estimate(ReviewType.POSITIVE, MONDAY.plusDays(2), MONDAY.plusDays(6)));
+    }
+
+    @Test
+    void onReviewCreated_shouldAddCustomerOfReview() {
+        var review = ReviewTestBuilder.aReview()
+            .withCustomer(CustomerTestBuilder.aCustomer().withId(7).build())
+            .withType(ReviewType.NEUTRAL).withCreatedDate(MONDAY).build();
+
+        sketches.onReviewCreated(new ReviewCreatedEvent(review));
+
+        assertEquals(1, sketches.estimate(ReviewType.NEUTRAL, MONDAY, MONDAY));
+    }
+
+    @Test
+    void endBuild_shouldReplaceSketches_onlyWhenCompleted() {
+        sketches.add(MONDAY, ReviewType.POSITIVE, 1);
+
+        sketches.beginBuild();
+        sketches.addToBuild(MONDAY, ReviewType.POSITIVE, 2);
+        sketches.endBuild(false);
+        assertEquals(1, sketches.estimate(ReviewType.POSITIVE, MONDAY, MONDAY));
+
+        sketches.beginBuild();
+        sketches.addToBuild(MONDAY.plusDays(1), ReviewType.NEGATIVE, 2);
+        // Création concurrente de la reconstruction : conservée
+        sketches.add(MONDAY.plusDays(1), ReviewType.NEGATIVE, 3);
+        sketches.endBuild(true);
+
+        assertEquals(0, sketches.estimate(ReviewType.POSITIVE, MONDAY, MONDAY));
+        assertEquals(2, sketches.estimate(ReviewType.NEGATIVE, MONDAY, MONDAY.plusDays(1)));
+        assertEquals(1, sketches.dayCount());
+    }
+}